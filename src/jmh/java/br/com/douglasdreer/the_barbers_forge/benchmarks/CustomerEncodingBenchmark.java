@@ -0,0 +1,118 @@
+package br.com.douglasdreer.the_barbers_forge.benchmarks;
+
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.DocumentRefDTO;
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h1>Customer Encoding Benchmark</h1>
+ * <p>Compara JSON, Smile e CBOR na codificação e decodificação de uma página de 50 {@link CustomerDTO},
+ * o conteúdo devolvido pela listagem de clientes. O tamanho do payload de cada formato é impresso
+ * na preparação do benchmark.</p>
+ *
+ * <p>Os três mapeadores têm a mesma configuração do ObjectMapper da aplicação; só a codificação muda.</p>
+ *
+ * <p>Execução: {@code ./mvnw -Pbenchmark test-compile exec:exec -Djmh.include=CustomerEncodingBenchmark}</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CustomerEncodingBenchmark {
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"json", "smile", "cbor"})
+    private String encoding;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<CustomerDTO> page;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (encoding) {
+            case "smile" -> new SmileFactory();
+            case "cbor" -> new CBORFactory();
+            default -> new JsonFactory();
+        };
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .modulesToInstall(new BlackbirdModule())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        TypeReference<List<CustomerDTO>> type = new TypeReference<>() {
+        };
+        writer = mapper.writerFor(type);
+        reader = mapper.readerFor(type);
+
+        page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.add(customer(i));
+        }
+        payload = writer.writeValueAsBytes(page);
+        System.out.printf("%n%s payload: %d bytes for %d customers%n", encoding, payload.length, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public List<CustomerDTO> decode() throws IOException {
+        return reader.readValue(payload);
+    }
+
+    private static CustomerDTO customer(int index) {
+        List<DocumentRefDTO> documents = new ArrayList<>();
+        documents.add(new DocumentRefDTO(index * 2L + 1, DocumentType.CPF, String.format("%011d", index)));
+        documents.add(new DocumentRefDTO(index * 2L + 2, DocumentType.RG, String.format("%09d", index)));
+
+        CustomerDTO customer = new CustomerDTO();
+        customer.setId((long) index + 1);
+        customer.setFirstName("João " + index);
+        customer.setLastName("Silva");
+        customer.setAddress("Rua das Flores, " + index);
+        customer.setPhone("(11) 98765-" + String.format("%04d", index));
+        customer.setBirthDate(LocalDate.of(1990, 1, 15).plusDays(index));
+        customer.setVersion(0L);
+        customer.setCreatedAt(LocalDateTime.of(2024, 5, 10, 8, 30).plusMinutes(index));
+        customer.setUpdatedAt(LocalDateTime.of(2024, 6, 1, 17, 45).plusMinutes(index));
+        customer.setDocuments(documents);
+        return customer;
+    }
+}
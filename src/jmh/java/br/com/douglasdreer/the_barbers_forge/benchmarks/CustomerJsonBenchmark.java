@@ -0,0 +1,116 @@
+package br.com.douglasdreer.the_barbers_forge.benchmarks;
+
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.DocumentRefDTO;
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h1>Customer JSON Benchmark</h1>
+ * <p>Compara a serialização e a leitura de {@link CustomerDTO} com a configuração antiga dos mapeadores
+ * (um ObjectMapper próprio com saída indentada), com o ObjectMapper compartilhado e compacto e com o
+ * ObjectMapper compartilhado com Blackbird e ObjectWriter/ObjectReader em cache.</p>
+ *
+ * <p>Execução: {@code ./mvnw -Pbenchmark test-compile exec:exec -Djmh.include=CustomerJsonBenchmark}
+ * (adicione {@code -prof gc} aos argumentos do JMH para medir a alocação por operação).</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CustomerJsonBenchmark {
+    private ObjectMapper indentedMapper;
+    private ObjectMapper compactMapper;
+    private ObjectWriter tunedWriter;
+    private ObjectReader tunedReader;
+    private CustomerDTO customer;
+    private String json;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        indentedMapper = new ObjectMapper();
+        indentedMapper.registerModule(new JavaTimeModule());
+        indentedMapper.enable(SerializationFeature.INDENT_OUTPUT);
+
+        compactMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        ObjectMapper tunedMapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new BlackbirdModule())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        tunedWriter = tunedMapper.writerFor(CustomerDTO.class);
+        tunedReader = tunedMapper.readerFor(CustomerDTO.class);
+
+        List<DocumentRefDTO> documents = new ArrayList<>();
+        for (DocumentType type : DocumentType.values()) {
+            documents.add(new DocumentRefDTO((long) type.ordinal() + 1, type, "1234567890" + type.ordinal()));
+        }
+        customer = new CustomerDTO();
+        customer.setId(1L);
+        customer.setFirstName("João");
+        customer.setLastName("Silva");
+        customer.setAddress("Rua das Flores, 123");
+        customer.setPhone("(11) 98765-4321");
+        customer.setBirthDate(LocalDate.of(1990, 1, 15));
+        customer.setVersion(3L);
+        customer.setCreatedAt(LocalDateTime.of(2024, 5, 10, 8, 30));
+        customer.setUpdatedAt(LocalDateTime.of(2024, 6, 1, 17, 45));
+        customer.setDocuments(documents);
+        json = tunedWriter.writeValueAsString(customer);
+    }
+
+    @Benchmark
+    public String writeIndentedPerMapper() throws JsonProcessingException {
+        return indentedMapper.writeValueAsString(customer);
+    }
+
+    @Benchmark
+    public String writeCompactShared() throws JsonProcessingException {
+        return compactMapper.writeValueAsString(customer);
+    }
+
+    @Benchmark
+    public String writeBlackbirdCachedWriter() throws JsonProcessingException {
+        return tunedWriter.writeValueAsString(customer);
+    }
+
+    @Benchmark
+    public CustomerDTO readCompactShared() throws JsonProcessingException {
+        return compactMapper.readValue(json, CustomerDTO.class);
+    }
+
+    @Benchmark
+    public CustomerDTO readBlackbirdCachedReader() throws JsonProcessingException {
+        return tunedReader.readValue(json);
+    }
+}
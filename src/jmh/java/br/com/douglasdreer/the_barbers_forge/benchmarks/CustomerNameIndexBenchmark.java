@@ -0,0 +1,103 @@
+package br.com.douglasdreer.the_barbers_forge.benchmarks;
+
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerSuggestionDTO;
+import br.com.douglasdreer.the_barbers_forge.repositories.CustomerRepository;
+import br.com.douglasdreer.the_barbers_forge.repositories.CustomerSearchRepository.NameConsumer;
+import br.com.douglasdreer.the_barbers_forge.services.CustomerNameIndex;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h1>Customer Name Index Benchmark</h1>
+ * <p>Mede a latência do {@link CustomerNameIndex} com {@code customers} clientes de nomes sorteados: a consulta do
+ * autocompletar com prefixos de 1 a 4 letras, como chegam a cada tecla digitada, a inclusão de um cliente e a
+ * alteração do nome de um cliente já montado. As alterações incluem no máximo a incorporação periódica aos vetores
+ * montados. O modo {@code SampleTime} informa os percentis, entre eles o p99 da consulta e das alterações.</p>
+ *
+ * <p>Execução: {@code ./mvnw -Pbenchmark test-compile exec:exec -Djmh.include=CustomerNameIndexBenchmark}.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CustomerNameIndexBenchmark {
+    private static final String[] FIRST_NAMES = {"João", "Maria", "José", "Ana", "Antônio", "Francisca", "Carlos",
+            "Paulo", "Pedro", "Lucas", "Luiz", "Marcos", "Luís", "Gabriel", "Rafael", "Juliana", "Márcia", "Fernanda",
+            "Patrícia", "Aline", "Sandra", "Camila", "Amanda", "Bruna", "Letícia", "Júlia", "Mariana", "Vanessa"};
+    private static final String[] LAST_NAMES = {"Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira",
+            "Alves", "Pereira", "Lima", "Gomes", "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes",
+            "Soares", "Fernandes", "Vieira", "Barbosa", "Rocha", "Dias", "Nascimento", "Andrade", "Moreira", "Nunes"};
+    private static final int PREFIXES = 1024;
+
+    @Param({"100000"})
+    private int customers;
+
+    private final String[] prefixes = new String[PREFIXES];
+    private CustomerNameIndex index;
+    private int next;
+    private long nextId;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] firstNames = new String[customers];
+        String[] lastNames = new String[customers];
+        for (int i = 0; i < customers; i++) {
+            firstNames[i] = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            lastNames[i] = LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        }
+        CustomerRepository repository = Mockito.mock(CustomerRepository.class);
+        Mockito.doAnswer(invocation -> {
+            NameConsumer consumer = invocation.getArgument(0);
+            for (int i = 0; i < customers; i++) {
+                consumer.accept(i + 1, firstNames[i], lastNames[i]);
+            }
+            return null;
+        }).when(repository).forEachName(Mockito.any());
+        index = new CustomerNameIndex(repository, Mockito.mock(PlatformTransactionManager.class));
+        index.rebuild();
+
+        for (int i = 0; i < PREFIXES; i++) {
+            String name = random.nextBoolean() ? firstNames[random.nextInt(customers)] : lastNames[random.nextInt(customers)];
+            prefixes[i] = name.substring(0, Math.min(name.length(), 1 + random.nextInt(4)));
+        }
+        nextId = customers + 1L;
+    }
+
+    @Benchmark
+    public List<CustomerSuggestionDTO> autocomplete() {
+        next = (next + 1) & (PREFIXES - 1);
+        return index.autocomplete(prefixes[next], 10);
+    }
+
+    @Benchmark
+    public void put() {
+        index.put(nextId++, "Cliente", "Novo");
+    }
+
+    @Benchmark
+    public void rename() {
+        next = (next + 1) & (PREFIXES - 1);
+        index.put(1L + next * 97L, "Cliente", "Renomeado");
+    }
+}
@@ -0,0 +1,173 @@
+package br.com.douglasdreer.the_barbers_forge.benchmarks;
+
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import br.com.douglasdreer.the_barbers_forge.services.DocumentNumberValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * <h1>Document Number Validator Benchmark</h1>
+ * <p>Mede quantas validações por segundo o {@link DocumentNumberValidator} faz em uma thread, para CPF, CNPJ e CNH
+ * com e sem pontuação, e compara com a validação de CPF no estilo comum, que remove a pontuação com uma expressão
+ * regular e copia os dígitos para um vetor antes de calcular os dígitos verificadores.</p>
+ *
+ * <p>Os números são sorteados uma vez e percorridos em sequência, para que o JIT não trate a entrada como constante.
+ * O resultado é dado em operações por microssegundo, ou seja, milhões de validações por segundo.</p>
+ *
+ * <p>Execução: {@code ./mvnw -Pbenchmark test-compile exec:exec -Djmh.include=DocumentNumberValidatorBenchmark}
+ * (adicione {@code -prof gc} aos argumentos do JMH para confirmar que a validação não aloca memória).</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DocumentNumberValidatorBenchmark {
+    private static final int SIZE = 1024;
+    private static final Pattern NON_DIGITS = Pattern.compile("\\D");
+
+    private final String[] cpfs = new String[SIZE];
+    private final String[] formattedCpfs = new String[SIZE];
+    private final String[] cnpjs = new String[SIZE];
+    private final String[] cnhs = new String[SIZE];
+    private int index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            cpfs[i] = cpf(random);
+            formattedCpfs[i] = cpfs[i].substring(0, 3) + "." + cpfs[i].substring(3, 6) + "."
+                    + cpfs[i].substring(6, 9) + "-" + cpfs[i].substring(9);
+            cnpjs[i] = cnpj(random);
+            cnhs[i] = cnh(random);
+        }
+    }
+
+    @Benchmark
+    public boolean cpf() {
+        return DocumentNumberValidator.isValid(DocumentType.CPF, cpfs[next()]);
+    }
+
+    @Benchmark
+    public boolean formattedCpf() {
+        return DocumentNumberValidator.isValid(DocumentType.CPF, formattedCpfs[next()]);
+    }
+
+    @Benchmark
+    public String normalizeFormattedCpf() {
+        return DocumentNumberValidator.normalize(DocumentType.CPF, formattedCpfs[next()]);
+    }
+
+    @Benchmark
+    public boolean cnpj() {
+        return DocumentNumberValidator.isValid(DocumentType.CNPJ, cnpjs[next()]);
+    }
+
+    @Benchmark
+    public boolean cnh() {
+        return DocumentNumberValidator.isValid(DocumentType.CNH, cnhs[next()]);
+    }
+
+    @Benchmark
+    public boolean regexFormattedCpf() {
+        String digits = NON_DIGITS.matcher(formattedCpfs[next()]).replaceAll("");
+        if (digits.length() != 11 || digits.chars().distinct().count() == 1) {
+            return false;
+        }
+        int[] d = digits.chars().map(c -> c - '0').toArray();
+        int sum1 = 0;
+        int sum2 = 0;
+        for (int i = 0; i < 9; i++) {
+            sum1 += d[i] * (10 - i);
+            sum2 += d[i] * (11 - i);
+        }
+        sum2 += d[9] * 2;
+        return d[9] == checkDigit(sum1) && d[10] == checkDigit(sum2);
+    }
+
+    private int next() {
+        index = (index + 1) & (SIZE - 1);
+        return index;
+    }
+
+    private static String cpf(Random random) {
+        int[] d = new int[11];
+        int sum1 = 0;
+        int sum2 = 0;
+        for (int i = 0; i < 9; i++) {
+            d[i] = random.nextInt(10);
+            sum1 += d[i] * (10 - i);
+            sum2 += d[i] * (11 - i);
+        }
+        d[9] = checkDigit(sum1);
+        d[10] = checkDigit(sum2 + d[9] * 2);
+        return digits(d);
+    }
+
+    private static String cnpj(Random random) {
+        int[] d = new int[14];
+        int sum1 = 0;
+        int sum2 = 0;
+        for (int i = 0; i < 12; i++) {
+            d[i] = random.nextInt(10);
+            sum1 += d[i] * (i < 4 ? 5 - i : 13 - i);
+            sum2 += d[i] * (i < 5 ? 6 - i : 14 - i);
+        }
+        d[12] = checkDigit(sum1);
+        d[13] = checkDigit(sum2 + d[12] * 2);
+        return digits(d);
+    }
+
+    private static String cnh(Random random) {
+        while (true) {
+            int[] d = new int[11];
+            int sum1 = 0;
+            int sum2 = 0;
+            for (int i = 0; i < 9; i++) {
+                d[i] = random.nextInt(10);
+                sum1 += d[i] * (9 - i);
+                sum2 += d[i] * (1 + i);
+            }
+            int discount = 0;
+            d[9] = sum1 % 11;
+            if (d[9] >= 10) {
+                d[9] = 0;
+                discount = 2;
+            }
+            d[10] = sum2 % 11 >= 10 ? 0 : sum2 % 11 - discount;
+            if (d[10] >= 0) {
+                return digits(d);
+            }
+        }
+    }
+
+    private static int checkDigit(int sum) {
+        int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+
+    private static String digits(int[] d) {
+        StringBuilder builder = new StringBuilder(d.length);
+        for (int digit : d) {
+            builder.append(digit);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.douglasdreer.the_barbers_forge.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * <h1>Latency Proxy</h1>
+ * <p>Proxy TCP que atrasa cada bloco enviado do cliente para o servidor, simulando um banco de dados lento
+ * para o {@link ThreadModelLoadTest}. No protocolo do PostgreSQL cada consulta é enviada em um bloco,
+ * então cada ida ao banco recebe o atraso configurado.</p>
+ *
+ * <p>Configuração por variáveis de ambiente: {@code PROXY_LISTEN_PORT} (padrão {@code 15432}),
+ * {@code PROXY_TARGET_HOST} ({@code localhost}), {@code PROXY_TARGET_PORT} ({@code 5432})
+ * e {@code PROXY_DELAY_MS} ({@code 20}).</p>
+ *
+ * <p>Execução: {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.main=br.com.douglasdreer.the_barbers_forge.benchmarks.LatencyProxy}</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+public final class LatencyProxy {
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private LatencyProxy() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int listenPort = Integer.parseInt(env("PROXY_LISTEN_PORT", "15432"));
+        String targetHost = env("PROXY_TARGET_HOST", "localhost");
+        int targetPort = Integer.parseInt(env("PROXY_TARGET_PORT", "5432"));
+        long delayMillis = Long.parseLong(env("PROXY_DELAY_MS", "20"));
+
+        try (ServerSocket server = new ServerSocket();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            server.bind(new InetSocketAddress(listenPort));
+            System.out.printf("Proxy :%d -> %s:%d com atraso de %d ms%n", listenPort, targetHost, targetPort, delayMillis);
+            while (!server.isClosed()) {
+                Socket client = server.accept();
+                Socket target = new Socket(targetHost, targetPort);
+                client.setTcpNoDelay(true);
+                target.setTcpNoDelay(true);
+                executor.execute(() -> pump(client, target, delayMillis));
+                executor.execute(() -> pump(target, client, 0));
+            }
+        }
+    }
+
+    private static void pump(Socket from, Socket to, long delayMillis) {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = from.getInputStream(); OutputStream out = to.getOutputStream()) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (delayMillis > 0) {
+                    Thread.sleep(delayMillis);
+                }
+                out.write(buffer, 0, read);
+                out.flush();
+            }
+        } catch (IOException e) {
+            // One side closed the connection; closing both ends below finishes the other pump.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            close(from);
+            close(to);
+        }
+    }
+
+    private static void close(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // Already closed.
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
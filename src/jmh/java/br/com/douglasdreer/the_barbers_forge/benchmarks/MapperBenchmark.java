@@ -0,0 +1,111 @@
+package br.com.douglasdreer.the_barbers_forge.benchmarks;
+
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.DocumentDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.CustomerMapper;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.DocumentMapper;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.EntityDtoMapper;
+import br.com.douglasdreer.the_barbers_forge.entities.Customer;
+import br.com.douglasdreer.the_barbers_forge.entities.Document;
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h1>Mapper Benchmark</h1>
+ * <p>Compara o mapeamento reflexivo do ModelMapper com o mapeador gerado pelo MapStruct
+ * para as conversões usadas nos serviços.</p>
+ *
+ * <p>Execução: {@code ./mvnw -Pbenchmark test-compile exec:exec -Djmh.include=MapperBenchmark}</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+    private ModelMapper modelMapper;
+    private CustomerMapper customerMapper;
+    private DocumentMapper documentMapper;
+    private Customer customer;
+    private Document document;
+
+    @Setup
+    public void setUp() {
+        EntityDtoMapper entityDtoMapper = Mappers.getMapper(EntityDtoMapper.class);
+        modelMapper = new ModelMapper();
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        customerMapper = new CustomerMapper(entityDtoMapper, objectMapper);
+        documentMapper = new DocumentMapper(entityDtoMapper, objectMapper);
+
+        customer = new Customer();
+        customer.setId(1L);
+        customer.setFirstName("João");
+        customer.setLastName("Silva");
+        customer.setAddress("Rua das Flores, 123");
+        customer.setPhone("(11) 98765-4321");
+        customer.setBirthDate(LocalDate.of(1990, 1, 15));
+        customer.setCreatedAt(LocalDateTime.now());
+        customer.setUpdatedAt(LocalDateTime.now());
+
+        List<Document> documents = new ArrayList<>();
+        for (DocumentType type : DocumentType.values()) {
+            documents.add(Document.builder()
+                    .id((long) type.ordinal() + 1)
+                    .documentType(type)
+                    .number("1234567890" + type.ordinal())
+                    .customers(new ArrayList<>())
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        customer.setDocuments(documents);
+        document = documents.get(0);
+
+        // Aquece o cache de type maps do ModelMapper, como acontece em produção.
+        modelMapper.map(customer, CustomerDTO.class);
+        modelMapper.map(document, DocumentDTO.class);
+    }
+
+    @Benchmark
+    public CustomerDTO customerWithModelMapper() {
+        return modelMapper.map(customer, CustomerDTO.class);
+    }
+
+    @Benchmark
+    public CustomerDTO customerWithGeneratedMapper() {
+        return customerMapper.toDTO(customer);
+    }
+
+    @Benchmark
+    public DocumentDTO documentWithModelMapper() {
+        return modelMapper.map(document, DocumentDTO.class);
+    }
+
+    @Benchmark
+    public DocumentDTO documentWithGeneratedMapper() {
+        return documentMapper.toDTO(document);
+    }
+}
@@ -0,0 +1,127 @@
+package br.com.douglasdreer.the_barbers_forge.benchmarks;
+
+import br.com.douglasdreer.the_barbers_forge.enums.MessageErroType;
+import br.com.douglasdreer.the_barbers_forge.enums.ProblemType;
+import br.com.douglasdreer.the_barbers_forge.exceptions.DocumentNotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h1>Not Found Path Benchmark</h1>
+ * <p>Mede o caminho de um documento não encontrado: a exceção é lançada {@code depth} quadros abaixo de quem
+ * a trata, como acontece entre o serviço e o {@code GlobalHandleConfig}, e o corpo de erro é montado e
+ * serializado. Compara a exceção com pilha de chamadas e o {@code ErrorDTO} com {@code LocalDateTime.now()}
+ * usados antes com a exceção sem pilha e o Problem Details montado a partir de {@link ProblemType}.</p>
+ *
+ * <p>Execução: {@code ./mvnw -Pbenchmark test-compile exec:exec -Djmh.include=NotFoundPathBenchmark}
+ * (adicione {@code -prof gc} aos argumentos do JMH para medir a alocação por operação).</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NotFoundPathBenchmark {
+    private static final URI INSTANCE = URI.create("/api/v1/documents/42");
+
+    /**
+     * Quantidade de quadros entre o lançamento e o tratamento da exceção.
+     */
+    @Param({"16", "96"})
+    private int depth;
+
+    private ObjectWriter writer;
+
+    /**
+     * Corpo de erro usado antes do Problem Details, reproduzido aqui porque a classe foi removida.
+     */
+    public record LegacyError(Long code, String title, String message, LocalDateTime timestamp) {
+    }
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+    }
+
+    @Benchmark
+    public byte[] stackTraceAndErrorDto() throws JsonProcessingException {
+        try {
+            throwLegacy(depth);
+            throw new IllegalStateException();
+        } catch (IllegalArgumentException e) {
+            LegacyError error = new LegacyError(404L, "Resource Not Found", e.getMessage(), LocalDateTime.now());
+            return writer.writeValueAsBytes(error);
+        }
+    }
+
+    @Benchmark
+    public byte[] stacklessAndProblemDetail() throws JsonProcessingException {
+        try {
+            throwStackless(depth);
+            throw new IllegalStateException();
+        } catch (DocumentNotFoundException e) {
+            ProblemDetail problem = ProblemType.RESOURCE_NOT_FOUND.toProblemDetail(e.getMessage());
+            problem.setInstance(INSTANCE);
+            return writer.writeValueAsBytes(problem);
+        }
+    }
+
+    @Benchmark
+    public Object throwWithStackTrace() {
+        try {
+            throwLegacy(depth);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object throwStackless() {
+        try {
+            throwStackless(depth);
+            return null;
+        } catch (DocumentNotFoundException e) {
+            return e;
+        }
+    }
+
+    private static void throwLegacy(int depth) {
+        if (depth == 0) {
+            throw new IllegalArgumentException(MessageErroType.NOT_FOUND.getMessage());
+        }
+        throwLegacy(depth - 1);
+    }
+
+    private static void throwStackless(int depth) {
+        if (depth == 0) {
+            throw new DocumentNotFoundException();
+        }
+        throwStackless(depth - 1);
+    }
+}
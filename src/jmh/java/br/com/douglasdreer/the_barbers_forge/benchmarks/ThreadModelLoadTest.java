@@ -0,0 +1,182 @@
+package br.com.douglasdreer.the_barbers_forge.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * <h1>Thread Model Load Test</h1>
+ * <p>Teste de carga que compara o modelo de threads da aplicação (padrão ou perfil {@code virtual-threads})
+ * com o banco de dados lento. Dois grupos de clientes rodam ao mesmo tempo, em laço fechado:</p>
+ * <ul>
+ *     <li>{@code database}: {@code GET /documents?page=..&pageSize=20}, que sempre consulta o banco;</li>
+ *     <li>{@code cached}: {@code GET /documents/{id}}, atendido pelo cache sem usar conexão.</li>
+ * </ul>
+ * <p>Ao final, imprime por grupo a vazão, a taxa de erros e as latências p50, p99 e máxima.</p>
+ *
+ * <p>Configuração por variáveis de ambiente: {@code LOADTEST_BASE_URL} (padrão {@code http://localhost:8080/api/v1}),
+ * {@code LOADTEST_DB_CLIENTS} ({@code 300}), {@code LOADTEST_CACHED_CLIENTS} ({@code 50}),
+ * {@code LOADTEST_WARMUP_SECONDS} ({@code 15}) e {@code LOADTEST_DURATION_SECONDS} ({@code 30}).</p>
+ *
+ * <p>Execução, com a aplicação já iniciada apontando para o {@link LatencyProxy}:
+ * {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.main=br.com.douglasdreer.the_barbers_forge.benchmarks.ThreadModelLoadTest}</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+public final class ThreadModelLoadTest {
+    private static final int SEED_DOCUMENTS = 2_000;
+    private static final int PAGE_SIZE = 20;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    private ThreadModelLoadTest(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public static void main(String[] args) throws Exception {
+        ThreadModelLoadTest loadTest = new ThreadModelLoadTest(env("LOADTEST_BASE_URL", "http://localhost:8080/api/v1"));
+        int databaseClients = Integer.parseInt(env("LOADTEST_DB_CLIENTS", "300"));
+        int cachedClients = Integer.parseInt(env("LOADTEST_CACHED_CLIENTS", "50"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(env("LOADTEST_WARMUP_SECONDS", "15")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(env("LOADTEST_DURATION_SECONDS", "30")));
+
+        loadTest.seed();
+        List<Long> ids = loadTest.documentIds();
+        int pages = SEED_DOCUMENTS / PAGE_SIZE;
+        Supplier<HttpRequest> database = () -> loadTest.get("/documents?page=" + ThreadLocalRandom.current().nextInt(pages) + "&pageSize=" + PAGE_SIZE);
+        Supplier<HttpRequest> cached = () -> loadTest.get("/documents/" + ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+
+        loadTest.run(warmup, databaseClients, database, cachedClients, cached);
+        Recorder[] results = loadTest.run(duration, databaseClients, database, cachedClients, cached);
+
+        System.out.printf("clientes: database=%d cached=%d, duração=%ds%n", databaseClients, cachedClients, duration.toSeconds());
+        results[0].print("database", duration);
+        results[1].print("cached", duration);
+    }
+
+    private void seed() throws IOException, InterruptedException {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < SEED_DOCUMENTS; i++) {
+            body.append("{\"documentType\":\"CPF\",\"number\":\"").append(90_000_000_000L + i).append("\"}\n");
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/documents/batch"))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Falha ao carregar documentos: " + response.statusCode() + " " + response.body());
+        }
+    }
+
+    private List<Long> documentIds() throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(get("/documents?page=0&pageSize=100"), HttpResponse.BodyHandlers.ofString());
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode document : objectMapper.readTree(response.body()).path("content")) {
+            ids.add(document.path("id").asLong());
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("Nenhum documento encontrado em " + baseUrl);
+        }
+        return ids;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+
+    private Recorder[] run(Duration duration, int databaseClients, Supplier<HttpRequest> database,
+                           int cachedClients, Supplier<HttpRequest> cached) throws InterruptedException {
+        Recorder[] recorders = {new Recorder(), new Recorder()};
+        AtomicBoolean running = new AtomicBoolean(true);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < databaseClients; i++) {
+                executor.execute(() -> loop(running, database, recorders[0]));
+            }
+            for (int i = 0; i < cachedClients; i++) {
+                executor.execute(() -> loop(running, cached, recorders[1]));
+            }
+            Thread.sleep(duration);
+            running.set(false);
+        }
+        return recorders;
+    }
+
+    private void loop(AtomicBoolean running, Supplier<HttpRequest> requests, Recorder recorder) {
+        while (running.get()) {
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                success = client.send(requests.get(), HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (running.get()) {
+                recorder.record(System.nanoTime() - start, success);
+            }
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    /**
+     * Latências e erros de um grupo de clientes.
+     */
+    private static final class Recorder {
+        private long[] latencies = new long[1 << 16];
+        private int count;
+        private int errors;
+
+        synchronized void record(long latencyNanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized void print(String name, Duration duration) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            System.out.printf("%-8s requisições=%d vazão=%.1f req/s erros=%.2f%% p50=%.1f ms p99=%.1f ms max=%.1f ms%n",
+                    name, count, count / (double) duration.toSeconds(), count == 0 ? 0 : errors * 100.0 / count,
+                    millis(sorted, 0.50), millis(sorted, 0.99), count == 0 ? 0 : sorted[count - 1] / 1e6);
+        }
+
+        private static double millis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1e6;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package br.com.douglasdreer.the_barbers_forge;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
 
@@ -17,6 +19,8 @@ import io.swagger.v3.oas.annotations.info.Info;
  * @since 2023
  */
 @SpringBootApplication
+@EnableAsync
+@EnableScheduling
 @OpenAPIDefinition(
 	info = @Info(
 		title = "The Barber's Forge API",
@@ -0,0 +1,86 @@
+package br.com.douglasdreer.the_barbers_forge.configs;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * <h1>CacheConfig</h1>
+ * <p>Configures the in-memory caches used by the document lookups. Each cache is bounded in size and
+ * evicts entries after a time to live. Not-found results are stored as {@link NullValue} and expire sooner
+ * than found ones, so a document created elsewhere becomes visible quickly.</p>
+ *
+ * <p>Statistics are recorded so Actuator publishes the {@code cache.gets}, {@code cache.puts} and
+ * {@code cache.evictions} metrics for each cache.</p>
+ *
+ * <p>The caching advice runs outside the transactional advice, so evictions happen after the commit.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    /**
+     * Cache of documents by identifier.
+     */
+    public static final String DOCUMENTS_BY_ID = "documentsById";
+
+    /**
+     * Cache of documents by type and number.
+     */
+    public static final String DOCUMENTS_BY_TYPE_AND_NUMBER = "documentsByTypeAndNumber";
+
+    /**
+     * Creates the cache manager for the document caches.
+     *
+     * @param maximumSize the maximum number of entries per cache
+     * @param ttl the time to live of a found result
+     * @param negativeTtl the time to live of a not-found result
+     * @return the configured cache manager
+     */
+    @Bean
+    public CacheManager cacheManager(@Value("${app.cache.documents.maximum-size:10000}") long maximumSize,
+                                     @Value("${app.cache.documents.ttl:10m}") Duration ttl,
+                                     @Value("${app.cache.documents.negative-ttl:30s}") Duration negativeTtl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new NegativeAwareExpiry(ttl, negativeTtl))
+                .recordStats());
+        cacheManager.setCacheNames(List.of(DOCUMENTS_BY_ID, DOCUMENTS_BY_TYPE_AND_NUMBER));
+        return cacheManager;
+    }
+
+    /**
+     * Expiry that applies the shorter time to live to not-found results.
+     */
+    private record NegativeAwareExpiry(Duration ttl, Duration negativeTtl) implements Expiry<Object, Object> {
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            return (value == NullValue.INSTANCE ? negativeTtl : ttl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,31 +1,40 @@
 package br.com.douglasdreer.the_barbers_forge.configs;
 
 
-import br.com.douglasdreer.the_barbers_forge.dtos.ErrorDTO;
+import br.com.douglasdreer.the_barbers_forge.enums.ProblemType;
+import br.com.douglasdreer.the_barbers_forge.exceptions.BusinessException;
+import br.com.douglasdreer.the_barbers_forge.exceptions.DocumentNotFoundException;
+import br.com.douglasdreer.the_barbers_forge.exceptions.PreconditionFailedException;
 import br.com.douglasdreer.the_barbers_forge.exceptions.ResourceNotFoundException;
 import br.com.douglasdreer.the_barbers_forge.exceptions.UniqueConstraintViolationException;
+import br.com.douglasdreer.the_barbers_forge.exceptions.ValidateDocumentServiceException;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.http.HttpStatus;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.time.LocalDateTime;
-
 /**
  * <h1>GlobalHandleConfig</h1>
  * <p>Global exception handler that manages various exceptions in the application and
  * returns standardized error responses to the client.</p>
  * <p>This class intercepts specific exceptions such as data integrity violations and
  * general errors to return friendly and secure error messages.</p>
+ * <p>Errors are answered as RFC 7807 problem details. The status, type and title of each kind of error
+ * come from {@link ProblemType}, so a response only adds the detail of the occurrence.</p>
  *
  * @author Douglas Dreer
  * @since 0.0.1
  */
+@Slf4j
 @RestControllerAdvice
 public class GlobalHandleConfig {
-    private static final String MSG_INTERNAL_SERVER_ERROR = "Internal Server Error";
+    private static final String MSG_UNEXPECTED_ERROR = "An unexpected error occurred.";
+    private static final HttpHeaders RETRY_AFTER = retryAfter("1");
 
     /**
      * Handles exceptions related to data integrity violations, such as unique constraint violations.
@@ -33,28 +42,15 @@ public class GlobalHandleConfig {
      * with a detailed message for the user, without exposing sensitive database information.</p>
      *
      * @param ex the exception thrown during the violation of a unique constraint
-     * @return a ResponseEntity with an ErrorDTO and a 400 status code
+     * @return a ResponseEntity with a problem detail and a 400 status code
      */
     @ExceptionHandler(DataIntegrityViolationException.class)
-    public ResponseEntity<ErrorDTO> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+    public ResponseEntity<ProblemDetail> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
         if (ex.getCause() != null && ex.getCause().getMessage().contains("unique constraint")) {
-            ErrorDTO errorDTO = new ErrorDTO(
-                    400L,
-                    "Duplicate Entry",
-                    "This cpf is already registered.",
-                    LocalDateTime.now()
-            );
-            return new ResponseEntity<>(errorDTO, HttpStatus.BAD_REQUEST);
+            return problem(ProblemType.DUPLICATE_ENTRY, "This cpf is already registered.");
         }
-
-
-        ErrorDTO errorDTO = new ErrorDTO(
-                500L,
-                MSG_INTERNAL_SERVER_ERROR,
-                "An unexpected error occurred.",
-                LocalDateTime.now()
-        );
-        return new ResponseEntity<>(errorDTO, HttpStatus.INTERNAL_SERVER_ERROR);
+        log.error("Unexpected data integrity violation", ex);
+        return problem(ProblemType.INTERNAL_SERVER_ERROR, MSG_UNEXPECTED_ERROR);
     }
 
     /**
@@ -62,28 +58,28 @@ public class GlobalHandleConfig {
      * <p>It provides a 400 (Bad Request) status and a relevant error message to the user.</p>
      *
      * @param ex the custom exception thrown when a unique constraint is violated
-     * @return a ResponseEntity with an ErrorDTO and a 400 status code
+     * @return a ResponseEntity with a problem detail and a 400 status code
      */
     @ExceptionHandler(UniqueConstraintViolationException.class)
-    public ResponseEntity<ErrorDTO> handleUniqueConstraintViolationException(UniqueConstraintViolationException ex) {
-        ErrorDTO errorDTO = new ErrorDTO(
-                400L, // Bad Request
-                "Duplicate Entry", // Brief error title
-                ex.getMessage(), // Friendly error message from the custom exception
-                LocalDateTime.now() // Timestamp of when the error occurred
-        );
-        return new ResponseEntity<>(errorDTO, HttpStatus.BAD_REQUEST);
+    public ResponseEntity<ProblemDetail> handleUniqueConstraintViolationException(UniqueConstraintViolationException ex) {
+        return problem(ProblemType.DUPLICATE_ENTRY, ex.getMessage());
+    }
+
+    /**
+     * Handles document numbers that do not match the format or check digits of their type.
+     * <p>It returns a 400 (Bad Request) error, since the same number will never be accepted.</p>
+     *
+     * @param ex the exception thrown when a document number is not valid
+     * @return a ResponseEntity with a problem detail and a 400 status code
+     */
+    @ExceptionHandler(ValidateDocumentServiceException.class)
+    public ResponseEntity<ProblemDetail> handleValidateDocumentServiceException(ValidateDocumentServiceException ex) {
+        return problem(ProblemType.INVALID_PARAMETER, ex.getMessage());
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<ErrorDTO> handleIllegalArgumentException(IllegalArgumentException ex) {
-        ErrorDTO errorDTO = new ErrorDTO(
-                400L, // Bad Request
-                "Invalid Parameter", // Brief error title
-                ex.getMessage(), // Friendly error message from the custom exception
-                LocalDateTime.now() // Timestamp of when the error occurred
-        );
-        return new ResponseEntity<>(errorDTO, HttpStatus.BAD_REQUEST);
+    public ResponseEntity<ProblemDetail> handleIllegalArgumentException(IllegalArgumentException ex) {
+        return problem(ProblemType.INVALID_PARAMETER, ex.getMessage());
     }
 
     /**
@@ -91,18 +87,50 @@ public class GlobalHandleConfig {
      * <p>If a resource is not found, a 404 (Not Found) error is returned with a relevant message.</p>
      *
      * @param ex the exception that indicates no records were found
-     * @return a ResponseEntity with an ErrorDTO and a 404 status code
+     * @return a ResponseEntity with a problem detail and a 404 status code
      */
-    @ExceptionHandler(ResourceNotFoundException.class)
-    @ResponseStatus(HttpStatus.NOT_FOUND)
-    public ResponseEntity<ErrorDTO> handleResourceNotFoundException(ResourceNotFoundException ex) {
-        ErrorDTO errorDTO = new ErrorDTO(
-                404L, // Not Found
-                "Resource Not Found", // Brief error title
-                ex.getMessage(), // Friendly error message from the custom exception
-                LocalDateTime.now() // Timestamp of when the error occurred
-        );
-        return new ResponseEntity<>(errorDTO, HttpStatus.NOT_FOUND);
+    @ExceptionHandler({ResourceNotFoundException.class, DocumentNotFoundException.class})
+    public ResponseEntity<ProblemDetail> handleResourceNotFoundException(BusinessException ex) {
+        return problem(ProblemType.RESOURCE_NOT_FOUND, ex.getMessage());
+    }
+
+    /**
+     * Handles updates rejected by optimistic locking because the resource changed since it was read.
+     * <p>It returns a 409 (Conflict) error, so the client reloads the resource before trying again.</p>
+     *
+     * @param ex the exception thrown when the expected version no longer matches
+     * @return a ResponseEntity with a problem detail and a 409 status code
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ProblemDetail> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        return problem(ProblemType.CONFLICT, "The resource was changed by another request. Reload it and try again.");
+    }
+
+    /**
+     * Handles conditional writes whose {@code If-Match} version is not the current version of the resource.
+     * <p>It returns a 412 (Precondition Failed) error; nothing was written.</p>
+     *
+     * @param ex the exception thrown when the expected version does not match
+     * @return a ResponseEntity with a problem detail and a 412 status code
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ProblemDetail> handlePreconditionFailedException(PreconditionFailedException ex) {
+        return problem(ProblemType.PRECONDITION_FAILED, ex.getMessage());
+    }
+
+    /**
+     * Handles requests that could not get a database connection within the pool timeout.
+     * <p>It returns a 503 (Service Unavailable) error with a {@code Retry-After} header, so clients back off
+     * instead of queueing more work on an exhausted connection pool.</p>
+     *
+     * @param ex the exception thrown when no connection could be obtained
+     * @return a ResponseEntity with a problem detail and a 503 status code
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ProblemDetail> handleCannotCreateTransactionException(CannotCreateTransactionException ex) {
+        return ResponseEntity.status(ProblemType.SERVICE_UNAVAILABLE.getStatus())
+                .headers(RETRY_AFTER)
+                .body(ProblemType.SERVICE_UNAVAILABLE.toProblemDetail("The service is busy, please try again shortly."));
     }
 
     /**
@@ -110,14 +138,8 @@ public class GlobalHandleConfig {
      * <p>It returns a error 404</p>
      */
     @ExceptionHandler(UnsupportedOperationException.class)
-    public ResponseEntity<ErrorDTO> handleUnsupportedOperationException(UnsupportedOperationException ex) {
-        ErrorDTO errorDTO = new ErrorDTO(
-                500L,
-                MSG_INTERNAL_SERVER_ERROR,
-                "Function not implement still.",
-                LocalDateTime.now()
-        );
-        return new ResponseEntity<>(errorDTO, HttpStatus.INTERNAL_SERVER_ERROR);
+    public ResponseEntity<ProblemDetail> handleUnsupportedOperationException(UnsupportedOperationException ex) {
+        return problem(ProblemType.INTERNAL_SERVER_ERROR, "Function not implement still.");
     }
 
     /**
@@ -125,16 +147,21 @@ public class GlobalHandleConfig {
      * <p>It returns a generic internal server error with a 500 (Internal Server Error) status code.</p>
      *
      * @param ex the exception that occurred
-     * @return a ResponseEntity with an ErrorDTO and a 500 status code
+     * @return a ResponseEntity with a problem detail and a 500 status code
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ErrorDTO> handleGeneralException() {
-        ErrorDTO errorDTO = new ErrorDTO(
-                500L,
-                MSG_INTERNAL_SERVER_ERROR,
-                "An unexpected error occurred.",
-                LocalDateTime.now()
-        );
-        return new ResponseEntity<>(errorDTO, HttpStatus.INTERNAL_SERVER_ERROR);
+    public ResponseEntity<ProblemDetail> handleGeneralException(Exception ex) {
+        log.error("Unexpected error", ex);
+        return problem(ProblemType.INTERNAL_SERVER_ERROR, MSG_UNEXPECTED_ERROR);
+    }
+
+    private static ResponseEntity<ProblemDetail> problem(ProblemType type, String detail) {
+        return ResponseEntity.status(type.getStatus()).body(type.toProblemDetail(detail));
+    }
+
+    private static HttpHeaders retryAfter(String seconds) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, seconds);
+        return HttpHeaders.readOnlyHttpHeaders(headers);
     }
 }
@@ -0,0 +1,46 @@
+package br.com.douglasdreer.the_barbers_forge.configs;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * <h1>JacksonConfig</h1>
+ * <p>Tunes the single {@link com.fasterxml.jackson.databind.ObjectMapper} built by Spring Boot. The same instance
+ * serves Spring MVC, the NDJSON exports and the mappers, so every serializer is built and cached once.</p>
+ *
+ * <p>The output is compact, dates are written as ISO-8601 text, and the {@link BlackbirdModule} replaces
+ * reflective getter and setter calls with generated lambdas.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Registers the Blackbird module; Spring Boot adds every {@link com.fasterxml.jackson.databind.Module}
+     * bean to the shared mapper.
+     *
+     * @return the Blackbird module
+     */
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Keeps the shared mapper output compact, whatever the defaults of the Jackson version in use.
+     *
+     * @return the customizer applied to the mapper builder
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer compactOutputCustomizer() {
+        return builder -> builder.featuresToDisable(
+                SerializationFeature.INDENT_OUTPUT,
+                SerializationFeature.WRITE_DATES_AS_TIMESTAMPS
+        );
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.douglasdreer.the_barbers_forge.configs;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * <h1>MessageConverterConfig</h1>
+ * <p>Adds the binary Jackson encodings to Spring MVC: Smile ({@code application/x-jackson-smile}) and
+ * CBOR ({@code application/cbor}). A client asks for them with the {@code Accept} header and may also send
+ * request bodies in them with {@code Content-Type}; JSON stays first, so it is still the default.</p>
+ *
+ * <p>Both mappers come from the Spring Boot {@link Jackson2ObjectMapperBuilder}, so they carry the same
+ * modules and features as the JSON mapper configured in {@link JacksonConfig}; only the encoding differs.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@Configuration
+public class MessageConverterConfig implements WebMvcConfigurer {
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> builders;
+
+    /**
+     * Constructor for initializing the configuration with the Spring Boot mapper builder.
+     *
+     * @param builders provider of the prototype-scoped builder configured by Spring Boot
+     */
+    public MessageConverterConfig(ObjectProvider<Jackson2ObjectMapperBuilder> builders) {
+        this.builders = builders;
+    }
+
+    /**
+     * Appends the Smile and CBOR converters after the default converters.
+     *
+     * @param converters the converters already configured by Spring Boot
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                builders.getObject().factory(new SmileFactory()).build()));
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                builders.getObject().factory(new CBORFactory()).build()));
+    }
+}
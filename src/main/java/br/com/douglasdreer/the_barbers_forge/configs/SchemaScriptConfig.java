@@ -0,0 +1,61 @@
+package br.com.douglasdreer.the_barbers_forge.configs;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * <h1>SchemaScriptConfig</h1>
+ * <p>Runs the PostgreSQL scripts that need the tables built by Hibernate. Flyway migrates before Hibernate applies
+ * {@code ddl-auto}, so on a new database a migration cannot index a table that does not exist yet; these scripts
+ * run once the {@link EntityManagerFactory} is built, on every startup, so each of their statements is
+ * idempotent and the ones on a table are guarded with {@code to_regclass}.</p>
+ *
+ * <p>Each script is sent as a single statement, because its {@code DO} blocks contain {@code ;}. Other databases,
+ * such as the H2 used by the tests, skip the scripts.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@Configuration
+public class SchemaScriptConfig {
+
+    /**
+     * Script of the extensions, function and GIN trigram index used by the customer name search.
+     */
+    static final String CUSTOMER_NAME_SEARCH = "db/schema/customer_name_search.sql";
+
+    /**
+     * Runs the schema scripts once Hibernate has built the schema.
+     *
+     * @param dataSource the data source the scripts run against
+     * @param entityManagerFactory the entity manager factory, built with the schema before this bean
+     * @return the initializer that runs the scripts
+     */
+    @Bean
+    public InitializingBean schemaScripts(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        return () -> {
+            if (!isPostgres(entityManagerFactory)) {
+                return;
+            }
+            ResourceDatabasePopulator populator =
+                    new ResourceDatabasePopulator(new ClassPathResource(CUSTOMER_NAME_SEARCH));
+            populator.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+            populator.execute(dataSource);
+        };
+    }
+
+    private static boolean isPostgres(EntityManagerFactory entityManagerFactory) {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+    }
+}
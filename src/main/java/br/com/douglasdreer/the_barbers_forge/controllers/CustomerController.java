@@ -1,20 +1,41 @@
 package br.com.douglasdreer.the_barbers_forge.controllers;
 
+import br.com.douglasdreer.the_barbers_forge.dtos.CursorPageDTO;
 import br.com.douglasdreer.the_barbers_forge.dtos.CustomerDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerSuggestionDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.PageDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.ETagMapper;
 import br.com.douglasdreer.the_barbers_forge.dtos.request.CreateCustomerRequest;
+import br.com.douglasdreer.the_barbers_forge.dtos.request.CustomerMergePatch;
+import br.com.douglasdreer.the_barbers_forge.exceptions.PreconditionFailedException;
 import br.com.douglasdreer.the_barbers_forge.services.CustomerService;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.data.domain.Page;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.OptionalLong;
 
 /**
  * <h1>Customer Controller</h1>
@@ -30,14 +51,19 @@ import java.net.URI;
 @Tag(name = "Clientes", description = "API para gerenciamento de clientes")
 public class CustomerController {
     private final CustomerService service;
+    private final ObjectWriter exportWriter;
+    private final JsonFactory jsonFactory;
 
     /**
-     * Construtor que recebe o serviço de cliente por injeção de dependência.
+     * Construtor que recebe o serviço de cliente e o conversor JSON por injeção de dependência.
      * 
      * @param service serviço que contém a lógica de negócio para operações com clientes
+     * @param objectMapper conversor JSON usado para escrever a exportação em NDJSON
      */
-    public CustomerController(CustomerService service) {
+    public CustomerController(CustomerService service, ObjectMapper objectMapper) {
         this.service = service;
+        this.exportWriter = objectMapper.writerFor(CustomerDTO.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.jsonFactory = objectMapper.getFactory();
     }
 
     /**
@@ -50,28 +76,149 @@ public class CustomerController {
     @GetMapping(params = {"page", "pageSize"})
     @Operation(
         summary = "Listar clientes paginados",
-        description = "Retorna uma lista paginada de clientes",
+        description = "Retorna uma lista paginada de clientes. O envelope mantém os campos do Page do Spring "
+            + "(number, size, numberOfElements, totalElements, totalPages, first, last e empty), "
+            + "mas não traz mais os objetos pageable e sort",
         responses = {
             @ApiResponse(
                 responseCode = "200", 
                 description = "Clientes encontrados com sucesso",
-                content = @Content(mediaType = "application/json", schema = @Schema(implementation = Page.class))
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = PageDTO.class))
             ),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
         }
     )
-    public ResponseEntity<Page<CustomerDTO>> findAllCustomersWithPagination(
+    public ResponseEntity<PageDTO<CustomerDTO>> findAllCustomersWithPagination(
             @Parameter(description = "Número da página (iniciando em 0)") @RequestParam(value = "page", defaultValue = "0") int page,
             @Parameter(description = "Quantidade de registros por página") @RequestParam(value = "pageSize", defaultValue = "50") int pageSize
     ) {
-        return ResponseEntity.ok(service.findAllCustomersWithPagination(page, pageSize));
+        return ResponseEntity.ok(PageDTO.of(service.findAllCustomersWithPagination(page, pageSize)));
+    }
+
+    /**
+     * Busca clientes pelo nome, do mais parecido para o menos parecido.
+     * 
+     * @param query nome, ou parte dele; maiúsculas e acentos são ignorados
+     * @param limit quantidade máxima de clientes retornados
+     * @return ResponseEntity contendo os DTOs dos clientes encontrados
+     */
+    @GetMapping("/search")
+    @Operation(
+        summary = "Buscar clientes pelo nome",
+        description = "Retorna os clientes cujo nome completo mais se parece com a busca, sem diferenciar maiúsculas nem acentos",
+        responses = {
+            @ApiResponse(
+                responseCode = "200", 
+                description = "Busca realizada com sucesso",
+                content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = CustomerDTO.class)))
+            ),
+            @ApiResponse(responseCode = "400", description = "Busca vazia ou limite fora do permitido"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        }
+    )
+    public ResponseEntity<List<CustomerDTO>> searchCustomers(
+            @Parameter(description = "Nome, ou parte dele, a ser buscado") @RequestParam("q") String query,
+            @Parameter(description = "Quantidade máxima de clientes retornados (até 100)") @RequestParam(value = "limit", defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(service.searchCustomers(query, limit));
+    }
+
+    /**
+     * Sugere clientes pelo início do nome, para o autocompletar da recepção, sem consultar o banco.
+     * 
+     * @param prefix início de qualquer palavra do nome; maiúsculas e acentos são ignorados
+     * @param limit quantidade máxima de clientes sugeridos
+     * @return ResponseEntity contendo os clientes sugeridos
+     */
+    @GetMapping("/autocomplete")
+    @Operation(
+        summary = "Autocompletar clientes pelo nome",
+        description = "Retorna os clientes com alguma palavra do nome que comece com o prefixo, a partir de um índice em memória",
+        responses = {
+            @ApiResponse(
+                responseCode = "200", 
+                description = "Sugestões encontradas com sucesso",
+                content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = CustomerSuggestionDTO.class)))
+            ),
+            @ApiResponse(responseCode = "400", description = "Prefixo vazio ou limite fora do permitido"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        }
+    )
+    public ResponseEntity<List<CustomerSuggestionDTO>> autocompleteCustomers(
+            @Parameter(description = "Início do nome digitado") @RequestParam("q") String prefix,
+            @Parameter(description = "Quantidade máxima de clientes sugeridos (até 100)") @RequestParam(value = "limit", defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(service.autocompleteCustomers(prefix, limit));
+    }
+
+    /**
+     * Busca os clientes com paginação por cursor (keyset), sem consulta de contagem.
+     * 
+     * @param cursor token de continuação retornado pela fatia anterior (vazio para a primeira fatia)
+     * @param pageSize quantidade de itens por fatia
+     * @return ResponseEntity contendo uma fatia de DTOs de cliente e o próximo cursor
+     */
+    @GetMapping("/scroll")
+    @Operation(
+        summary = "Listar clientes por cursor",
+        description = "Retorna uma fatia de clientes ordenada por ID e o token para a próxima fatia, com latência constante em qualquer profundidade",
+        responses = {
+            @ApiResponse(
+                responseCode = "200", 
+                description = "Clientes encontrados com sucesso",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageDTO.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        }
+    )
+    public ResponseEntity<CursorPageDTO<CustomerDTO>> findAllCustomersWithCursor(
+            @Parameter(description = "Token de continuação da fatia anterior") @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Quantidade de registros por fatia") @RequestParam(value = "pageSize", defaultValue = "50") int pageSize
+    ) {
+        return ResponseEntity.ok(CursorPageDTO.of(service.findAllCustomersWithCursor(cursor, pageSize), CustomerDTO::getId));
+    }
+
+    /**
+     * Exporta todos os clientes em NDJSON, um por linha, ordenados por ID.
+     * Cada registro é escrito na resposta assim que é lido do banco, então o uso de memória
+     * não depende da quantidade exportada.
+     * 
+     * @param response resposta HTTP onde os registros são escritos
+     * @throws IOException se não for possível escrever na resposta
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Exportar clientes",
+        description = "Exporta todos os clientes com seus documentos em NDJSON (um cliente por linha), lidos do banco por cursor",
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Exportação concluída",
+                content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = CustomerDTO.class))
+            ),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        }
+    )
+    public void exportCustomers(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        try (JsonGenerator generator = jsonFactory.createGenerator(response.getOutputStream())) {
+            generator.setRootValueSeparator(null);
+            service.exportCustomers(item -> writeLine(generator, item));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 
     /**
      * Busca um cliente pelo seu ID.
+     * <p>A resposta traz a ETag do cliente. Quando o cabeçalho {@code If-None-Match} é enviado, somente a versão
+     * do cliente é consultada e, se a ETag ainda for a mesma, a resposta é 304 sem corpo.</p>
      * 
      * @param id identificador único do cliente
-     * @return ResponseEntity contendo o DTO do cliente encontrado
+     * @param request requisição atual, usada para avaliar as pré-condições
+     * @return ResponseEntity contendo o DTO do cliente encontrado, ou nulo quando a resposta já é 304
      */
     @GetMapping("/{id}")
     @Operation(
@@ -83,14 +230,21 @@ public class CustomerController {
                 description = "Cliente encontrado com sucesso",
                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = CustomerDTO.class))
             ),
+            @ApiResponse(responseCode = "304", description = "Cliente não alterado desde a ETag informada"),
             @ApiResponse(responseCode = "404", description = "Cliente não encontrado"),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
         }
     )
     public ResponseEntity<CustomerDTO> findCustomerById(
-            @Parameter(description = "ID do cliente") @PathVariable("id") long id
+            @Parameter(description = "ID do cliente") @PathVariable("id") long id,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(service.findCustomerById(id));
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(service.findCustomerETag(id))) {
+            return null;
+        }
+        CustomerDTO customer = service.findCustomerById(id);
+        return ResponseEntity.ok().eTag(ETagMapper.of(customer)).body(customer);
     }
 
     /**
@@ -129,6 +283,7 @@ public class CustomerController {
      * 
      * @param id identificador único do cliente
      * @param customer dados atualizados do cliente
+     * @param ifMatch ETag do cliente lida anteriormente; a alteração só é feita se o cliente ainda estiver nela
      * @return ResponseEntity contendo o DTO do cliente atualizado
      */
     @PutMapping("/{id}")
@@ -143,20 +298,162 @@ public class CustomerController {
             ),
             @ApiResponse(responseCode = "400", description = "Dados inválidos"),
             @ApiResponse(responseCode = "404", description = "Cliente não encontrado"),
+            @ApiResponse(responseCode = "412", description = "ETag de If-Match diferente da atual"),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
         }
     )
     public ResponseEntity<CustomerDTO> updateCustomer(
             @Parameter(description = "ID do cliente") @PathVariable("id") long id, 
-            @Parameter(description = "Dados atualizados do cliente") @RequestBody CreateCustomerRequest customer
+            @Parameter(description = "Dados atualizados do cliente") @RequestBody CreateCustomerRequest customer,
+            @Parameter(description = "ETag do cliente lida anteriormente") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        CustomerDTO updated = service.updateCustomer(id, customer, expectedVersion(id, ifMatch));
+        return ResponseEntity.ok().eTag(ETagMapper.of(updated)).body(updated);
+    }
+
+    /**
+     * Vincula um documento a um cliente.
+     * 
+     * @param id identificador único do cliente
+     * @param documentId identificador único do documento
+     * @return ResponseEntity com mensagem de sucesso
+     */
+    @PutMapping("/{id}/documents/{documentId}")
+    @Operation(
+        summary = "Vincular documento ao cliente",
+        description = "Vincula um documento existente ao cliente. Vincular um documento já vinculado não tem efeito",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Documento vinculado com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Cliente ou documento não encontrado"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        }
+    )
+    public ResponseEntity<String> linkDocument(
+            @Parameter(description = "ID do cliente") @PathVariable("id") long id,
+            @Parameter(description = "ID do documento") @PathVariable("documentId") long documentId
+    ) {
+        service.linkDocument(id, documentId);
+        return ResponseEntity.ok("Documento vinculado com sucesso");
+    }
+
+    /**
+     * Vincula vários documentos a um cliente em lote.
+     * 
+     * @param id identificador único do cliente
+     * @param documentIds identificadores dos documentos a serem vinculados
+     * @return ResponseEntity com mensagem de sucesso e a quantidade de vínculos criados
+     */
+    @PutMapping("/{id}/documents")
+    @Operation(
+        summary = "Vincular documentos ao cliente em lote",
+        description = "Vincula os documentos informados ao cliente com comandos em lote, sem carregar a lista de documentos. " +
+                "Documentos já vinculados são ignorados",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Documentos vinculados com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Cliente ou documento não encontrado"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        }
+    )
+    public ResponseEntity<String> linkDocuments(
+            @Parameter(description = "ID do cliente") @PathVariable("id") long id,
+            @Parameter(description = "IDs dos documentos") @RequestBody List<Long> documentIds
     ) {
-        return ResponseEntity.ok(service.updateCustomer(id, customer));
+        int linked = service.linkDocuments(id, documentIds);
+        return ResponseEntity.ok("Documentos vinculados com sucesso: " + linked);
+    }
+
+    /**
+     * Remove os vínculos entre um cliente e vários documentos em lote.
+     * 
+     * @param id identificador único do cliente
+     * @param documentIds identificadores dos documentos a serem desvinculados
+     * @return ResponseEntity com mensagem de sucesso e a quantidade de vínculos removidos
+     */
+    @DeleteMapping("/{id}/documents")
+    @Operation(
+        summary = "Desvincular documentos do cliente em lote",
+        description = "Remove os vínculos entre o cliente e os documentos informados com comandos em lote, " +
+                "mantendo todos cadastrados. Documentos não vinculados são ignorados",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Documentos desvinculados com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Cliente não encontrado"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        }
+    )
+    public ResponseEntity<String> unlinkDocuments(
+            @Parameter(description = "ID do cliente") @PathVariable("id") long id,
+            @Parameter(description = "IDs dos documentos") @RequestBody List<Long> documentIds
+    ) {
+        int unlinked = service.unlinkDocuments(id, documentIds);
+        return ResponseEntity.ok("Documentos desvinculados com sucesso: " + unlinked);
+    }
+
+    /**
+     * Remove o vínculo entre um cliente e um documento.
+     * 
+     * @param id identificador único do cliente
+     * @param documentId identificador único do documento
+     * @return ResponseEntity com mensagem de sucesso
+     */
+    @DeleteMapping("/{id}/documents/{documentId}")
+    @Operation(
+        summary = "Desvincular documento do cliente",
+        description = "Remove o vínculo entre o cliente e o documento, mantendo ambos cadastrados",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Documento desvinculado com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Documento não vinculado ao cliente"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        }
+    )
+    public ResponseEntity<String> unlinkDocument(
+            @Parameter(description = "ID do cliente") @PathVariable("id") long id,
+            @Parameter(description = "ID do documento") @PathVariable("documentId") long documentId
+    ) {
+        service.unlinkDocument(id, documentId);
+        return ResponseEntity.ok("Documento desvinculado com sucesso");
+    }
+
+    /**
+     * Altera parcialmente um cliente com JSON Merge Patch.
+     * 
+     * @param id identificador único do cliente
+     * @param patch campos a serem alterados e a versão do cliente lida anteriormente
+     * @param ifMatch ETag do cliente lida anteriormente; precisa corresponder à versão do patch
+     * @return ResponseEntity contendo o DTO do cliente atualizado, com a nova versão
+     */
+    @PatchMapping(value = "/{id}", consumes = CustomerMergePatch.MEDIA_TYPE)
+    @Operation(
+        summary = "Alterar cliente parcialmente",
+        description = "Altera somente os campos informados (JSON Merge Patch). O campo version é obrigatório " +
+                "e deve ser a versão atual do cliente; caso contrário a alteração é recusada",
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Cliente atualizado com sucesso",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = CustomerDTO.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Patch inválido"),
+            @ApiResponse(responseCode = "404", description = "Cliente não encontrado"),
+            @ApiResponse(responseCode = "409", description = "Cliente alterado por outra requisição"),
+            @ApiResponse(responseCode = "412", description = "ETag de If-Match diferente da atual"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        }
+    )
+    public ResponseEntity<CustomerDTO> patchCustomer(
+            @Parameter(description = "ID do cliente") @PathVariable("id") long id,
+            @Parameter(description = "Campos alterados do cliente") @RequestBody JsonNode patch,
+            @Parameter(description = "ETag do cliente lida anteriormente") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        CustomerMergePatch mergePatch = CustomerMergePatch.from(patch);
+        CustomerDTO patched = service.patchCustomer(id, mergePatch, expectedVersion(id, ifMatch));
+        return ResponseEntity.ok().eTag(ETagMapper.of(patched)).body(patched);
     }
 
     /**
      * Remove um cliente pelo seu ID.
      * 
      * @param id identificador único do cliente a ser removido
+     * @param ifMatch ETag do cliente lida anteriormente; a remoção só é feita se o cliente ainda estiver nela
      * @return ResponseEntity com mensagem de sucesso
      */
     @DeleteMapping("/{id}")
@@ -166,13 +463,64 @@ public class CustomerController {
         responses = {
             @ApiResponse(responseCode = "200", description = "Cliente removido com sucesso"),
             @ApiResponse(responseCode = "404", description = "Cliente não encontrado"),
+            @ApiResponse(responseCode = "412", description = "ETag de If-Match diferente da atual"),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
         }
     )
     public ResponseEntity<String> deleteCustomerById(
-            @Parameter(description = "ID do cliente") @PathVariable("id") long id
+            @Parameter(description = "ID do cliente") @PathVariable("id") long id,
+            @Parameter(description = "ETag do cliente lida anteriormente") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        service.deleteCustomerById(id);
+        service.deleteCustomerById(id, expectedVersion(id, ifMatch));
         return ResponseEntity.ok("Cliente removido com sucesso");
     }
+
+    /**
+     * Remove vários clientes pelos seus IDs.
+     * 
+     * @param ids identificadores únicos dos clientes a serem removidos
+     * @return ResponseEntity com mensagem de sucesso e a quantidade de clientes removidos
+     */
+    @DeleteMapping
+    @Operation(
+        summary = "Excluir clientes em lote",
+        description = "Remove os clientes informados e seus vínculos com documentos usando comandos em lote, " +
+                "mantendo os documentos cadastrados. Se algum cliente não existir, nenhum é removido",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Clientes removidos com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Cliente não encontrado"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        }
+    )
+    public ResponseEntity<String> deleteCustomers(
+            @Parameter(description = "IDs dos clientes") @RequestParam("ids") List<Long> ids
+    ) {
+        int deleted = service.deleteCustomers(ids);
+        return ResponseEntity.ok("Clientes removidos com sucesso: " + deleted);
+    }
+
+    /**
+     * Lê a versão do cliente exigida pelo cabeçalho {@code If-Match}. A comparação com a versão atual é feita
+     * pelo serviço, na mesma transação da gravação. Sem o cabeçalho, ou com {@code *}, nenhuma versão é exigida;
+     * com ETags que não são deste cliente a resposta é 412.
+     */
+    private static Long expectedVersion(long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.strip().equals("*")) {
+            return null;
+        }
+        OptionalLong version = ETagMapper.customerVersion(id, ifMatch);
+        if (version.isEmpty()) {
+            throw new PreconditionFailedException("A ETag informada em If-Match não é do cliente com o ID " + id);
+        }
+        return version.getAsLong();
+    }
+
+    private void writeLine(JsonGenerator generator, Object item) {
+        try {
+            exportWriter.writeValue(generator, item);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -1,23 +1,43 @@
 package br.com.douglasdreer.the_barbers_forge.controllers;
 
+import br.com.douglasdreer.the_barbers_forge.dtos.CursorPageDTO;
 import br.com.douglasdreer.the_barbers_forge.dtos.DocumentDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.ImportResultDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.PageDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.ETagMapper;
 import br.com.douglasdreer.the_barbers_forge.dtos.request.CreateDocumentRequest;
 import br.com.douglasdreer.the_barbers_forge.dtos.request.ParamDocumentRequest;
 import br.com.douglasdreer.the_barbers_forge.services.DocumentService;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.log4j.Log4j2;
 
-import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 /**
  * <h1>Document Controller</h1>
@@ -34,14 +54,21 @@ import java.net.URI;
 @Log4j2
 public class DocumentController {
     private final DocumentService service;
+    private final ObjectReader importReader;
+    private final ObjectWriter exportWriter;
+    private final JsonFactory jsonFactory;
 
     /**
-     * Construtor que recebe o serviço de documento por injeção de dependência.
+     * Construtor que recebe o serviço de documento e o conversor JSON por injeção de dependência.
      * 
      * @param service serviço que contém a lógica de negócio para operações com documentos
+     * @param objectMapper conversor JSON usado para ler a importação e escrever a exportação em NDJSON
      */
-    public DocumentController(DocumentService service) {
+    public DocumentController(DocumentService service, ObjectMapper objectMapper) {
         this.service = service;
+        this.importReader = objectMapper.readerFor(CreateDocumentRequest.class);
+        this.exportWriter = objectMapper.writerFor(DocumentDTO.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.jsonFactory = objectMapper.getFactory();
     }
 
     /**
@@ -54,28 +81,93 @@ public class DocumentController {
     @GetMapping(params = {"page", "pageSize"})
     @Operation(
         summary = "Listar documentos paginados",
-        description = "Retorna uma lista paginada de documentos",
+        description = "Retorna uma lista paginada de documentos. O envelope mantém os campos do Page do Spring "
+            + "(number, size, numberOfElements, totalElements, totalPages, first, last e empty), "
+            + "mas não traz mais os objetos pageable e sort",
         responses = {
             @ApiResponse(
                 responseCode = "200", 
                 description = "Documentos encontrados com sucesso",
-                content = @Content(mediaType = "application/json", schema = @Schema(implementation = Page.class))
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = PageDTO.class))
             ),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
         }
     )
-    public ResponseEntity<Page<DocumentDTO>> findAllDocumentWithPagination(
+    public ResponseEntity<PageDTO<DocumentDTO>> findAllDocumentWithPagination(
             @Parameter(description = "Número da página (iniciando em 0)") @RequestParam(value = "page", defaultValue = "0") int page,
             @Parameter(description = "Quantidade de registros por página") @RequestParam(value = "pageSize", defaultValue = "50") int pageSize
     ) {
-        return ResponseEntity.ok(service.findAllDocumentWithPagination(page, pageSize));
+        return ResponseEntity.ok(PageDTO.of(service.findAllDocumentWithPagination(page, pageSize)));
+    }
+
+    /**
+     * Busca os documentos com paginação por cursor (keyset), sem consulta de contagem.
+     * 
+     * @param cursor token de continuação retornado pela fatia anterior (vazio para a primeira fatia)
+     * @param pageSize quantidade de itens por fatia
+     * @return ResponseEntity contendo uma fatia de DTOs de documento e o próximo cursor
+     */
+    @GetMapping("/scroll")
+    @Operation(
+        summary = "Listar documentos por cursor",
+        description = "Retorna uma fatia de documentos ordenada por ID e o token para a próxima fatia, com latência constante em qualquer profundidade",
+        responses = {
+            @ApiResponse(
+                responseCode = "200", 
+                description = "Documentos encontrados com sucesso",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageDTO.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        }
+    )
+    public ResponseEntity<CursorPageDTO<DocumentDTO>> findAllDocumentWithCursor(
+            @Parameter(description = "Token de continuação da fatia anterior") @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Quantidade de registros por fatia") @RequestParam(value = "pageSize", defaultValue = "50") int pageSize
+    ) {
+        return ResponseEntity.ok(CursorPageDTO.of(service.findAllDocumentWithCursor(cursor, pageSize), DocumentDTO::getId));
+    }
+
+    /**
+     * Exporta todos os documentos em NDJSON, um por linha, ordenados por ID.
+     * Cada registro é escrito na resposta assim que é lido do banco, então o uso de memória
+     * não depende da quantidade exportada.
+     * 
+     * @param response resposta HTTP onde os registros são escritos
+     * @throws IOException se não for possível escrever na resposta
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Exportar documentos",
+        description = "Exporta todos os documentos com seus clientes em NDJSON (um documento por linha), lidos do banco por cursor",
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Exportação concluída",
+                content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = DocumentDTO.class))
+            ),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        }
+    )
+    public void exportDocuments(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        try (JsonGenerator generator = jsonFactory.createGenerator(response.getOutputStream())) {
+            generator.setRootValueSeparator(null);
+            service.exportDocuments(item -> writeLine(generator, item));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 
     /**
      * Busca um documento pelo seu ID.
+     * <p>A resposta traz a ETag do documento. Quando o cabeçalho {@code If-None-Match} é enviado, somente as
+     * versões dos clientes vinculados são consultadas e, se a ETag ainda for a mesma, a resposta é 304 sem corpo.</p>
      * 
      * @param id identificador único do documento
-     * @return ResponseEntity contendo o DTO do documento encontrado
+     * @param request requisição atual, usada para avaliar as pré-condições
+     * @return ResponseEntity contendo o DTO do documento encontrado, ou nulo quando a resposta já é 304
      */
     @GetMapping("/{id}")
     @Operation(
@@ -87,14 +179,21 @@ public class DocumentController {
                 description = "Documento encontrado com sucesso",
                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = DocumentDTO.class))
             ),
+            @ApiResponse(responseCode = "304", description = "Documento não alterado desde a ETag informada"),
             @ApiResponse(responseCode = "404", description = "Documento não encontrado"),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
         }
     )
     public ResponseEntity<DocumentDTO> findDocumentById(
-            @Parameter(description = "ID do documento") @PathVariable("id") long id
+            @Parameter(description = "ID do documento") @PathVariable("id") long id,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(service.findDocumentById(id));
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(service.findDocumentETag(id))) {
+            return null;
+        }
+        DocumentDTO document = service.findDocumentById(id);
+        return ResponseEntity.ok().eTag(ETagMapper.of(document)).body(document);
     }
 
     /**
@@ -139,7 +238,7 @@ public class DocumentController {
                 description = "Documento criado com sucesso",
                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = DocumentDTO.class))
             ),
-            @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos ou documento já cadastrado"),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
         }
     )
@@ -154,6 +253,52 @@ public class DocumentController {
         return ResponseEntity.created(location).body(savedData);
     }
 
+    /**
+     * Importa documentos em lote a partir de um array JSON.
+     * 
+     * @param documents dados dos documentos a serem importados
+     * @return ResponseEntity contendo o resumo da importação com o resultado de cada linha
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Importar documentos",
+        description = "Importa documentos em lote a partir de um array JSON ou de NDJSON (um documento por linha). " +
+                "Linhas inválidas ou repetidas são informadas no resultado sem interromper as demais",
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Importação processada",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = ImportResultDTO.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Conteúdo mal formado"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        }
+    )
+    public ResponseEntity<ImportResultDTO> importDocuments(
+            @Parameter(description = "Documentos a serem importados") @RequestBody List<CreateDocumentRequest> documents
+    ) {
+        return ResponseEntity.ok(service.importDocuments(documents));
+    }
+
+    /**
+     * Importa documentos em lote a partir de NDJSON, com um documento por linha.
+     * 
+     * @param body conteúdo da requisição
+     * @return ResponseEntity contendo o resumo da importação com o resultado de cada linha
+     * @throws IOException se não for possível ler o conteúdo da requisição
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(hidden = true)
+    public ResponseEntity<ImportResultDTO> importDocumentsFromNdjson(InputStream body) throws IOException {
+        List<CreateDocumentRequest> documents;
+        try (MappingIterator<CreateDocumentRequest> iterator = importReader.readValues(body)) {
+            documents = iterator.readAll();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid NDJSON content: " + e.getOriginalMessage());
+        }
+        return ResponseEntity.ok(service.importDocuments(documents));
+    }
+
     /**
      * Remove um documento pelo seu ID.
      * 
@@ -176,4 +321,13 @@ public class DocumentController {
         service.deleteDocumentById(id);
         return ResponseEntity.ok("Documento removido com sucesso");
     }
+
+    private void writeLine(JsonGenerator generator, Object item) {
+        try {
+            exportWriter.writeValue(generator, item);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
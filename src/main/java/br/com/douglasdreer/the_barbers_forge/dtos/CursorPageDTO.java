@@ -0,0 +1,62 @@
+package br.com.douglasdreer.the_barbers_forge.dtos;
+
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.CursorMapper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * <h1>CursorPageDTO</h1>
+ * <p>Data Transfer Object (DTO) for a slice read with keyset (cursor) pagination.
+ * Unlike a {@code Page}, it carries no total count: the client follows {@link #nextCursor}
+ * until {@link #hasNext} is {@code false}.</p>
+ *
+ * @param <T> the type of the items in the slice
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class CursorPageDTO<T> {
+
+    /**
+     * The items of the current slice.
+     */
+    private List<T> content;
+
+    /**
+     * The number of items in the current slice.
+     */
+    private int size;
+
+    /**
+     * Whether there are more items after the current slice.
+     */
+    private boolean hasNext;
+
+    /**
+     * The opaque token to request the next slice, or {@code null} when there is none.
+     */
+    private String nextCursor;
+
+    /**
+     * Builds the DTO from a {@link Slice}, deriving the next cursor from the identifier of its last item.
+     *
+     * @param slice the slice read from the database
+     * @param idExtractor function that returns the identifier of an item
+     * @param <T> the type of the items in the slice
+     * @return the cursor page
+     */
+    public static <T> CursorPageDTO<T> of(Slice<T> slice, ToLongFunction<T> idExtractor) {
+        List<T> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? CursorMapper.encode(idExtractor.applyAsLong(content.get(content.size() - 1)))
+                : null;
+        return new CursorPageDTO<>(content, content.size(), slice.hasNext(), nextCursor);
+    }
+}
@@ -39,7 +39,10 @@ public class CustomerDTO {
      */
     private String lastName;
 
-    private List<DocumentDTO> documents;
+    /**
+     * The documents of the customer, as summaries without their own associations.
+     */
+    private List<DocumentRefDTO> documents;
 
     /**
      * The address of the customer.
@@ -56,6 +59,11 @@ public class CustomerDTO {
      */
     private LocalDate birthDate;
 
+    /**
+     * The optimistic lock version of the customer, required to apply a partial update.
+     */
+    private Long version;
+
     /**
      * The timestamp of when the customer was created.
      */
@@ -0,0 +1,39 @@
+package br.com.douglasdreer.the_barbers_forge.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * <h1>CustomerRefDTO</h1>
+ * <p>Summary of a customer used when it appears inside another resource, such as the customers of a document.
+ * It carries no associations, so nesting it never walks further into the Customer/Document graph.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class CustomerRefDTO {
+
+    /**
+     * The unique identifier for the customer.
+     */
+    private Long id;
+
+    /**
+     * The first name of the customer.
+     */
+    private String firstName;
+
+    /**
+     * The last name of the customer.
+     */
+    private String lastName;
+
+    /**
+     * The optimistic locking version of the customer, which changes whenever the customer representation changes.
+     */
+    private Long version;
+}
@@ -0,0 +1,34 @@
+package br.com.douglasdreer.the_barbers_forge.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * <h1>CustomerSuggestionDTO</h1>
+ * <p>Customer suggested by the name autocomplete. It holds only what the typeahead displays and is served from
+ * memory, so it carries neither the version nor the documents of the customer.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class CustomerSuggestionDTO {
+
+    /**
+     * The unique identifier for the customer.
+     */
+    private Long id;
+
+    /**
+     * The first name of the customer.
+     */
+    private String firstName;
+
+    /**
+     * The last name of the customer.
+     */
+    private String lastName;
+}
@@ -15,7 +15,7 @@ public class DocumentDTO {
     private Long id;
     private DocumentType documentType;
     private String number;
-    private List<CustomerDTO> customers;
+    private List<CustomerRefDTO> customers;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
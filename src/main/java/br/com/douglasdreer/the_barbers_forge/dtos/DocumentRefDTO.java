@@ -0,0 +1,35 @@
+package br.com.douglasdreer.the_barbers_forge.dtos;
+
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * <h1>DocumentRefDTO</h1>
+ * <p>Summary of a document used when it appears inside another resource, such as the documents of a customer.
+ * It carries no associations, so nesting it never walks further into the Customer/Document graph.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class DocumentRefDTO {
+
+    /**
+     * The unique identifier for the document.
+     */
+    private Long id;
+
+    /**
+     * The type of the document.
+     */
+    private DocumentType documentType;
+
+    /**
+     * The number of the document.
+     */
+    private String number;
+}
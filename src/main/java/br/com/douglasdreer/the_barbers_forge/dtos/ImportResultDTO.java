@@ -0,0 +1,66 @@
+package br.com.douglasdreer.the_barbers_forge.dtos;
+
+import br.com.douglasdreer.the_barbers_forge.enums.ImportRowStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * <h1>ImportResultDTO</h1>
+ * <p>Data Transfer Object (DTO) summarising a batch import, with the totals per status and the result of each row.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class ImportResultDTO {
+
+    /**
+     * The number of rows received.
+     */
+    private int total;
+
+    /**
+     * The number of rows inserted.
+     */
+    private int created;
+
+    /**
+     * The number of rows skipped as duplicates.
+     */
+    private int duplicated;
+
+    /**
+     * The number of rows rejected by validation.
+     */
+    private int invalid;
+
+    /**
+     * The result of each row, in request order.
+     */
+    private List<ImportRowResultDTO> rows;
+
+    /**
+     * Builds the summary from the result of each row.
+     *
+     * @param rows the result of each row, in request order
+     * @return the summary with the totals per status
+     */
+    public static ImportResultDTO of(List<ImportRowResultDTO> rows) {
+        int created = 0;
+        int duplicated = 0;
+        int invalid = 0;
+        for (ImportRowResultDTO row : rows) {
+            switch (row.getStatus()) {
+                case CREATED -> created++;
+                case DUPLICATE -> duplicated++;
+                case INVALID -> invalid++;
+            }
+        }
+        return new ImportResultDTO(rows.size(), created, duplicated, invalid, rows);
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.douglasdreer.the_barbers_forge.dtos;
+
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import br.com.douglasdreer.the_barbers_forge.enums.ImportRowStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * <h1>ImportRowResultDTO</h1>
+ * <p>Data Transfer Object (DTO) with the outcome of a single row of a batch import.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class ImportRowResultDTO {
+
+    /**
+     * The zero-based position of the row in the request.
+     */
+    private int index;
+
+    /**
+     * The document type sent in the row.
+     */
+    private DocumentType documentType;
+
+    /**
+     * The document number sent in the row.
+     */
+    private String number;
+
+    /**
+     * The outcome of the row.
+     */
+    private ImportRowStatus status;
+
+    /**
+     * The reason why the row was not created, or {@code null} when it was.
+     */
+    private String message;
+}
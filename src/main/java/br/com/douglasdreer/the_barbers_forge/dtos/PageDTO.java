@@ -0,0 +1,83 @@
+package br.com.douglasdreer.the_barbers_forge.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * <h1>PageDTO</h1>
+ * <p>Data Transfer Object (DTO) for a page read with offset pagination.
+ * It keeps the top-level fields and names of the serialized {@code PageImpl}, so clients that read
+ * {@code number}, {@code first}, {@code last}, {@code numberOfElements} or {@code empty} keep working.
+ * Only the nested {@code pageable} and {@code sort} objects are no longer sent: they repeat the page
+ * number and size and describe a sort that these endpoints never apply.</p>
+ *
+ * @param <T> the type of the items in the page
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class PageDTO<T> {
+
+    /**
+     * The items of the current page.
+     */
+    private List<T> content;
+
+    /**
+     * The number of the current page, starting at {@code 0}.
+     */
+    private int number;
+
+    /**
+     * The requested page size.
+     */
+    private int size;
+
+    /**
+     * The number of items in the current page.
+     */
+    private int numberOfElements;
+
+    /**
+     * The total number of items across all pages.
+     */
+    private long totalElements;
+
+    /**
+     * The total number of pages.
+     */
+    private int totalPages;
+
+    /**
+     * Whether the current page is the first one.
+     */
+    private boolean first;
+
+    /**
+     * Whether the current page is the last one.
+     */
+    private boolean last;
+
+    /**
+     * Whether the current page has no items.
+     */
+    private boolean empty;
+
+    /**
+     * Builds the DTO from a {@link Page}.
+     *
+     * @param page the page read from the database
+     * @param <T> the type of the items in the page
+     * @return the page DTO
+     */
+    public static <T> PageDTO<T> of(Page<T> page) {
+        return new PageDTO<>(page.getContent(), page.getNumber(), page.getSize(), page.getNumberOfElements(),
+                page.getTotalElements(), page.getTotalPages(), page.isFirst(), page.isLast(), page.isEmpty());
+    }
+}
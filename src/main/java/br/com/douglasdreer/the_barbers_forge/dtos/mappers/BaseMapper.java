@@ -3,51 +3,52 @@ package br.com.douglasdreer.the_barbers_forge.dtos.mappers;
 import br.com.douglasdreer.the_barbers_forge.exceptions.ConverterException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import org.modelmapper.ModelMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Function;
 
 public class BaseMapper {
-    private final ModelMapper modelMapper;
     private final ObjectMapper objectMapper;
+    private final ClassValue<ObjectWriter> writers = new ClassValue<>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+            return objectMapper.writerFor(type);
+        }
+    };
+    private final ClassValue<ObjectReader> readers = new ClassValue<>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+            return objectMapper.readerFor(type);
+        }
+    };
 
     /**
-     * Constructor for initializing the service with the required dependencies.
-     *
-     * @param modelMapper the ModelMapper instance for object-to-object conversion
-     */
-    public BaseMapper(ModelMapper modelMapper) {
-        this.modelMapper = modelMapper;
-        this.objectMapper = initializeObjectMapper();
-    }
-
-    /**
-     * Initializes and configures the {@link ObjectMapper} for JSON operations.
-     * Enables pretty printing and registers the JavaTimeModule for handling Java 8 date/time types.
+     * Constructor for initializing the mapper with the application-wide {@link ObjectMapper}.
+     * The mapper is shared, not copied, so its serializer caches are built once for all mappers.
      *
-     * @return a configured ObjectMapper instance
+     * @param objectMapper the shared ObjectMapper configured by Spring Boot
      */
-    private ObjectMapper initializeObjectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        mapper.enable(SerializationFeature.INDENT_OUTPUT);
-        return mapper;
+    public BaseMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
     }
 
     /**
-     * Converts an object of one type to another using {@link ModelMapper}.
+     * Converts an object of one type to another using a compile-time generated converter.
      *
      * @param source the object to be converted
-     * @param targetClass the class type to convert to
+     * @param converter the function that performs the conversion
+     * @param <S> the source type
      * @param <D> the target type
      * @return the converted object of type {@link D}
      */
-    public <D> D convertTo(Object source, Class<D> targetClass) {
+    public <S, D> D convertTo(S source, Function<S, D> converter) {
         try {
-            return modelMapper.map(source, targetClass);
+            return converter.apply(source);
+        } catch (ConverterException e) {
+            throw e;
         } catch (Exception e) {
             throw new ConverterException(e.getLocalizedMessage());
         }
@@ -57,30 +58,47 @@ public class BaseMapper {
      * Maps a list of objects from one type to another.
      *
      * @param sourceList the list of objects to be mapped
-     * @param targetClass the class type to convert each element to
+     * @param converter the function that converts each element
      * @param <S> the source type
      * @param <T> the target type
      * @return a list of objects of type {@link T}
      */
-    public <S, T> List<T> mapList(List<S> sourceList, Class<T> targetClass) {
+    public <S, T> List<T> mapList(List<S> sourceList, Function<S, T> converter) {
         return sourceList.stream()
-                .map(element -> modelMapper.map(element, targetClass))
+                .map(element -> convertTo(element, converter))
                 .toList();
     }
 
     /**
-     * Converts an object to its JSON string representation.
+     * Builds the exception thrown when a mapper receives a type it cannot convert.
+     *
+     * @param source the object received
+     * @param targetClass the class type requested
+     * @return the exception describing the unsupported conversion
+     */
+    protected ConverterException unsupportedConversion(Object source, Class<?> targetClass) {
+        String sourceName = source == null ? "null" : source.getClass().getSimpleName();
+        return new ConverterException("Conversão não suportada de " + sourceName + " para " + targetClass.getSimpleName());
+    }
+
+    /**
+     * Converts an object to its compact JSON string representation, using an {@link ObjectWriter}
+     * cached per runtime type so the root serializer is resolved only once.
      *
      * @param object the object to be converted to JSON
      * @return the JSON string representation of the object
      * @throws JsonProcessingException if the object cannot be converted to JSON
      */
     public String toJSON(Object object) throws JsonProcessingException {
-        return objectMapper.writeValueAsString(object);
+        if (object == null) {
+            return objectMapper.writeValueAsString(null);
+        }
+        return writers.get(object.getClass()).writeValueAsString(object);
     }
 
     /**
-     * Converts a JSON string to an object of the specified type.
+     * Converts a JSON string to an object of the specified type, using an {@link ObjectReader}
+     * cached per target type.
      *
      * @param jsonData the JSON string to be converted
      * @param targetClass the class type to convert the JSON string to
@@ -89,6 +107,6 @@ public class BaseMapper {
      * @throws IOException if there is an issue during the deserialization
      */
     public <D> D toObject(String jsonData, Class<D> targetClass) throws IOException {
-        return objectMapper.readValue(jsonData, targetClass);
+        return readers.get(targetClass).readValue(jsonData);
     }
 }
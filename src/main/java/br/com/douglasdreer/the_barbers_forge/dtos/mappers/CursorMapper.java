@@ -0,0 +1,59 @@
+package br.com.douglasdreer.the_barbers_forge.dtos.mappers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * <h1>CursorMapper</h1>
+ * <p>Converts the last identifier read by a keyset pagination into an opaque continuation token and back.</p>
+ *
+ * <p>The token is a URL-safe Base64 value, so clients must treat it as opaque and only send it back unchanged.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+public final class CursorMapper {
+    private static final String PREFIX = "id:";
+    private static final String MSG_INVALID_CURSOR = "Cursor inválido: ";
+
+    private CursorMapper() {
+    }
+
+    /**
+     * Encodes the identifier of the last item read into a continuation token.
+     *
+     * @param lastId the identifier of the last item of the current slice
+     * @return the opaque continuation token
+     */
+    public static String encode(long lastId) {
+        byte[] data = (PREFIX + lastId).getBytes(StandardCharsets.US_ASCII);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(data);
+    }
+
+    /**
+     * Decodes a continuation token into the identifier after which the next slice starts.
+     *
+     * @param cursor the continuation token, or {@code null}/blank for the first slice
+     * @return the identifier after which reading continues ({@code 0} for the first slice)
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        String value;
+        try {
+            value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(MSG_INVALID_CURSOR + cursor, e);
+        }
+        if (!value.startsWith(PREFIX)) {
+            throw new IllegalArgumentException(MSG_INVALID_CURSOR + cursor);
+        }
+        try {
+            return Long.parseLong(value.substring(PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(MSG_INVALID_CURSOR + cursor, e);
+        }
+    }
+}
@@ -1,23 +1,30 @@
 package br.com.douglasdreer.the_barbers_forge.dtos.mappers;
 
-import org.modelmapper.ModelMapper;
+import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import br.com.douglasdreer.the_barbers_forge.dtos.CustomerDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.DocumentRefDTO;
 import br.com.douglasdreer.the_barbers_forge.dtos.request.CreateCustomerRequest;
 import br.com.douglasdreer.the_barbers_forge.entities.Customer;
 import br.com.douglasdreer.the_barbers_forge.exceptions.ConverterException;
+import br.com.douglasdreer.the_barbers_forge.repositories.projections.CustomerExportRow;
 
+@Component
 public class CustomerMapper extends BaseMapper {
+    private final EntityDtoMapper mapper;
 
     /**
-     * Construtor que recebe o ModelMapper necessário para as conversões.
+     * Construtor que recebe o mapeador gerado e o ObjectMapper compartilhado necessários para as conversões.
      *
-     * @param modelMapper instância do ModelMapper para conversão entre objetos
+     * @param mapper mapeador gerado em tempo de compilação para conversão entre objetos
+     * @param objectMapper ObjectMapper compartilhado da aplicação, usado nas conversões para JSON
      */
-    public CustomerMapper(ModelMapper modelMapper) {
-        super(modelMapper);
+    public CustomerMapper(EntityDtoMapper mapper, ObjectMapper objectMapper) {
+        super(objectMapper);
+        this.mapper = mapper;
     }
 
     /**
@@ -27,7 +34,28 @@ public class CustomerMapper extends BaseMapper {
      * @return o DTO convertido
      */
     public CustomerDTO toDTO(Customer customer) {
-        return convertTo(customer, CustomerDTO.class);
+        return convertTo(customer, mapper::toCustomerDTO);
+    }
+
+    /**
+     * Converte as colunas de cliente de uma linha de exportação para CustomerDTO,
+     * com a lista de documentos vazia para ser preenchida pelas linhas seguintes.
+     *
+     * @param row a linha de exportação
+     * @return o DTO convertido
+     */
+    public CustomerDTO toDTO(CustomerExportRow row) {
+        return convertTo(row, mapper::toCustomerDTO);
+    }
+
+    /**
+     * Converte as colunas de documento de uma linha de exportação para DocumentRefDTO.
+     *
+     * @param row a linha de exportação
+     * @return o resumo do documento
+     */
+    public DocumentRefDTO toDocumentRef(CustomerExportRow row) {
+        return convertTo(row, mapper::toDocumentRef);
     }
 
     /**
@@ -37,7 +65,7 @@ public class CustomerMapper extends BaseMapper {
      * @return a entidade convertida
      */
     public Customer toEntity(CustomerDTO customerDTO) {
-        return convertTo(customerDTO, Customer.class);
+        return convertTo(customerDTO, mapper::toCustomer);
     }
 
     /**
@@ -47,7 +75,20 @@ public class CustomerMapper extends BaseMapper {
      * @return a entidade convertida
      */
     public Customer toEntity(CreateCustomerRequest request) {
-        return convertTo(request, Customer.class);
+        return convertTo(request, mapper::toCustomer);
+    }
+
+    /**
+     * Copia os campos preenchidos do request para uma entidade Customer existente.
+     *
+     * @param request o request com os novos valores
+     * @param customer a entidade a ser atualizada
+     */
+    public void updateEntity(CreateCustomerRequest request, Customer customer) {
+        convertTo(request, source -> {
+            mapper.updateCustomer(source, customer);
+            return customer;
+        });
     }
 
     /**
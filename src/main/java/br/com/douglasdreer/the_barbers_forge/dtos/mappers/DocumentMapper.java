@@ -1,29 +1,48 @@
 package br.com.douglasdreer.the_barbers_forge.dtos.mappers;
 
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerRefDTO;
 import br.com.douglasdreer.the_barbers_forge.dtos.DocumentDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.request.CreateDocumentRequest;
 import br.com.douglasdreer.the_barbers_forge.entities.Document;
-import org.modelmapper.ModelMapper;
+import br.com.douglasdreer.the_barbers_forge.repositories.projections.DocumentExportRow;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @Component
 public class DocumentMapper extends BaseMapper {
+    private final EntityDtoMapper mapper;
+
     /**
      * Constructor for initializing the service with the required dependencies.
      *
-     * @param modelMapper the ModelMapper instance for object-to-object conversion
+     * @param mapper the compile-time generated mapper for object-to-object conversion
+     * @param objectMapper the shared application ObjectMapper used for JSON conversions
      */
-    public DocumentMapper(ModelMapper modelMapper) {
-        super(modelMapper);
+    public DocumentMapper(EntityDtoMapper mapper, ObjectMapper objectMapper) {
+        super(objectMapper);
+        this.mapper = mapper;
     }
 
     public <T> DocumentDTO toDTO(T inputData) {
-        return convertTo(inputData, DocumentDTO.class);
+        return convertTo(inputData, source -> switch (source) {
+            case Document document -> mapper.toDocumentDTO(document);
+            case DocumentExportRow row -> mapper.toDocumentDTO(row);
+            default -> throw unsupportedConversion(source, DocumentDTO.class);
+        });
+    }
+
+    public CustomerRefDTO toCustomerRef(DocumentExportRow row) {
+        return convertTo(row, mapper::toCustomerRef);
     }
 
     public <T> Document toEntity(T inputData) {
-        return convertTo(inputData, Document.class);
+        return convertTo(inputData, source -> switch (source) {
+            case CreateDocumentRequest request -> mapper.toDocument(request);
+            case DocumentDTO documentDTO -> mapper.toDocument(documentDTO);
+            default -> throw unsupportedConversion(source, Document.class);
+        });
     }
 
     public String toJson(Object object) throws JsonProcessingException {
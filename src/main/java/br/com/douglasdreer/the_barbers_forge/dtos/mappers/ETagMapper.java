@@ -0,0 +1,115 @@
+package br.com.douglasdreer.the_barbers_forge.dtos.mappers;
+
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerRefDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.DocumentDTO;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+
+/**
+ * <h1>ETagMapper</h1>
+ * <p>Derives the strong entity tags of customers and documents, either from a full representation or from the
+ * lightweight version lookups that answer conditional requests without loading the entities.</p>
+ *
+ * <p>A customer tag is its identifier and optimistic lock version. A document never changes after it is created,
+ * but its representation lists the linked customers, so its tag is its identifier plus a fingerprint of the
+ * identifiers and versions of those customers.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+public final class ETagMapper {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ETagMapper() {
+    }
+
+    /**
+     * Builds the entity tag of a customer.
+     *
+     * @param id the customer identifier
+     * @param version the customer optimistic lock version
+     * @return the quoted strong entity tag
+     */
+    public static String customer(long id, long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    /**
+     * Reads the customer version named by an {@code If-Match} header, so the write can compare it with the
+     * version of the row it changes instead of with a separate lookup.
+     * <p>Weak tags never match under the strong comparison of {@code If-Match}, and tags of other customers are
+     * ignored. When the header lists several tags of this customer, the first one is used.</p>
+     *
+     * @param id the customer identifier
+     * @param ifMatch the header value, other than {@code *}
+     * @return the expected version, or empty when no strong tag of this customer is listed
+     */
+    public static OptionalLong customerVersion(long id, String ifMatch) {
+        String prefix = "\"" + id + "-";
+        for (String tag : ifMatch.split(",")) {
+            String candidate = tag.strip();
+            if (candidate.startsWith(prefix) && candidate.endsWith("\"") && candidate.length() > prefix.length() + 1) {
+                try {
+                    return OptionalLong.of(Long.parseLong(candidate.substring(prefix.length(), candidate.length() - 1)));
+                } catch (NumberFormatException e) {
+                    return OptionalLong.empty();
+                }
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Builds the entity tag of a document from the versions of its linked customers.
+     *
+     * @param id the document identifier
+     * @param customerVersions the version of each linked customer, by customer identifier
+     * @return the quoted strong entity tag
+     */
+    public static String document(long id, Map<Long, Long> customerVersions) {
+        long hash = FNV_OFFSET;
+        for (Map.Entry<Long, Long> entry : new TreeMap<>(customerVersions).entrySet()) {
+            hash = mix(hash, entry.getKey());
+            hash = mix(hash, entry.getValue());
+        }
+        return "\"" + id + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Builds the entity tag of a customer representation.
+     *
+     * @param customer the customer representation
+     * @return the quoted strong entity tag
+     */
+    public static String of(CustomerDTO customer) {
+        return customer(customer.getId(), customer.getVersion());
+    }
+
+    /**
+     * Builds the entity tag of a document representation.
+     *
+     * @param document the document representation
+     * @return the quoted strong entity tag
+     */
+    public static String of(DocumentDTO document) {
+        Map<Long, Long> customerVersions = new TreeMap<>();
+        if (document.getCustomers() != null) {
+            for (CustomerRefDTO customer : document.getCustomers()) {
+                customerVersions.put(customer.getId(), customer.getVersion());
+            }
+        }
+        return document(document.getId(), customerVersions);
+    }
+
+    private static long mix(long hash, long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash ^= (value >>> shift) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,194 @@
+package br.com.douglasdreer.the_barbers_forge.dtos.mappers;
+
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerRefDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.DocumentDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.DocumentRefDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.request.CreateCustomerRequest;
+import br.com.douglasdreer.the_barbers_forge.dtos.request.CreateDocumentRequest;
+import br.com.douglasdreer.the_barbers_forge.entities.Customer;
+import br.com.douglasdreer.the_barbers_forge.entities.Document;
+import br.com.douglasdreer.the_barbers_forge.repositories.projections.CustomerExportRow;
+import br.com.douglasdreer.the_barbers_forge.repositories.projections.DocumentExportRow;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Builder;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+
+/**
+ * <h1>EntityDtoMapper</h1>
+ * <p>Mapping contract between entities, DTOs and request objects. The implementation is generated at
+ * compile time by MapStruct as plain getter/setter code, without reflection or type-map lookups at runtime.</p>
+ *
+ * <p>The Customer/Document association is projected one level deep: a resource lists its related
+ * resources as {@link CustomerRefDTO}/{@link DocumentRefDTO}, which have no associations. Mapping cost and
+ * response size are therefore linear in the number of rows and never follow the rest of the graph.</p>
+ *
+ * <p>Builders are disabled so targets keep the collection initializers of their no-args constructors.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@Mapper(componentModel = "spring", builder = @Builder(disableBuilder = true))
+public interface EntityDtoMapper {
+
+    /**
+     * Converts a customer entity to DTO, with its documents as summaries.
+     *
+     * @param customer the entity to be converted
+     * @return the converted DTO
+     */
+    CustomerDTO toCustomerDTO(Customer customer);
+
+    /**
+     * Converts a customer DTO to entity, with its documents as references.
+     *
+     * @param customerDTO the DTO to be converted
+     * @return the converted entity
+     */
+    Customer toCustomer(CustomerDTO customerDTO);
+
+    /**
+     * Converts a customer request to entity. Document identifiers are not resolved here.
+     *
+     * @param request the request to be converted
+     * @return the converted entity
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "documents", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    Customer toCustomer(CreateCustomerRequest request);
+
+    /**
+     * Copies the fields present in the request onto an existing customer.
+     *
+     * @param request the request with the new values
+     * @param customer the entity to be updated
+     */
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "documents", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    void updateCustomer(CreateCustomerRequest request, @MappingTarget Customer customer);
+
+    /**
+     * Converts a customer entity to its summary.
+     *
+     * @param customer the entity to be converted
+     * @return the summary
+     */
+    CustomerRefDTO toCustomerRef(Customer customer);
+
+    /**
+     * Converts a customer summary to an entity holding only the summary fields.
+     *
+     * @param customerRef the summary to be converted
+     * @return the converted entity
+     */
+    @Mapping(target = "documents", ignore = true)
+    @Mapping(target = "address", ignore = true)
+    @Mapping(target = "phone", ignore = true)
+    @Mapping(target = "birthDate", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    Customer toCustomer(CustomerRefDTO customerRef);
+
+    /**
+     * Converts a document entity to DTO, with its customers as summaries.
+     *
+     * @param document the entity to be converted
+     * @return the converted DTO
+     */
+    DocumentDTO toDocumentDTO(Document document);
+
+    /**
+     * Converts a document DTO to entity, with its customers as references.
+     *
+     * @param documentDTO the DTO to be converted
+     * @return the converted entity
+     */
+    @Mapping(target = "numberKey", ignore = true)
+    Document toDocument(DocumentDTO documentDTO);
+
+    /**
+     * Converts a document request to entity.
+     *
+     * @param request the request to be converted
+     * @return the converted entity
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "customers", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "numberKey", ignore = true)
+    Document toDocument(CreateDocumentRequest request);
+
+    /**
+     * Converts a document entity to its summary.
+     *
+     * @param document the entity to be converted
+     * @return the summary
+     */
+    DocumentRefDTO toDocumentRef(Document document);
+
+    /**
+     * Converts a document summary to an entity holding only the summary fields.
+     *
+     * @param documentRef the summary to be converted
+     * @return the converted entity
+     */
+    @Mapping(target = "customers", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "numberKey", ignore = true)
+    Document toDocument(DocumentRefDTO documentRef);
+
+    /**
+     * Converts the customer columns of an export row to DTO, with an empty, mutable list of documents
+     * to be filled from the following rows of the same customer.
+     *
+     * @param row the export row
+     * @return the converted DTO
+     */
+    @Mapping(target = "documents", expression = "java(new java.util.ArrayList<>())")
+    CustomerDTO toCustomerDTO(CustomerExportRow row);
+
+    /**
+     * Converts the document columns of a customer export row to a document summary.
+     *
+     * @param row the export row
+     * @return the summary
+     */
+    @Mapping(target = "id", source = "documentId")
+    @Mapping(target = "number", source = "documentNumber")
+    DocumentRefDTO toDocumentRef(CustomerExportRow row);
+
+    /**
+     * Converts the document columns of an export row to DTO, with an empty, mutable list of customers
+     * to be filled from the following rows of the same document.
+     *
+     * @param row the export row
+     * @return the converted DTO
+     */
+    @Mapping(target = "customers", expression = "java(new java.util.ArrayList<>())")
+    DocumentDTO toDocumentDTO(DocumentExportRow row);
+
+    /**
+     * Converts the customer columns of a document export row to a customer summary.
+     *
+     * @param row the export row
+     * @return the summary
+     */
+    @Mapping(target = "id", source = "customerId")
+    @Mapping(target = "firstName", source = "customerFirstName")
+    @Mapping(target = "lastName", source = "customerLastName")
+    @Mapping(target = "version", source = "customerVersion")
+    CustomerRefDTO toCustomerRef(DocumentExportRow row);
+}
@@ -0,0 +1,132 @@
+package br.com.douglasdreer.the_barbers_forge.dtos.request;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <h1>Customer Merge Patch</h1>
+ * <p>
+ * Alteração parcial de um cliente no formato JSON Merge Patch (RFC 7396).
+ * Somente os campos presentes no documento são alterados; um campo com valor {@code null} é apagado.
+ * O campo {@code version} é obrigatório e informa a versão lida pelo cliente, usada no bloqueio otimista.
+ * </p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@Getter
+public final class CustomerMergePatch {
+
+    /**
+     * Tipo de mídia do JSON Merge Patch.
+     */
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private static final String VERSION = "version";
+    private static final String FIRST_NAME = "firstName";
+    private static final String LAST_NAME = "lastName";
+    private static final String ADDRESS = "address";
+    private static final String PHONE = "phone";
+    private static final String BIRTH_DATE = "birthDate";
+
+    /**
+     * Versão do cliente sobre a qual a alteração foi feita.
+     */
+    private final long version;
+
+    /**
+     * Novos valores por nome de atributo da entidade, na ordem recebida.
+     */
+    private final Map<String, Object> changes;
+
+    private CustomerMergePatch(long version, Map<String, Object> changes) {
+        this.version = version;
+        this.changes = Collections.unmodifiableMap(changes);
+    }
+
+    /**
+     * Informa se a alteração muda o primeiro nome ou o sobrenome do cliente.
+     *
+     * @return {@code true} se algum dos nomes for alterado
+     */
+    public boolean changesName() {
+        return changes.containsKey(FIRST_NAME) || changes.containsKey(LAST_NAME);
+    }
+
+    /**
+     * Lê e valida um documento JSON Merge Patch de cliente.
+     *
+     * @param patch documento recebido na requisição
+     * @return a alteração validada
+     * @throws IllegalArgumentException se o documento não for um objeto, não tiver versão,
+     *                                  alterar um campo não permitido ou tiver um valor inválido
+     */
+    public static CustomerMergePatch from(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("O patch deve ser um objeto JSON");
+        }
+        JsonNode version = patch.get(VERSION);
+        if (version == null || !version.isIntegralNumber() || !version.canConvertToLong()) {
+            throw new IllegalArgumentException("O campo version é obrigatório e deve ser numérico");
+        }
+
+        Map<String, Object> changes = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String name = field.getKey();
+            JsonNode value = field.getValue();
+            switch (name) {
+                case VERSION -> { }
+                case FIRST_NAME, LAST_NAME -> changes.put(name, requiredText(name, value));
+                case ADDRESS, PHONE -> changes.put(name, optionalText(name, value));
+                case BIRTH_DATE -> changes.put(name, birthDate(value));
+                default -> throw new IllegalArgumentException("Campo não pode ser alterado: " + name);
+            }
+        }
+        if (changes.isEmpty()) {
+            throw new IllegalArgumentException("O patch não altera nenhum campo");
+        }
+        return new CustomerMergePatch(version.longValue(), changes);
+    }
+
+    private static String requiredText(String name, JsonNode value) {
+        if (!value.isTextual() || value.asText().isBlank()) {
+            throw new IllegalArgumentException("O campo " + name + " é obrigatório");
+        }
+        return value.asText();
+    }
+
+    private static String optionalText(String name, JsonNode value) {
+        if (value.isNull()) {
+            return null;
+        }
+        if (!value.isTextual()) {
+            throw new IllegalArgumentException("O campo " + name + " deve ser texto");
+        }
+        return value.asText();
+    }
+
+    private static LocalDate birthDate(JsonNode value) {
+        if (value.isNull()) {
+            return null;
+        }
+        LocalDate birthDate;
+        try {
+            birthDate = LocalDate.parse(value.asText());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("A data de nascimento deve estar no formato AAAA-MM-DD", e);
+        }
+        if (birthDate.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("A data de nascimento deve ser no passado ou presente");
+        }
+        return birthDate;
+    }
+}
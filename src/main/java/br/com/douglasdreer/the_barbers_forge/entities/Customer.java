@@ -2,6 +2,7 @@ package br.com.douglasdreer.the_barbers_forge.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -23,18 +24,41 @@ import java.util.List;
  */
 @Entity
 @Table(name = "TBL0001_CUSTOMERS")
+@NamedEntityGraph(name = Customer.GRAPH_DOCUMENTS, attributeNodes = @NamedAttributeNode("documents"))
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Setter
 public class Customer {
 
+    /**
+     * Name of the entity graph that loads the customer together with its documents.
+     */
+    public static final String GRAPH_DOCUMENTS = "Customer.documents";
+
+    /**
+     * Name of the join table that links customers and documents; it is owned by {@link #documents}.
+     */
+    public static final String DOCUMENTS_TABLE = "TBL0006_CUSTOMER_DOCUMENT";
+
+    /**
+     * Name of the database sequence that generates customer identifiers.
+     */
+    public static final String SEQUENCE = "TBL0001_CUSTOMERS_SEQ";
+
+    /**
+     * Number of identifiers reserved by each call to {@link #SEQUENCE}; the sequence increments by this value.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     /**
      * The unique identifier for the customer.
-     * This field is automatically generated as a primary key.
+     * This field is automatically generated as a primary key from {@link #SEQUENCE}, which is pooled
+     * so Hibernate reserves a block of identifiers per round trip and can batch the inserts.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SEQUENCE)
+    @SequenceGenerator(name = SEQUENCE, sequenceName = SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     /**
@@ -53,11 +77,15 @@ public class Customer {
 
     /**
      * List of documents associated with the customer.
+     * This is the owning side of the Customer/Document association: it alone writes {@link #DOCUMENTS_TABLE},
+     * and {@link Document#getCustomers()} reads the same rows.
      * The relationship is managed through a join table with cascading operations.
+     * When not fetched by {@link #GRAPH_DOCUMENTS}, it is initialized in batches to avoid one query per customer.
      */
     @ManyToMany(cascade = CascadeType.ALL)
+    @BatchSize(size = 50)
     @JoinTable(
-            name = "TBL0006_CUSTOMER_DOCUMENT",
+            name = DOCUMENTS_TABLE,
             joinColumns = @JoinColumn(name = "customer_id"),
             inverseJoinColumns = @JoinColumn(name = "document_id")
     )
@@ -81,6 +109,15 @@ public class Customer {
      */
     private LocalDate birthDate;
 
+    /**
+     * The optimistic lock version of the customer.
+     * It is incremented on every update, so a write based on an outdated read is rejected instead of
+     * silently overwriting a concurrent change.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * The timestamp indicating when the customer was created in the system.
      * This field is automatically set when the entity is first created and is not updatable.
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -17,18 +18,51 @@ import java.util.List;
  * and contains information about document type, number, and timestamps.
  */
 @Entity
-@Table(name = "TBL0002_DOCUMENTS")
+@Table(
+        name = "TBL0002_DOCUMENTS",
+        uniqueConstraints = @UniqueConstraint(name = Document.UK_TYPE_NUMBER, columnNames = {"document_type", "number"}),
+        indexes = @Index(name = Document.IX_TYPE_NUMBER_KEY, columnList = "document_type, number_key")
+)
+@NamedEntityGraph(name = Document.GRAPH_CUSTOMERS, attributeNodes = @NamedAttributeNode("customers"))
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
 @Builder
 public class Document {
 
+    /**
+     * Name of the entity graph that loads the document together with its customers.
+     */
+    public static final String GRAPH_CUSTOMERS = "Document.customers";
+
+    /**
+     * Name of the unique constraint that prevents two documents with the same type and number.
+     */
+    public static final String UK_TYPE_NUMBER = "UK_TBL0002_DOCUMENT_TYPE_NUMBER";
+
+    /**
+     * Name of the index used to look documents up by type and {@link #numberKey}.
+     */
+    public static final String IX_TYPE_NUMBER_KEY = "IX_TBL0002_DOCUMENT_TYPE_NUMBER_KEY";
+
+    /**
+     * Name of the database sequence that generates document identifiers.
+     */
+    public static final String SEQUENCE = "TBL0002_DOCUMENTS_SEQ";
+
+    /**
+     * Number of identifiers reserved by each call to {@link #SEQUENCE}; the sequence increments by this value.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     /**
      * The unique identifier for the document.
+     * It is generated from {@link #SEQUENCE}, which is pooled so Hibernate reserves a block of
+     * identifiers per round trip and can batch the inserts.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SEQUENCE)
+    @SequenceGenerator(name = SEQUENCE, sequenceName = SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     /**
@@ -45,16 +79,21 @@ public class Document {
     @Column(nullable = false)
     private String number;
 
+    /**
+     * The digits of {@link #number} as a number, for document types whose number has only digits and a fixed length.
+     * Lookups compare this 8-byte key instead of the text; it is {@code null} when the number has letters,
+     * in which case lookups use {@link #number}.
+     */
+    private Long numberKey;
+
     /**
      * A list of customers associated with this document.
-     * This relationship is managed through a join table.
+     * This is the inverse side of {@link Customer#getDocuments()}: it reads {@link Customer#DOCUMENTS_TABLE}
+     * but never writes it, so each link is stored once. Links are changed through the customer.
+     * When not fetched by {@link #GRAPH_CUSTOMERS}, it is initialized in batches to avoid one query per document.
      */
-    @ManyToMany(cascade = CascadeType.ALL)
-    @JoinTable(
-            name = "TBL0003_CUSTOMERS_CONTACTS",
-            joinColumns = @JoinColumn(name = "customer_id"),
-            inverseJoinColumns = @JoinColumn(name = "document_id")
-    )
+    @ManyToMany(mappedBy = "documents")
+    @BatchSize(size = 50)
     private List<Customer> customers;
 
     /**
@@ -0,0 +1,21 @@
+package br.com.douglasdreer.the_barbers_forge.enums;
+
+/**
+ * <h1>Fetch Plan</h1>
+ * <p>Enumeração que representa os planos de carregamento disponíveis nos repositórios.
+ * Cada plano define quais associações são carregadas junto com a entidade principal,
+ * evitando consultas adicionais (N+1) durante o mapeamento para DTO.</p>
+ *
+ * <p>As páginas das listagens não carregam entidades: são lidas como projeção, com os identificadores da página
+ * ({@code findAllIds} ou {@code findIdsAfter}) e em seguida as linhas desses registros ({@code findRowsByIdIn}).</p>
+ *
+ * @author Douglas Dreer
+ * @version 1.0
+ * @since 0.0.5
+ */
+public enum FetchPlan {
+    /**
+     * Carrega uma única entidade com a primeira associação em uma única consulta.
+     */
+    DETAIL
+}
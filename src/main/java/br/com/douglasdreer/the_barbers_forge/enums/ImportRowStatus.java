@@ -0,0 +1,26 @@
+package br.com.douglasdreer.the_barbers_forge.enums;
+
+/**
+ * <h1>Import Row Status</h1>
+ * <p>Enumeração que representa o resultado de cada linha de uma importação em lote.</p>
+ *
+ * @author Douglas Dreer
+ * @version 1.0
+ * @since 0.0.5
+ */
+public enum ImportRowStatus {
+    /**
+     * A linha foi inserida.
+     */
+    CREATED,
+
+    /**
+     * A linha repete um documento já cadastrado ou outra linha da mesma requisição.
+     */
+    DUPLICATE,
+
+    /**
+     * A linha não passou na validação e não foi inserida.
+     */
+    INVALID
+}
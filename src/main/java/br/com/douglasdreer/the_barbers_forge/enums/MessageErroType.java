@@ -19,7 +19,19 @@ public enum MessageErroType {
      * Erro que ocorre quando um recurso solicitado não é encontrado.
      * Mensagem associada: "There is no result for this request"
      */
-    NOT_FOUND("There is no result for this request");
+    NOT_FOUND("There is no result for this request"),
+
+    /**
+     * Erro que ocorre quando já existe um documento com o mesmo tipo e número.
+     * Mensagem associada: "There is already a document with this type and number"
+     */
+    DOCUMENT_ALREADY_EXISTS("There is already a document with this type and number"),
+
+    /**
+     * Erro que ocorre quando o número não tem o formato ou os dígitos verificadores do tipo de documento.
+     * Mensagem associada: "The document number is not valid for its type"
+     */
+    INVALID_DOCUMENT_NUMBER("The document number is not valid for its type");
     
     /**
      * A mensagem de erro associada ao tipo.
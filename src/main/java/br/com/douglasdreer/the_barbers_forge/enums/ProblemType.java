@@ -0,0 +1,90 @@
+package br.com.douglasdreer.the_barbers_forge.enums;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+
+import java.net.URI;
+
+/**
+ * <h1>Problem Type</h1>
+ * <p>Enumeração dos tipos de erro devolvidos pela API no formato Problem Details (RFC 7807).
+ * Cada tipo guarda o status HTTP, o título e o URI do tipo já montados, de modo que cada resposta de erro
+ * apenas copia esses valores e acrescenta o detalhe da ocorrência.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@Getter
+public enum ProblemType {
+    /**
+     * Valor duplicado em um campo único, como um documento já cadastrado.
+     */
+    DUPLICATE_ENTRY(HttpStatus.BAD_REQUEST, "duplicate-entry", "Duplicate Entry"),
+
+    /**
+     * Parâmetro ou corpo de requisição inválido.
+     */
+    INVALID_PARAMETER(HttpStatus.BAD_REQUEST, "invalid-parameter", "Invalid Parameter"),
+
+    /**
+     * Recurso solicitado inexistente.
+     */
+    RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "resource-not-found", "Resource Not Found"),
+
+    /**
+     * Recurso alterado por outra requisição desde a leitura.
+     */
+    CONFLICT(HttpStatus.CONFLICT, "conflict", "Conflict"),
+
+    /**
+     * Versão informada em {@code If-Match} diferente da versão atual do recurso.
+     */
+    PRECONDITION_FAILED(HttpStatus.PRECONDITION_FAILED, "precondition-failed", "Precondition Failed"),
+
+    /**
+     * Serviço sem conexões disponíveis com o banco de dados.
+     */
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "service-unavailable", "Service Unavailable"),
+
+    /**
+     * Erro inesperado no servidor.
+     */
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "internal-server-error", "Internal Server Error");
+
+    private static final String TYPE_PREFIX = "urn:the-barbers-forge:problem:";
+
+    /**
+     * Status HTTP da resposta.
+     */
+    private final HttpStatus status;
+
+    /**
+     * URI que identifica o tipo de erro.
+     */
+    private final URI type;
+
+    /**
+     * Resumo do tipo de erro, igual para todas as ocorrências.
+     */
+    private final String title;
+
+    ProblemType(HttpStatus status, String slug, String title) {
+        this.status = status;
+        this.type = URI.create(TYPE_PREFIX + slug);
+        this.title = title;
+    }
+
+    /**
+     * Cria o Problem Details de uma ocorrência deste tipo.
+     *
+     * @param detail explicação da ocorrência, apresentada ao cliente
+     * @return novo Problem Details, que pode receber o {@code instance} da requisição
+     */
+    public ProblemDetail toProblemDetail(String detail) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(status, detail);
+        problem.setType(type);
+        problem.setTitle(title);
+        return problem;
+    }
+}
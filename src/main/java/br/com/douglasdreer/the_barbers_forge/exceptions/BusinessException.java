@@ -0,0 +1,36 @@
+package br.com.douglasdreer.the_barbers_forge.exceptions;
+
+/**
+ * <h1>BusinessException</h1>
+ * <p>Base class for exceptions that describe an expected business outcome, such as a resource that does not
+ * exist or a duplicate document. These are answered with a client error and never need a stack trace, so
+ * it is not captured: filling it walks every frame of the request thread, which dominates the cost of
+ * throwing on hot miss paths. Suppressed exceptions are disabled for the same reason.</p>
+ *
+ * <p>Technical failures must not extend this class, so their stack traces stay available in the logs.
+ * When a business exception wraps one, the cause keeps its own stack trace.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    /**
+     * Creates a business exception without a stack trace.
+     *
+     * @param message the error message that explains the outcome
+     */
+    protected BusinessException(String message) {
+        super(message, null, false, false);
+    }
+
+    /**
+     * Creates a business exception without a stack trace, keeping the failure that caused it.
+     *
+     * @param message the error message that explains the outcome
+     * @param cause the underlying failure
+     */
+    protected BusinessException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.douglasdreer.the_barbers_forge.exceptions;
+
+import br.com.douglasdreer.the_barbers_forge.enums.MessageErroType;
+
+/**
+ * <h1>DocumentNotFoundException</h1>
+ * <p>Thrown when a document looked up by identifier or by type and number does not exist.
+ * A miss is a normal outcome of a search, so, like every {@link BusinessException}, it carries no stack trace.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+public class DocumentNotFoundException extends DocumentServiceException {
+
+    /**
+     * Creates the exception with the {@link MessageErroType#NOT_FOUND} message.
+     */
+    public DocumentNotFoundException() {
+        super(MessageErroType.NOT_FOUND.getMessage());
+    }
+}
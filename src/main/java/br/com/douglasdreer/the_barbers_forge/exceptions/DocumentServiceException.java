@@ -1,7 +1,11 @@
 package br.com.douglasdreer.the_barbers_forge.exceptions;
 
-public class DocumentServiceException extends RuntimeException {
+public class DocumentServiceException extends BusinessException {
     public DocumentServiceException(String message) {
         super(message);
     }
+
+    public DocumentServiceException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
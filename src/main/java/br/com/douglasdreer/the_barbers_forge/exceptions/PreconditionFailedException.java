@@ -0,0 +1,15 @@
+package br.com.douglasdreer.the_barbers_forge.exceptions;
+
+/**
+ * <h1>PreconditionFailedException</h1>
+ * <p>Thrown when the version sent in {@code If-Match} is not the current version of the resource, so the
+ * conditional write is refused without changing anything.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+public class PreconditionFailedException extends BusinessException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
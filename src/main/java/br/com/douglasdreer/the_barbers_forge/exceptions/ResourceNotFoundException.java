@@ -1,6 +1,6 @@
 package br.com.douglasdreer.the_barbers_forge.exceptions;
 
-public class ResourceNotFoundException extends RuntimeException {
+public class ResourceNotFoundException extends BusinessException {
     public ResourceNotFoundException(String message) {
         super(message);
     }
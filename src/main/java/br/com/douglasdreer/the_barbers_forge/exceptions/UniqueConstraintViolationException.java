@@ -9,7 +9,7 @@ package br.com.douglasdreer.the_barbers_forge.exceptions;
  * @author Douglas Dreer
  * @since 0.0.1
  */
-public class UniqueConstraintViolationException extends RuntimeException {
+public class UniqueConstraintViolationException extends BusinessException {
 
   /**
    * Constructs a new UniqueConstraintViolationException with the specified detail message.
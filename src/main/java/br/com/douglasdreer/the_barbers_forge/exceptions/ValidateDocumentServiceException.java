@@ -1,6 +1,6 @@
 package br.com.douglasdreer.the_barbers_forge.exceptions;
 
-public class ValidateDocumentServiceException extends RuntimeException {
+public class ValidateDocumentServiceException extends BusinessException {
     public ValidateDocumentServiceException(String message) {
         super(message);
     }
@@ -0,0 +1,22 @@
+package br.com.douglasdreer.the_barbers_forge.repositories;
+
+import br.com.douglasdreer.the_barbers_forge.entities.Customer;
+
+import java.util.Map;
+
+/**
+ * Partial updates of customers that write only the changed columns, without loading the entity.
+ */
+public interface CustomerPatchRepository {
+
+    /**
+     * Updates the given attributes of a customer with a single statement, guarded by its optimistic lock version.
+     * The version is incremented and {@code updatedAt} is refreshed in the same statement.
+     *
+     * @param id the customer identifier
+     * @param expectedVersion the version the changes were based on
+     * @param changes the new values by {@link Customer} attribute name
+     * @return the number of updated rows: {@code 0} if the customer does not exist or its version has changed
+     */
+    int patch(long id, long expectedVersion, Map<String, Object> changes);
+}
@@ -0,0 +1,64 @@
+package br.com.douglasdreer.the_barbers_forge.repositories;
+
+import br.com.douglasdreer.the_barbers_forge.entities.Customer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Criteria implementation of {@link CustomerPatchRepository}, picked up by Spring Data as a fragment of
+ * {@link CustomerRepository}.
+ *
+ * <p>The statement is a bulk update, so it bypasses the persistence context: {@code @Version} and
+ * {@code @UpdateTimestamp} are applied explicitly in the {@code SET} clause. Like the {@code @Modifying}
+ * queries of the repositories, pending changes are flushed before it runs and the persistence context is
+ * cleared afterwards, so the patched customer is read again from the database.</p>
+ */
+class CustomerPatchRepositoryImpl implements CustomerPatchRepository {
+    private static final String ID = "id";
+    private static final String VERSION = "version";
+    private static final String UPDATED_AT = "updatedAt";
+
+    private final EntityManager entityManager;
+
+    CustomerPatchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public int patch(long id, long expectedVersion, Map<String, Object> changes) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Customer> update = builder.createCriteriaUpdate(Customer.class);
+        Root<Customer> customer = update.from(Customer.class);
+
+        changes.forEach((attribute, value) -> {
+            Path<Object> path = customer.get(attribute);
+            if (value == null) {
+                update.<Object>set(path, builder.nullLiteral(javaType(path)));
+            } else {
+                update.set(path, value);
+            }
+        });
+        Path<Long> version = customer.get(VERSION);
+        update.set(version, builder.sum(version, 1L));
+        update.set(customer.<LocalDateTime>get(UPDATED_AT), LocalDateTime.now());
+        update.where(
+                builder.equal(customer.get(ID), id),
+                builder.equal(version, expectedVersion)
+        );
+        entityManager.flush();
+        int updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<Object> javaType(Path<Object> path) {
+        return (Class<Object>) path.getJavaType();
+    }
+}
@@ -1,9 +1,26 @@
 package br.com.douglasdreer.the_barbers_forge.repositories;
 
 import br.com.douglasdreer.the_barbers_forge.entities.Customer;
+import br.com.douglasdreer.the_barbers_forge.enums.FetchPlan;
+import br.com.douglasdreer.the_barbers_forge.repositories.projections.CustomerExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 
 /**
  * <h1>CustomerRepository</h1>
@@ -11,12 +28,204 @@ import org.springframework.stereotype.Repository;
  * This interface extends {@link JpaRepository} to provide basic CRUD operations.
  * It also includes custom queries for specific customer searches.</p>
  *
- * <p>The repository provides methods for finding customers based on their first name and last name.</p>
+ * <p>The repository exposes loading methods per {@link FetchPlan}, so each use case reads
+ * exactly the associations it needs in a fixed number of queries.</p>
  *
  * @author Douglas Dreer
  * @since 0.0.1
  */
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, Long> {
+public interface CustomerRepository extends JpaRepository<Customer, Long>, CustomerPatchRepository, CustomerSearchRepository {
+
+    /**
+     * Number of rows the JDBC driver fetches per round trip while streaming an export.
+     */
+    String EXPORT_FETCH_SIZE = "500";
+
+    /**
+     * Streams every customer joined with its documents, ordered by customer and then document identifier,
+     * so all rows of a customer are consecutive. Rows are fetched from a database cursor in blocks of
+     * {@link #EXPORT_FETCH_SIZE}; the stream must be consumed and closed inside a transaction.
+     *
+     * @return the export rows
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("""
+            select new br.com.douglasdreer.the_barbers_forge.repositories.projections.CustomerExportRow(
+                c.id, c.firstName, c.lastName, c.address, c.phone, c.birthDate, c.version, c.createdAt, c.updatedAt,
+                d.id, d.documentType, d.number)
+            from Customer c left join c.documents d
+            order by c.id, d.id
+            """)
+    Stream<CustomerExportRow> streamAllForExport();
+
+    /**
+     * Reads the given customers joined with their documents as plain rows, ordered like
+     * {@link #streamAllForExport()}. No entity is hydrated, so a list page neither fills the persistence
+     * context nor keeps dirty-checking snapshots.
+     *
+     * @param ids the customer identifiers of the page
+     * @return the rows of the customers, consecutive per customer
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select new br.com.douglasdreer.the_barbers_forge.repositories.projections.CustomerExportRow(
+                c.id, c.firstName, c.lastName, c.address, c.phone, c.birthDate, c.version, c.createdAt, c.updatedAt,
+                d.id, d.documentType, d.number)
+            from Customer c left join c.documents d
+            where c.id in :ids
+            order by c.id, d.id
+            """)
+    List<CustomerExportRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds the optimistic lock version of a customer without loading the entity.
+     *
+     * @param id the customer identifier
+     * @return the current version, if the customer exists
+     */
+    @Query("select c.version from Customer c where c.id = :id")
+    Optional<Long> findVersionById(@Param("id") long id);
+
+    /**
+     * Increments the optimistic lock version of a customer without loading the entity.
+     * Used when the customer representation changes outside its own columns, such as when its document links change,
+     * so that entity tags derived from the version stay strong.
+     *
+     * @param id the customer identifier
+     * @return the number of customers updated ({@code 0} if it does not exist)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Customer c set c.version = c.version + 1 where c.id = :id")
+    int incrementVersion(@Param("id") long id);
+
+    /**
+     * Finds a page of customer identifiers, applying limit and offset in the database.
+     *
+     * @param pageable the pagination information
+     * @return a page with the customer identifiers
+     */
+    @Query(value = "select c.id from Customer c", countQuery = "select count(c) from Customer c")
+    Page<Long> findAllIds(Pageable pageable);
+
+    /**
+     * Finds a slice of customer identifiers greater than the given one (keyset pagination).
+     * No count query is executed and the database seeks on the primary key index instead of skipping rows.
+     *
+     * @param afterId the identifier after which reading starts
+     * @param pageable the slice size, always on the first page and ordered by identifier
+     * @return a slice with the customer identifiers
+     */
+    @Query("select c.id from Customer c where c.id > :afterId")
+    Slice<Long> findIdsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * Finds a customer by its identifier, loading its documents in the same query.
+     *
+     * @param id the customer identifier
+     * @return the customer with its documents, if found
+     */
+    @EntityGraph(Customer.GRAPH_DOCUMENTS)
+    Optional<Customer> findWithDocumentsById(Long id);
+
+    /**
+     * Links a document to a customer with a single insert into {@link Customer#DOCUMENTS_TABLE}.
+     * The insert is skipped when the link already exists, so linking twice has no effect.
+     *
+     * @param customerId the customer identifier
+     * @param documentId the document identifier
+     * @return the number of links created ({@code 0} if it already existed)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "insert into " + Customer.DOCUMENTS_TABLE + " (customer_id, document_id) "
+            + "select :customerId, :documentId where not exists ("
+            + "select 1 from " + Customer.DOCUMENTS_TABLE + " where customer_id = :customerId and document_id = :documentId)",
+            nativeQuery = true)
+    int linkDocument(@Param("customerId") long customerId, @Param("documentId") long documentId);
+
+    /**
+     * Removes the link between a customer and a document with a single delete.
+     *
+     * @param customerId the customer identifier
+     * @param documentId the document identifier
+     * @return the number of links removed ({@code 0} if they were not linked)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from " + Customer.DOCUMENTS_TABLE + " where customer_id = :customerId and document_id = :documentId",
+            nativeQuery = true)
+    int unlinkDocument(@Param("customerId") long customerId, @Param("documentId") long documentId);
+
+    /**
+     * Links the given documents to a customer with a single set-based insert into {@link Customer#DOCUMENTS_TABLE}.
+     * Documents that do not exist or are already linked are skipped; no collection is loaded.
+     *
+     * @param customerId the customer identifier
+     * @param documentIds the document identifiers
+     * @return the number of links created
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "insert into " + Customer.DOCUMENTS_TABLE + " (customer_id, document_id) "
+            + "select :customerId, d.id from TBL0002_DOCUMENTS d where d.id in (:documentIds) and not exists ("
+            + "select 1 from " + Customer.DOCUMENTS_TABLE + " l where l.customer_id = :customerId and l.document_id = d.id)",
+            nativeQuery = true)
+    int linkDocuments(@Param("customerId") long customerId, @Param("documentIds") Collection<Long> documentIds);
+
+    /**
+     * Removes the links between a customer and the given documents with a single set-based delete.
+     *
+     * @param customerId the customer identifier
+     * @param documentIds the document identifiers
+     * @return the number of links removed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from " + Customer.DOCUMENTS_TABLE + " where customer_id = :customerId and document_id in (:documentIds)",
+            nativeQuery = true)
+    int unlinkDocuments(@Param("customerId") long customerId, @Param("documentIds") Collection<Long> documentIds);
+
+    /**
+     * Removes every document link of the given customers with a single set-based delete, keeping the documents.
+     *
+     * @param customerIds the customer identifiers
+     * @return the number of links removed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from " + Customer.DOCUMENTS_TABLE + " where customer_id in (:customerIds)", nativeQuery = true)
+    int deleteDocumentLinks(@Param("customerIds") Collection<Long> customerIds);
+
+    /**
+     * Deletes the given customers with a single statement, without loading them or walking their documents.
+     * Their links must be removed first with {@link #deleteDocumentLinks(Collection)}; the query is native because
+     * a JPQL bulk delete would also clear {@link Customer#DOCUMENTS_TABLE} on its own, repeating that statement.
+     *
+     * @param ids the customer identifiers
+     * @return the number of customers deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from TBL0001_CUSTOMERS where id in (:ids)", nativeQuery = true)
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Deletes a customer only while it is still at the given version, with a single statement.
+     * Its links must be removed first with {@link #deleteDocumentLinks(Collection)}.
+     *
+     * @param id the customer identifier
+     * @param version the version the customer must still have
+     * @return 1 if the customer was deleted, 0 if it does not exist or is at another version
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from TBL0001_CUSTOMERS where id = :id and version = :version", nativeQuery = true)
+    int deleteByIdAndVersion(@Param("id") long id, @Param("version") long version);
 
+    /**
+     * Finds a customer by its identifier following the given {@link FetchPlan}.
+     *
+     * @param id the customer identifier
+     * @param plan the fetch plan for the use case
+     * @return the customer, if found
+     */
+    default Optional<Customer> findById(Long id, FetchPlan plan) {
+        return switch (plan) {
+            case DETAIL -> findWithDocumentsById(id);
+        };
+    }
 }
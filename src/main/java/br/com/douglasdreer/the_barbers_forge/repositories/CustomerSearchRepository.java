@@ -0,0 +1,55 @@
+package br.com.douglasdreer.the_barbers_forge.repositories;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Name search over customers, ranked by how well the full name matches the query.
+ */
+public interface CustomerSearchRepository {
+
+    /**
+     * Finds the customers whose full name best matches the query, ignoring case and accents.
+     *
+     * @param query the name, or part of it, as typed
+     * @param limit the maximum number of customers returned
+     * @return the customer identifiers, best match first
+     */
+    List<Long> searchIdsByName(String query, int limit);
+
+    /**
+     * Scans the identifier and names of every customer, in no particular order, without loading the entities.
+     *
+     * @param consumer receives each customer
+     */
+    void forEachName(NameConsumer consumer);
+
+    /**
+     * Folds a name or query for comparison: lower case, without accents and with single spaces between words.
+     *
+     * @param text the text as typed or stored
+     * @return the folded text
+     */
+    static String fold(String text) {
+        String withoutMarks = Folding.MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return Folding.SPACES.matcher(withoutMarks.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Receives the names of one customer during {@link #forEachName(NameConsumer)}.
+     */
+    @FunctionalInterface
+    interface NameConsumer {
+        void accept(long id, String firstName, String lastName);
+    }
+
+    final class Folding {
+        private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+        private static final Pattern SPACES = Pattern.compile("\\s+");
+
+        private Folding() {
+        }
+    }
+}
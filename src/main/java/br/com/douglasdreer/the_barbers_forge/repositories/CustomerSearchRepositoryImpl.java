@@ -0,0 +1,69 @@
+package br.com.douglasdreer.the_barbers_forge.repositories;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link CustomerSearchRepository}, picked up by Spring Data as a fragment of
+ * {@link CustomerRepository}.
+ *
+ * <p>On PostgreSQL the query is matched with the {@code pg_trgm} word similarity operator against
+ * {@code f_unaccent(lower(first_name || ' ' || last_name))}, the expression covered by the GIN trigram index
+ * created by {@code db/schema/customer_name_search.sql} once Hibernate has built the schema, and ranked by
+ * {@code word_similarity}. Other databases, such as the H2 used by the tests, fall back to a substring match on
+ * the same expression with the accents of Portuguese removed by {@code TRANSLATE}, ranked by the position of
+ * the match.</p>
+ *
+ * <p>The query is folded the same way in Java, with {@link CustomerSearchRepository#fold(String)}.</p>
+ */
+class CustomerSearchRepositoryImpl implements CustomerSearchRepository {
+    private static final String TRIGRAM_SEARCH = """
+            SELECT id FROM TBL0001_CUSTOMERS
+            WHERE ? <% f_unaccent(lower(first_name || ' ' || last_name))
+            ORDER BY word_similarity(?, f_unaccent(lower(first_name || ' ' || last_name))) DESC, id
+            LIMIT ?
+            """;
+    private static final String FOLDED_NAME = "TRANSLATE(LOWER(first_name || ' ' || last_name), "
+            + "'áàâãäéèêëíìîïóòôõöúùûüçñ', 'aaaaaeeeeiiiiooooouuuucn')";
+    private static final String SUBSTRING_SEARCH = """
+            SELECT id FROM TBL0001_CUSTOMERS
+            WHERE LOCATE(?, %1$s) > 0
+            ORDER BY LOCATE(?, %1$s), CHAR_LENGTH(first_name) + CHAR_LENGTH(last_name), id
+            LIMIT ?
+            """.formatted(FOLDED_NAME);
+    private static final String SELECT_ALL_NAMES = "SELECT id, first_name, last_name FROM TBL0001_CUSTOMERS";
+    private static final int SCAN_FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String search;
+
+    CustomerSearchRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        boolean postgres = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+        this.search = postgres ? TRIGRAM_SEARCH : SUBSTRING_SEARCH;
+    }
+
+    @Override
+    public List<Long> searchIdsByName(String query, int limit) {
+        String folded = CustomerSearchRepository.fold(query);
+        return jdbcTemplate.queryForList(search, Long.class, folded, folded, limit);
+    }
+
+    @Override
+    public void forEachName(NameConsumer consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_ALL_NAMES);
+            statement.setFetchSize(SCAN_FETCH_SIZE);
+            return statement;
+        }, rs -> {
+            consumer.accept(rs.getLong(1), rs.getString(2), rs.getString(3));
+        });
+    }
+}
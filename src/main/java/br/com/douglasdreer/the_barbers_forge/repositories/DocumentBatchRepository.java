@@ -0,0 +1,39 @@
+package br.com.douglasdreer.the_barbers_forge.repositories;
+
+import br.com.douglasdreer.the_barbers_forge.entities.Document;
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import org.springframework.data.util.Pair;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Set-based operations over documents, implemented with plain JDBC for bulk imports.
+ */
+public interface DocumentBatchRepository {
+
+    /**
+     * Returns which of the given type and number pairs are already registered, in a single query.
+     *
+     * @param keys the type and number pairs to look up
+     * @return the pairs that already exist
+     */
+    Set<Pair<DocumentType, String>> findExistingTypeAndNumbers(Collection<Pair<DocumentType, String>> keys);
+
+    /**
+     * Reads the type and number of every document, in fetch-size blocks, without loading entities.
+     * Must run inside a transaction so the driver can use a cursor instead of reading the whole table at once.
+     *
+     * @param consumer receives the type and number of each document
+     */
+    void forEachTypeAndNumber(BiConsumer<DocumentType, String> consumer);
+
+    /**
+     * Inserts the given documents with JDBC batch statements, bypassing the persistence context.
+     *
+     * @param documents the documents to insert
+     */
+    void insertAll(List<Document> documents);
+}
@@ -0,0 +1,112 @@
+package br.com.douglasdreer.the_barbers_forge.repositories;
+
+import br.com.douglasdreer.the_barbers_forge.entities.Document;
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.util.Pair;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * JDBC implementation of {@link DocumentBatchRepository}, picked up by Spring Data as a fragment of
+ * {@link DocumentRepository}.
+ *
+ * <p>Identifiers come from {@link Document#SEQUENCE} the same way Hibernate's pooled optimizer takes them:
+ * each sequence value {@code v} reserves the block {@code (v - allocationSize, v]}, so rows inserted here never
+ * collide with rows persisted through JPA.</p>
+ */
+class DocumentBatchRepositoryImpl implements DocumentBatchRepository {
+    private static final String SELECT_EXISTING =
+            "SELECT document_type, number FROM TBL0002_DOCUMENTS WHERE (document_type, number) IN (%s)";
+    private static final String SELECT_ALL_TYPE_AND_NUMBERS = "SELECT document_type, number FROM TBL0002_DOCUMENTS";
+    private static final int SCAN_FETCH_SIZE = 500;
+    private static final String INSERT =
+            "INSERT INTO TBL0002_DOCUMENTS (id, document_type, number, number_key, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nextSequenceValue;
+
+    DocumentBatchRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nextSequenceValue = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect()
+                .getSequenceSupport()
+                .getSequenceNextValString(Document.SEQUENCE);
+    }
+
+    @Override
+    public Set<Pair<DocumentType, String>> findExistingTypeAndNumbers(Collection<Pair<DocumentType, String>> keys) {
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+        String sql = SELECT_EXISTING.formatted(String.join(", ", Collections.nCopies(keys.size(), "(?, ?)")));
+        List<Object> args = new ArrayList<>(keys.size() * 2);
+        for (Pair<DocumentType, String> key : keys) {
+            args.add(key.getFirst().name());
+            args.add(key.getSecond());
+        }
+        Set<Pair<DocumentType, String>> existing = new HashSet<>();
+        jdbcTemplate.query(sql, rs -> {
+            existing.add(Pair.of(DocumentType.valueOf(rs.getString(1)), rs.getString(2)));
+        }, args.toArray());
+        return existing;
+    }
+
+    @Override
+    public void forEachTypeAndNumber(BiConsumer<DocumentType, String> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_ALL_TYPE_AND_NUMBERS);
+            statement.setFetchSize(SCAN_FETCH_SIZE);
+            return statement;
+        }, rs -> {
+            consumer.accept(DocumentType.valueOf(rs.getString(1)), rs.getString(2));
+        });
+    }
+
+    @Override
+    public void insertAll(List<Document> documents) {
+        assignIds(documents);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT, documents, documents.size(), (ps, document) -> {
+            ps.setLong(1, document.getId());
+            ps.setString(2, document.getDocumentType().name());
+            ps.setString(3, document.getNumber());
+            ps.setObject(4, document.getNumberKey(), Types.BIGINT);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+    }
+
+    private void assignIds(List<Document> documents) {
+        long next = 0;
+        long last = -1;
+        for (Document document : documents) {
+            if (next > last) {
+                last = reserveBlock();
+                next = last - Document.ID_ALLOCATION_SIZE + 1;
+            }
+            document.setId(next++);
+        }
+    }
+
+    private long reserveBlock() {
+        long value;
+        do {
+            value = jdbcTemplate.queryForObject(nextSequenceValue, Long.class);
+        } while (value < Document.ID_ALLOCATION_SIZE);
+        return value;
+    }
+}
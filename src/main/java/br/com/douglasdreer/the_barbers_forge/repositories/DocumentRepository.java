@@ -1,14 +1,93 @@
 package br.com.douglasdreer.the_barbers_forge.repositories;
 
+import br.com.douglasdreer.the_barbers_forge.entities.Customer;
 import br.com.douglasdreer.the_barbers_forge.entities.Document;
 import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import br.com.douglasdreer.the_barbers_forge.enums.FetchPlan;
+import br.com.douglasdreer.the_barbers_forge.repositories.projections.CustomerVersionRow;
+import br.com.douglasdreer.the_barbers_forge.repositories.projections.DocumentExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface DocumentRepository extends JpaRepository<Document, Long> {
+public interface DocumentRepository extends JpaRepository<Document, Long>, DocumentBatchRepository {
+    String EXPORT_FETCH_SIZE = "500";
+
     Optional<Document> findByDocumentTypeAndNumber(DocumentType documentType, String number);
 
+    Optional<Document> findByDocumentTypeAndNumberKey(DocumentType documentType, long numberKey);
+
+    @Query(value = "select d.id from Document d", countQuery = "select count(d) from Document d")
+    Page<Long> findAllIds(Pageable pageable);
+
+    @Query("select d.id from Document d where d.id > :afterId")
+    Slice<Long> findIdsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("select d.id from Document d where d.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(Document.GRAPH_CUSTOMERS)
+    Optional<Document> findWithCustomersById(Long id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("""
+            select new br.com.douglasdreer.the_barbers_forge.repositories.projections.DocumentExportRow(
+                d.id, d.documentType, d.number, d.createdAt, d.updatedAt, c.id, c.firstName, c.lastName, c.version)
+            from Document d left join d.customers c
+            order by d.id, c.id
+            """)
+    Stream<DocumentExportRow> streamAllForExport();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select new br.com.douglasdreer.the_barbers_forge.repositories.projections.DocumentExportRow(
+                d.id, d.documentType, d.number, d.createdAt, d.updatedAt, c.id, c.firstName, c.lastName, c.version)
+            from Document d left join d.customers c
+            where d.id in :ids
+            order by d.id, c.id
+            """)
+    List<DocumentExportRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select new br.com.douglasdreer.the_barbers_forge.repositories.projections.CustomerVersionRow(c.id, c.version)
+            from Document d left join d.customers c
+            where d.id = :id
+            order by c.id
+            """)
+    List<CustomerVersionRow> findCustomerVersionsById(@Param("id") long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update TBL0001_CUSTOMERS set version = version + 1 where id in ("
+            + "select customer_id from " + Customer.DOCUMENTS_TABLE + " where document_id = :documentId)",
+            nativeQuery = true)
+    int incrementCustomerVersions(@Param("documentId") long documentId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from " + Customer.DOCUMENTS_TABLE + " where document_id = :documentId", nativeQuery = true)
+    int deleteCustomerLinks(@Param("documentId") long documentId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Document d where d.id = :id")
+    int deleteDocument(@Param("id") long id);
+
+    default Optional<Document> findById(Long id, FetchPlan plan) {
+        return switch (plan) {
+            case DETAIL -> findWithCustomersById(id);
+        };
+    }
 }
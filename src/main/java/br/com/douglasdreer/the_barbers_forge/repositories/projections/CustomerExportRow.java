@@ -0,0 +1,34 @@
+package br.com.douglasdreer.the_barbers_forge.repositories.projections;
+
+import br.com.douglasdreer.the_barbers_forge.entities.Customer;
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * <h1>CustomerExportRow</h1>
+ * <p>One row of the customer export: the columns of a {@link Customer} joined with one of its documents.
+ * A customer without documents yields a single row whose document columns are {@code null}.</p>
+ *
+ * <p>Rows are read as plain values, never as managed entities, so streaming them does not grow the
+ * persistence context. The paginated customer lists read the same rows for the identifiers of a page.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+public record CustomerExportRow(
+        Long id,
+        String firstName,
+        String lastName,
+        String address,
+        String phone,
+        LocalDate birthDate,
+        Long version,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long documentId,
+        DocumentType documentType,
+        String documentNumber
+) {
+}
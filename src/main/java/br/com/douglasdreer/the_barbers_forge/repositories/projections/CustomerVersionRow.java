@@ -0,0 +1,16 @@
+package br.com.douglasdreer.the_barbers_forge.repositories.projections;
+
+/**
+ * <h1>CustomerVersionRow</h1>
+ * <p>The identifier and optimistic lock version of one customer linked to a document, read without loading
+ * either entity. A document without customers yields a single row whose columns are {@code null}, so an empty
+ * result means the document does not exist.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+public record CustomerVersionRow(
+        Long customerId,
+        Long customerVersion
+) {
+}
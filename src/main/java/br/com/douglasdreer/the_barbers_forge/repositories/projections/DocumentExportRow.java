@@ -0,0 +1,30 @@
+package br.com.douglasdreer.the_barbers_forge.repositories.projections;
+
+import br.com.douglasdreer.the_barbers_forge.entities.Document;
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+
+import java.time.LocalDateTime;
+
+/**
+ * <h1>DocumentExportRow</h1>
+ * <p>One row of the document export: the columns of a {@link Document} joined with one of its customers.
+ * A document without customers yields a single row whose customer columns are {@code null}.</p>
+ *
+ * <p>Rows are read as plain values, never as managed entities, so streaming them does not grow the
+ * persistence context. The paginated document lists read the same rows for the identifiers of a page.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+public record DocumentExportRow(
+        Long id,
+        DocumentType documentType,
+        String number,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long customerId,
+        String customerFirstName,
+        String customerLastName,
+        Long customerVersion
+) {
+}
@@ -0,0 +1,606 @@
+package br.com.douglasdreer.the_barbers_forge.services;
+
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerSuggestionDTO;
+import br.com.douglasdreer.the_barbers_forge.repositories.CustomerRepository;
+import br.com.douglasdreer.the_barbers_forge.repositories.CustomerSearchRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <h1>Customer Name Index</h1>
+ * <p>
+ * Índice em memória dos nomes dos clientes, usado pelo autocompletar da recepção, que faz uma requisição a cada
+ * tecla digitada. Cada cliente entra com uma chave por palavra do nome completo normalizado
+ * ({@link CustomerSearchRepository#fold(String)}): {@code "João da Silva"} gera {@code "joao da silva"},
+ * {@code "da silva"} e {@code "silva"}, de modo que o prefixo de qualquer palavra, ou de palavras seguidas, encontra o cliente.
+ * </p>
+ *
+ * <p>
+ * As chaves ficam em vetores ordenados e a consulta é uma busca binária seguida da leitura das chaves que começam
+ * com o prefixo, sem acessar o banco e sem bloquear. Uma chave não copia o nome: guarda a referência ao nome
+ * normalizado do cliente e a posição da palavra, cerca de 12 bytes por palavra; cada cliente ocupa ainda o nome
+ * normalizado, a sugestão devolvida e a sua entrada na lista ordenada pelo identificador, em torno de 220 bytes
+ * para um nome comum.
+ * </p>
+ *
+ * <p>
+ * O índice é montado quando a aplicação sobe e remontado periodicamente, o que também traz as alterações feitas
+ * por outras instâncias. Até a primeira montagem terminar, a consulta não encontra os clientes já cadastrados.
+ * As inclusões, alterações e exclusões não copiam os vetores montados: depois do commit, as chaves novas entram em
+ * vetores ordenados pequenos e os clientes montados que mudaram entram em um conjunto de excluídos, cujas chaves
+ * montadas a consulta ignora ao intercalar os dois vetores. Cada alteração copia apenas esses vetores pequenos;
+ * quando passam de {@value #FOLD_THRESHOLD} itens, ou na próxima montagem, são incorporados aos vetores montados.
+ * As consultas em andamento continuam lendo o estado anterior, e as alterações feitas durante uma montagem são
+ * reaplicadas sobre o índice montado.
+ * </p>
+ *
+ * <p>Publica a métrica {@code customers.name.index.entries}, a quantidade de chaves do índice.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@Component
+public class CustomerNameIndex implements MeterBinder {
+    /**
+     * Quantidade de chaves incluídas, ou de clientes montados excluídos, a partir da qual são incorporados aos
+     * vetores montados.
+     */
+    static final int FOLD_THRESHOLD = 1024;
+
+    private final CustomerRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final Object rebuildLock = new Object();
+
+    private volatile Snapshot current = Snapshot.EMPTY;
+    private List<Change> pending;
+
+    /**
+     * Construtor que recebe as dependências por injeção de dependência.
+     *
+     * @param repository repositório de clientes
+     * @param transactionManager gerenciador da transação de leitura usada na montagem
+     */
+    public CustomerNameIndex(CustomerRepository repository, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Monta o índice a partir dos clientes cadastrados, quando a aplicação sobe e depois periodicamente.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.customers.name-index.rebuild-interval:PT1H}",
+            initialDelayString = "${app.customers.name-index.rebuild-interval:PT1H}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                pending = new ArrayList<>();
+            }
+            try {
+                List<Entry> entries = new ArrayList<>();
+                transactionTemplate.executeWithoutResult(status -> repository.forEachName(
+                        (id, firstName, lastName) -> addEntries(entries, new CustomerSuggestionDTO(id, firstName, lastName))));
+                entries.sort(Entry.ORDER);
+                Snapshot snapshot = Snapshot.of(entries);
+                synchronized (this) {
+                    for (Change change : pending) {
+                        snapshot = snapshot.with(change);
+                    }
+                    current = snapshot;
+                }
+            } finally {
+                synchronized (this) {
+                    pending = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Busca os clientes com alguma palavra do nome que comece com o prefixo, sem diferenciar maiúsculas nem acentos.
+     *
+     * @param prefix início do nome como foi digitado
+     * @param limit quantidade máxima de clientes
+     * @return os clientes, na ordem alfabética da palavra encontrada
+     */
+    public List<CustomerSuggestionDTO> autocomplete(String prefix, int limit) {
+        return current.find(CustomerSearchRepository.fold(prefix), limit);
+    }
+
+    /**
+     * Inclui o cliente no índice, ou substitui os seus nomes, depois do commit da transação em andamento.
+     *
+     * @param id identificador do cliente
+     * @param firstName primeiro nome
+     * @param lastName sobrenome
+     */
+    public void put(long id, String firstName, String lastName) {
+        List<Entry> entries = new ArrayList<>();
+        addEntries(entries, new CustomerSuggestionDTO(id, firstName, lastName));
+        entries.sort(Entry.ORDER);
+        afterCommit(new Change(Set.of(id), entries));
+    }
+
+    /**
+     * Remove os clientes do índice depois do commit da transação em andamento.
+     *
+     * @param ids identificadores dos clientes
+     */
+    public void remove(Collection<Long> ids) {
+        afterCommit(new Change(Set.copyOf(ids), List.of()));
+    }
+
+    /**
+     * Quantidade de chaves do índice, uma por palavra do nome de cada cliente.
+     *
+     * @return a quantidade de chaves
+     */
+    public int size() {
+        return current.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("customers.name.index.entries", this, CustomerNameIndex::size)
+                .description("Words of customer names held by the autocomplete index")
+                .register(registry);
+    }
+
+    private void afterCommit(Change change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    private synchronized void apply(Change change) {
+        current = current.with(change);
+        if (pending != null) {
+            pending.add(change);
+        }
+    }
+
+    private static void addEntries(List<Entry> entries, CustomerSuggestionDTO customer) {
+        String name = CustomerSearchRepository.fold(join(customer.getFirstName(), customer.getLastName()));
+        if (name.isEmpty()) {
+            return;
+        }
+        entries.add(new Entry(name, 0, customer));
+        for (int i = name.indexOf(' '); i >= 0; i = name.indexOf(' ', i + 1)) {
+            entries.add(new Entry(name, i + 1, customer));
+        }
+    }
+
+    private static String join(String firstName, String lastName) {
+        if (firstName == null) {
+            return lastName == null ? "" : lastName;
+        }
+        return lastName == null ? firstName : firstName + " " + lastName;
+    }
+
+    /**
+     * Compara o trecho de {@code a} a partir de {@code aFrom} com o trecho de {@code b} a partir de {@code bFrom}.
+     */
+    private static int compare(String a, int aFrom, String b, int bFrom) {
+        int aLength = a.length() - aFrom;
+        int bLength = b.length() - bFrom;
+        int length = Math.min(aLength, bLength);
+        for (int i = 0; i < length; i++) {
+            int difference = a.charAt(aFrom + i) - b.charAt(bFrom + i);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return aLength - bLength;
+    }
+
+    /**
+     * Chave do índice: a palavra do nome normalizado que começa em {@code offset}, seguida do restante do nome.
+     */
+    private record Entry(String name, int offset, CustomerSuggestionDTO customer) {
+        static final Comparator<Entry> ORDER = (a, b) -> {
+            int result = compare(a.name, a.offset, b.name, b.offset);
+            return result != 0 ? result : Long.compare(a.customer.getId(), b.customer.getId());
+        };
+    }
+
+    /**
+     * Alteração do índice: remove as chaves dos clientes em {@code ids} e inclui {@code entries}, já ordenadas.
+     */
+    private record Change(Set<Long> ids, List<Entry> entries) {
+    }
+
+    /**
+     * Estado imutável do índice: os vetores montados, as chaves incluídas depois da montagem e os clientes da
+     * montagem que foram alterados ou excluídos desde então, cujas chaves montadas a consulta ignora.
+     */
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(Keys.EMPTY, Customers.EMPTY, Keys.EMPTY, new long[0], 0);
+
+        private final Keys base;
+        private final Customers baseCustomers;
+        private final Keys delta;
+        private final long[] removed;
+        private final int hidden;
+
+        private Snapshot(Keys base, Customers baseCustomers, Keys delta, long[] removed, int hidden) {
+            this.base = base;
+            this.baseCustomers = baseCustomers;
+            this.delta = delta;
+            this.removed = removed;
+            this.hidden = hidden;
+        }
+
+        static Snapshot of(List<Entry> entries) {
+            Keys base = Keys.of(entries);
+            return new Snapshot(base, Customers.of(base), Keys.EMPTY, EMPTY.removed, 0);
+        }
+
+        int size() {
+            return base.size() - hidden + delta.size();
+        }
+
+        /**
+         * Percorre as chaves montadas e as incluídas na ordem das chaves, a partir da primeira que não é menor que o
+         * prefixo, ignorando as chaves montadas dos clientes alterados ou excluídos.
+         */
+        List<CustomerSuggestionDTO> find(String prefix, int limit) {
+            List<CustomerSuggestionDTO> result = new ArrayList<>(Math.min(limit, 16));
+            int i = base.lowerBound(prefix);
+            int j = delta.lowerBound(prefix);
+            while (result.size() < limit) {
+                i = nextVisible(i);
+                boolean inBase = i < base.size() && base.startsWith(i, prefix);
+                boolean inDelta = j < delta.size() && delta.startsWith(j, prefix);
+                if (!inBase && !inDelta) {
+                    break;
+                }
+                CustomerSuggestionDTO customer = inBase && (!inDelta || base.compare(i, delta, j) < 0)
+                        ? base.customer(i++)
+                        : delta.customer(j++);
+                if (!contains(result, customer)) {
+                    result.add(customer);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Aplica a alteração copiando apenas as chaves incluídas e os clientes ocultados, que são poucos; quando
+         * passam de {@link #FOLD_THRESHOLD}, são incorporados aos vetores montados.
+         */
+        Snapshot with(Change change) {
+            Keys changedDelta = delta.without(change.ids()).plus(change.entries());
+            long[] changedRemoved = removed;
+            int changedHidden = hidden;
+            for (long id : change.ids()) {
+                int count = baseCustomers.count(id);
+                int at = Arrays.binarySearch(changedRemoved, id);
+                if (count > 0 && at < 0) {
+                    changedRemoved = insert(changedRemoved, -at - 1, id);
+                    changedHidden += count;
+                }
+            }
+            Snapshot snapshot = new Snapshot(base, baseCustomers, changedDelta, changedRemoved, changedHidden);
+            return changedDelta.size() > FOLD_THRESHOLD || changedRemoved.length > FOLD_THRESHOLD ? snapshot.fold() : snapshot;
+        }
+
+        /**
+         * Intercala as chaves montadas visíveis com as incluídas em novos vetores montados, sem reordenar: as posições
+         * das chaves ocultadas são achadas pelos nomes dos seus clientes, e os trechos entre elas e os pontos de
+         * inclusão são copiados em blocos.
+         */
+        private Snapshot fold() {
+            int[] hiddenAt = new int[hidden];
+            int count = 0;
+            for (long id : removed) {
+                List<Entry> entries = new ArrayList<>();
+                addEntries(entries, baseCustomers.customer(id));
+                for (Entry entry : entries) {
+                    hiddenAt[count++] = base.insertionPoint(entry) - 1;
+                }
+            }
+            Arrays.sort(hiddenAt);
+            Keys folded = new Keys(size());
+            int from = 0;
+            int to = 0;
+            int h = 0;
+            for (int j = 0; j <= delta.size(); j++) {
+                int at = j < delta.size() ? base.insertionPoint(delta, j) : base.size();
+                for (; h < hiddenAt.length && hiddenAt[h] < at; h++) {
+                    folded.copy(base, from, to, hiddenAt[h] - from);
+                    to += hiddenAt[h] - from;
+                    from = hiddenAt[h] + 1;
+                }
+                folded.copy(base, from, to, at - from);
+                to += at - from;
+                from = at;
+                if (j < delta.size()) {
+                    folded.copy(delta, j, to++, 1);
+                }
+            }
+            return new Snapshot(folded, baseCustomers.merge(removed, Customers.of(delta)), Keys.EMPTY, EMPTY.removed, 0);
+        }
+
+        private int nextVisible(int i) {
+            while (removed.length > 0 && i < base.size() && Arrays.binarySearch(removed, base.customer(i).getId()) >= 0) {
+                i++;
+            }
+            return i;
+        }
+
+        private static long[] insert(long[] values, int at, long value) {
+            long[] result = new long[values.length + 1];
+            System.arraycopy(values, 0, result, 0, at);
+            result[at] = value;
+            System.arraycopy(values, at, result, at + 1, values.length - at);
+            return result;
+        }
+
+        private static boolean contains(List<CustomerSuggestionDTO> customers, CustomerSuggestionDTO customer) {
+            for (CustomerSuggestionDTO existing : customers) {
+                if (existing.getId().equals(customer.getId())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Vetores paralelos e imutáveis com as chaves ordenadas pela palavra e pelo identificador do cliente.
+     */
+    private static final class Keys {
+        static final Keys EMPTY = new Keys(0);
+
+        private final String[] names;
+        private final int[] offsets;
+        private final CustomerSuggestionDTO[] customers;
+
+        private Keys(String[] names, int[] offsets, CustomerSuggestionDTO[] customers) {
+            this.names = names;
+            this.offsets = offsets;
+            this.customers = customers;
+        }
+
+        private Keys(int size) {
+            this(new String[size], new int[size], new CustomerSuggestionDTO[size]);
+        }
+
+        static Keys of(List<Entry> entries) {
+            Keys keys = new Keys(entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                keys.set(i, entries.get(i));
+            }
+            return keys;
+        }
+
+        int size() {
+            return names.length;
+        }
+
+        CustomerSuggestionDTO customer(int i) {
+            return customers[i];
+        }
+
+        boolean startsWith(int i, String prefix) {
+            return names[i].startsWith(prefix, offsets[i]);
+        }
+
+        int compare(int i, Keys other, int j) {
+            int result = CustomerNameIndex.compare(names[i], offsets[i], other.names[j], other.offsets[j]);
+            return result != 0 ? result : Long.compare(customers[i].getId(), other.customers[j].getId());
+        }
+
+        /**
+         * Gera os vetores sem as chaves dos clientes em {@code ids}, copiando em blocos os trechos entre as posições
+         * removidas.
+         */
+        Keys without(Set<Long> ids) {
+            int[] removed = new int[4];
+            int count = 0;
+            for (int i = 0; i < customers.length; i++) {
+                if (ids.contains(customers[i].getId())) {
+                    if (count == removed.length) {
+                        removed = Arrays.copyOf(removed, count * 2);
+                    }
+                    removed[count++] = i;
+                }
+            }
+            if (count == 0) {
+                return this;
+            }
+            Keys keys = new Keys(names.length - count);
+            int from = 0;
+            int to = 0;
+            for (int k = 0; k <= count; k++) {
+                int end = k < count ? removed[k] : names.length;
+                keys.copy(this, from, to, end - from);
+                to += end - from;
+                from = end + 1;
+            }
+            return keys;
+        }
+
+        /**
+         * Gera os vetores com as chaves incluídas, já ordenadas, copiando em blocos os trechos entre elas.
+         */
+        Keys plus(List<Entry> added) {
+            if (added.isEmpty()) {
+                return this;
+            }
+            Keys keys = new Keys(names.length + added.size());
+            int from = 0;
+            int to = 0;
+            for (Entry entry : added) {
+                int at = insertionPoint(entry);
+                keys.copy(this, from, to, at - from);
+                to += at - from;
+                from = at;
+                keys.set(to++, entry);
+            }
+            keys.copy(this, from, to, names.length - from);
+            return keys;
+        }
+
+        int lowerBound(String prefix) {
+            int low = 0;
+            int high = names.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (CustomerNameIndex.compare(names[middle], offsets[middle], prefix, 0) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Posição em que a chave {@code j} de {@code other} entraria nestes vetores, depois das chaves iguais.
+         */
+        int insertionPoint(Keys other, int j) {
+            int low = 0;
+            int high = names.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (compare(middle, other, j) > 0) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return low;
+        }
+
+        int insertionPoint(Entry entry) {
+            int low = 0;
+            int high = names.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (isBefore(entry, middle)) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return low;
+        }
+
+        private boolean isBefore(Entry entry, int i) {
+            int result = CustomerNameIndex.compare(entry.name(), entry.offset(), names[i], offsets[i]);
+            return result != 0 ? result < 0 : entry.customer().getId() < customers[i].getId();
+        }
+
+        private void copy(Keys source, int from, int to, int length) {
+            System.arraycopy(source.names, from, names, to, length);
+            System.arraycopy(source.offsets, from, offsets, to, length);
+            System.arraycopy(source.customers, from, customers, to, length);
+        }
+
+        private void set(int i, Entry entry) {
+            names[i] = entry.name();
+            offsets[i] = entry.offset();
+            customers[i] = entry.customer();
+        }
+    }
+
+    /**
+     * Clientes dos vetores montados, ordenados pelo identificador, com a quantidade de chaves de cada um.
+     */
+    private static final class Customers {
+        static final Customers EMPTY = new Customers(new long[0], new CustomerSuggestionDTO[0], new int[0]);
+
+        private final long[] ids;
+        private final CustomerSuggestionDTO[] customers;
+        private final int[] counts;
+
+        private Customers(long[] ids, CustomerSuggestionDTO[] customers, int[] counts) {
+            this.ids = ids;
+            this.customers = customers;
+            this.counts = counts;
+        }
+
+        static Customers of(Keys keys) {
+            CustomerSuggestionDTO[] all = new CustomerSuggestionDTO[keys.size()];
+            for (int i = 0; i < all.length; i++) {
+                all[i] = keys.customer(i);
+            }
+            Arrays.sort(all, Comparator.comparing(CustomerSuggestionDTO::getId));
+            long[] ids = new long[all.length];
+            CustomerSuggestionDTO[] customers = new CustomerSuggestionDTO[all.length];
+            int[] counts = new int[all.length];
+            int size = 0;
+            for (CustomerSuggestionDTO customer : all) {
+                if (size == 0 || ids[size - 1] != customer.getId()) {
+                    ids[size] = customer.getId();
+                    customers[size++] = customer;
+                }
+                counts[size - 1]++;
+            }
+            return new Customers(Arrays.copyOf(ids, size), Arrays.copyOf(customers, size), Arrays.copyOf(counts, size));
+        }
+
+        int count(long id) {
+            int at = Arrays.binarySearch(ids, id);
+            return at < 0 ? 0 : counts[at];
+        }
+
+        CustomerSuggestionDTO customer(long id) {
+            return customers[Arrays.binarySearch(ids, id)];
+        }
+
+        /**
+         * Intercala estes clientes, sem os de {@code removed}, com os de {@code added}, que não se repetem aqui.
+         */
+        Customers merge(long[] removed, Customers added) {
+            int length = ids.length - removed.length + added.ids.length;
+            long[] mergedIds = new long[length];
+            CustomerSuggestionDTO[] mergedCustomers = new CustomerSuggestionDTO[length];
+            int[] mergedCounts = new int[length];
+            int size = 0;
+            int i = 0;
+            int j = 0;
+            int r = 0;
+            while (i < ids.length || j < added.ids.length) {
+                if (i < ids.length && r < removed.length && ids[i] == removed[r]) {
+                    i++;
+                    r++;
+                } else if (j == added.ids.length || (i < ids.length && ids[i] < added.ids[j])) {
+                    mergedIds[size] = ids[i];
+                    mergedCustomers[size] = customers[i];
+                    mergedCounts[size++] = counts[i++];
+                } else {
+                    mergedIds[size] = added.ids[j];
+                    mergedCustomers[size] = added.customers[j];
+                    mergedCounts[size++] = added.counts[j++];
+                }
+            }
+            return new Customers(mergedIds, mergedCustomers, mergedCounts);
+        }
+    }
+}
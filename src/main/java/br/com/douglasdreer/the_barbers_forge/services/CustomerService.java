@@ -1,8 +1,15 @@
 package br.com.douglasdreer.the_barbers_forge.services;
 
 import br.com.douglasdreer.the_barbers_forge.dtos.CustomerDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerSuggestionDTO;
 import br.com.douglasdreer.the_barbers_forge.dtos.request.CreateCustomerRequest;
+import br.com.douglasdreer.the_barbers_forge.dtos.request.CustomerMergePatch;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * <h1>Customer Service</h1>
@@ -25,7 +32,44 @@ public interface CustomerService {
      * @return página de DTOs de clientes
      */
     Page<CustomerDTO> findAllCustomersWithPagination(int page, int pageSize);
+
+    /**
+     * Busca os clientes com paginação por cursor (keyset), sem consulta de contagem.
+     * 
+     * @param cursor token de continuação retornado pela fatia anterior, ou nulo para a primeira fatia
+     * @param pageSize quantidade de itens por fatia
+     * @return fatia de DTOs de clientes ordenada por ID
+     */
+    Slice<CustomerDTO> findAllCustomersWithCursor(String cursor, int pageSize);
+
+    /**
+     * Exporta todos os clientes com seus documentos, ordenados por ID.
+     * Os registros são lidos do banco por cursor e entregues um a um, sem carregar a tabela em memória.
+     * 
+     * @param sink destino que recebe cada cliente assim que ele é montado
+     */
+    void exportCustomers(Consumer<CustomerDTO> sink);
     
+    /**
+     * Busca clientes pelo nome, sem diferenciar maiúsculas nem acentos.
+     * 
+     * @param query nome, ou parte dele, como foi digitado
+     * @param limit quantidade máxima de clientes retornados
+     * @return DTOs dos clientes encontrados, do mais parecido para o menos parecido
+     * @throws IllegalArgumentException se a busca estiver vazia ou o limite fora do permitido
+     */
+    List<CustomerDTO> searchCustomers(String query, int limit);
+
+    /**
+     * Sugere clientes com alguma palavra do nome que comece com o prefixo, para o autocompletar da recepção.
+     * 
+     * @param prefix início do nome como foi digitado
+     * @param limit quantidade máxima de clientes sugeridos
+     * @return os clientes sugeridos, na ordem alfabética da palavra encontrada
+     * @throws IllegalArgumentException se o prefixo estiver vazio ou o limite fora do permitido
+     */
+    List<CustomerSuggestionDTO> autocompleteCustomers(String prefix, int limit);
+
     /**
      * Busca um cliente pelo seu ID.
      * 
@@ -33,6 +77,14 @@ public interface CustomerService {
      * @return DTO do cliente encontrado
      */
     CustomerDTO findCustomerById(long id);
+
+    /**
+     * Busca a ETag atual de um cliente, derivada do seu ID e da sua versão.
+     *
+     * @param id identificador único do cliente
+     * @return ETag forte do cliente, entre aspas
+     */
+    String findCustomerETag(long id);
     
     /**
      * Cria um novo cliente.
@@ -47,14 +99,86 @@ public interface CustomerService {
      * 
      * @param id identificador único do cliente
      * @param customer dados atualizados do cliente
+     * @param expectedVersion versão informada em {@code If-Match}, ou {@code null} para alterar qualquer versão
      * @return DTO do cliente atualizado
+     * @throws br.com.douglasdreer.the_barbers_forge.exceptions.PreconditionFailedException se a versão atual
+     *         do cliente não for a versão esperada
      */
-    CustomerDTO updateCustomer(long id, CreateCustomerRequest customer);
+    CustomerDTO updateCustomer(long id, CreateCustomerRequest customer, Long expectedVersion);
     
+    /**
+     * Altera parcialmente um cliente com um único comando de atualização, gravando apenas os campos do patch.
+     * A alteração só é aplicada se a versão informada ainda for a versão atual do cliente.
+     * 
+     * @param id identificador único do cliente
+     * @param patch campos alterados e versão sobre a qual foram alterados
+     * @param expectedVersion versão informada em {@code If-Match}, ou {@code null} quando o cabeçalho não foi enviado
+     * @return DTO do cliente atualizado, com a nova versão
+     * @throws br.com.douglasdreer.the_barbers_forge.exceptions.ResourceNotFoundException se o cliente não existir
+     * @throws br.com.douglasdreer.the_barbers_forge.exceptions.PreconditionFailedException se a versão esperada
+     *         não for a versão atual do cliente
+     * @throws org.springframework.dao.OptimisticLockingFailureException se, sem {@code If-Match}, o cliente foi
+     *         alterado depois da versão informada no patch
+     */
+    CustomerDTO patchCustomer(long id, CustomerMergePatch patch, Long expectedVersion);
+
+    /**
+     * Vincula um documento a um cliente. Vincular um documento já vinculado não tem efeito.
+     * 
+     * @param customerId identificador único do cliente
+     * @param documentId identificador único do documento
+     * @throws br.com.douglasdreer.the_barbers_forge.exceptions.ResourceNotFoundException se o cliente ou o documento não existir
+     */
+    void linkDocument(long customerId, long documentId);
+
+    /**
+     * Remove o vínculo entre um cliente e um documento, sem remover nenhum dos dois.
+     * 
+     * @param customerId identificador único do cliente
+     * @param documentId identificador único do documento
+     * @throws br.com.douglasdreer.the_barbers_forge.exceptions.ResourceNotFoundException se o documento não estiver vinculado ao cliente
+     */
+    void unlinkDocument(long customerId, long documentId);
+
+    /**
+     * Vincula vários documentos a um cliente de uma só vez, sem carregar as coleções da associação.
+     * Documentos já vinculados são ignorados.
+     * 
+     * @param customerId identificador único do cliente
+     * @param documentIds identificadores dos documentos
+     * @return quantidade de vínculos criados
+     * @throws br.com.douglasdreer.the_barbers_forge.exceptions.ResourceNotFoundException se o cliente ou algum documento não existir
+     */
+    int linkDocuments(long customerId, Collection<Long> documentIds);
+
+    /**
+     * Remove os vínculos entre um cliente e vários documentos de uma só vez, sem carregar as coleções da associação.
+     * Documentos não vinculados são ignorados.
+     * 
+     * @param customerId identificador único do cliente
+     * @param documentIds identificadores dos documentos
+     * @return quantidade de vínculos removidos
+     * @throws br.com.douglasdreer.the_barbers_forge.exceptions.ResourceNotFoundException se o cliente não existir
+     */
+    int unlinkDocuments(long customerId, Collection<Long> documentIds);
+
     /**
      * Remove um cliente pelo seu ID.
      * 
      * @param id identificador único do cliente a ser removido
+     * @param expectedVersion versão informada em {@code If-Match}, ou {@code null} para remover qualquer versão
+     * @throws br.com.douglasdreer.the_barbers_forge.exceptions.PreconditionFailedException se a versão atual
+     *         do cliente não for a versão esperada
+     */
+    void deleteCustomerById(long id, Long expectedVersion);
+
+    /**
+     * Remove vários clientes pelos seus IDs, mantendo os documentos vinculados a eles.
+     * A exclusão é atômica: se algum cliente não existir, nenhum é removido.
+     * 
+     * @param ids identificadores únicos dos clientes a serem removidos; repetições são ignoradas
+     * @return quantidade de clientes removidos
+     * @throws br.com.douglasdreer.the_barbers_forge.exceptions.ResourceNotFoundException se algum cliente não existir
      */
-    void deleteCustomerById(long id);
+    int deleteCustomers(Collection<Long> ids);
 }
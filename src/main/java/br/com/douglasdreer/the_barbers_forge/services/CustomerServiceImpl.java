@@ -1,14 +1,43 @@
 package br.com.douglasdreer.the_barbers_forge.services;
 
+import br.com.douglasdreer.the_barbers_forge.configs.CacheConfig;
 import br.com.douglasdreer.the_barbers_forge.dtos.CustomerDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerSuggestionDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.CursorMapper;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.CustomerMapper;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.ETagMapper;
 import br.com.douglasdreer.the_barbers_forge.dtos.request.CreateCustomerRequest;
+import br.com.douglasdreer.the_barbers_forge.dtos.request.CustomerMergePatch;
 import br.com.douglasdreer.the_barbers_forge.entities.Customer;
+import br.com.douglasdreer.the_barbers_forge.enums.FetchPlan;
+import br.com.douglasdreer.the_barbers_forge.exceptions.PreconditionFailedException;
 import br.com.douglasdreer.the_barbers_forge.exceptions.ResourceNotFoundException;
 import br.com.douglasdreer.the_barbers_forge.repositories.CustomerRepository;
-import org.modelmapper.ModelMapper;
+import br.com.douglasdreer.the_barbers_forge.repositories.DocumentRepository;
+import br.com.douglasdreer.the_barbers_forge.repositories.projections.CustomerExportRow;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * <h1>Customer Service Implementation</h1>
@@ -25,27 +54,112 @@ import org.springframework.stereotype.Service;
 @Service
 public class CustomerServiceImpl implements CustomerService {
 
+    /**
+     * Quantidade máxima de identificadores enviados em cada comando em lote (vínculos e exclusões),
+     * mantendo a lista de parâmetros bem abaixo do limite do driver JDBC.
+     */
+    static final int ID_CHUNK_SIZE = 1000;
+
+    /**
+     * Quantidade máxima de clientes retornados por uma busca por nome.
+     */
+    static final int MAX_SEARCH_LIMIT = 100;
+
+    /**
+     * Quantidade mínima de caracteres de uma busca por nome; buscas menores casariam com quase todos os clientes.
+     */
+    static final int MIN_SEARCH_LENGTH = 2;
+
     private final CustomerRepository repository;
-    private final ModelMapper mapper;
+    private final CustomerMapper mapper;
+    private final DocumentRepository documentRepository;
+    private final CustomerNameIndex nameIndex;
 
     /**
-     * Construtor que recebe o repositório de clientes e o ModelMapper por injeção de dependência.
+     * Construtor que recebe os repositórios e o mapeador por injeção de dependência.
      * 
      * @param repository repositório de clientes
      * @param mapper objeto para mapeamento entre entidades e DTOs
+     * @param documentRepository repositório de documentos, usado para validar os vínculos
+     * @param nameIndex índice em memória dos nomes, usado pelo autocompletar e atualizado a cada alteração
      */
-    public CustomerServiceImpl(CustomerRepository repository, ModelMapper mapper) {
+    public CustomerServiceImpl(CustomerRepository repository, CustomerMapper mapper, DocumentRepository documentRepository,
+                               CustomerNameIndex nameIndex) {
         this.repository = repository;
         this.mapper = mapper;
+        this.documentRepository = documentRepository;
+        this.nameIndex = nameIndex;
     }
 
     /**
      * {@inheritDoc}
+     * <p>A página é lida como projeção: os identificadores da página e, em seguida, as linhas desses clientes
+     * com seus documentos, sem carregar nenhuma entidade no contexto de persistência.</p>
      */
     @Override
+    @Transactional(readOnly = true)
     public Page<CustomerDTO> findAllCustomersWithPagination(int page, int pageSize) {
-        Page<Customer> customers = repository.findAll(PageRequest.of(page, pageSize));
-        return customers.map(customer -> mapper.map(customer, CustomerDTO.class));
+        Page<Long> ids = repository.findAllIds(PageRequest.of(page, pageSize, Sort.by("id")));
+        return new PageImpl<>(findRows(ids.getContent()), ids.getPageable(), ids.getTotalElements());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>A fatia é lida como projeção, da mesma forma que a listagem paginada.</p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<CustomerDTO> findAllCustomersWithCursor(String cursor, int pageSize) {
+        Slice<Long> ids = repository.findIdsAfter(CursorMapper.decode(cursor), PageRequest.of(0, pageSize, Sort.by("id")));
+        return new SliceImpl<>(findRows(ids.getContent()), ids.getPageable(), ids.hasNext());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>As linhas de um mesmo cliente chegam consecutivas, então cada cliente é entregue
+     * assim que a linha do próximo aparece e nenhum outro fica retido em memória.</p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCustomers(Consumer<CustomerDTO> sink) {
+        try (Stream<CustomerExportRow> rows = repository.streamAllForExport()) {
+            groupRows(rows.iterator(), sink);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>O banco devolve os identificadores já ordenados pela semelhança; os clientes são lidos como projeção,
+     * como na listagem paginada, e devolvidos nessa mesma ordem.</p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CustomerDTO> searchCustomers(String query, int limit) {
+        if (query == null || query.strip().length() < MIN_SEARCH_LENGTH) {
+            throw new IllegalArgumentException("A busca deve ter pelo menos " + MIN_SEARCH_LENGTH + " caracteres");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + MAX_SEARCH_LIMIT);
+        }
+        List<Long> ids = repository.searchIdsByName(query, limit);
+        Map<Long, CustomerDTO> customers = new HashMap<>();
+        findRows(ids).forEach(customer -> customers.put(customer.getId(), customer));
+        return ids.stream().map(customers::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>As sugestões vêm do {@link CustomerNameIndex}, em memória, sem consultar o banco.</p>
+     */
+    @Override
+    public List<CustomerSuggestionDTO> autocompleteCustomers(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("O prefixo do nome deve ser informado");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + MAX_SEARCH_LIMIT);
+        }
+        return nameIndex.autocomplete(prefix, limit);
     }
 
     /**
@@ -53,9 +167,20 @@ public class CustomerServiceImpl implements CustomerService {
      */
     @Override
     public CustomerDTO findCustomerById(long id) {
-        Customer customer = repository.findById(id)
+        Customer customer = repository.findById(id, FetchPlan.DETAIL)
+                .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com o ID: " + id));
+        return mapper.toDTO(customer);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Somente a versão é consultada, sem carregar o cliente nem seus documentos.</p>
+     */
+    @Override
+    public String findCustomerETag(long id) {
+        long version = repository.findVersionById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com o ID: " + id));
-        return mapper.map(customer, CustomerDTO.class);
+        return ETagMapper.customer(id, version);
     }
 
     /**
@@ -63,35 +188,269 @@ public class CustomerServiceImpl implements CustomerService {
      */
     @Override
     public CustomerDTO createCustomer(CreateCustomerRequest customerRequest) {
-        Customer customer = mapper.map(customerRequest, Customer.class);
+        Customer customer = mapper.toEntity(customerRequest);
         Customer savedCustomer = repository.save(customer);
-        return mapper.map(savedCustomer, CustomerDTO.class);
+        nameIndex.put(savedCustomer.getId(), savedCustomer.getFirstName(), savedCustomer.getLastName());
+        return mapper.toDTO(savedCustomer);
     }
 
     /**
      * {@inheritDoc}
+     * <p>Os documentos em cache são descartados porque trazem o nome e a versão dos clientes vinculados.</p>
+     * <p>A versão esperada é comparada com a do cliente carregado na mesma transação, e a gravação é feita
+     * com a versão carregada: uma alteração concorrente entre a leitura e a gravação também é recusada.</p>
      */
     @Override
-    public CustomerDTO updateCustomer(long id, CreateCustomerRequest customerRequest) {
-        Customer existingCustomer = repository.findById(id)
+    @Transactional(rollbackFor = Exception.class)
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.DOCUMENTS_BY_ID, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.DOCUMENTS_BY_TYPE_AND_NUMBER, allEntries = true)
+    })
+    public CustomerDTO updateCustomer(long id, CreateCustomerRequest customerRequest, Long expectedVersion) {
+        Customer existingCustomer = repository.findById(id, FetchPlan.DETAIL)
                 .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com o ID: " + id));
+        checkVersion(id, existingCustomer.getVersion(), expectedVersion);
         
         // Atualiza apenas os campos presentes no DTO
-        mapper.map(customerRequest, existingCustomer);
+        mapper.updateEntity(customerRequest, existingCustomer);
         existingCustomer.setId(id); // Garante que o ID não seja alterado
         
-        Customer updatedCustomer = repository.save(existingCustomer);
-        return mapper.map(updatedCustomer, CustomerDTO.class);
+        Customer updatedCustomer;
+        try {
+            updatedCustomer = repository.saveAndFlush(existingCustomer);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            if (expectedVersion != null) {
+                throw preconditionFailed(id);
+            }
+            throw e;
+        }
+        nameIndex.put(id, updatedCustomer.getFirstName(), updatedCustomer.getLastName());
+        return mapper.toDTO(updatedCustomer);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>A entidade não é carregada antes da alteração: quando nenhuma linha é atualizada, uma consulta
+     * da versão distingue cliente inexistente de conflito de versão. A versão de {@code If-Match}, quando
+     * enviada, precisa ser a mesma do patch, que é a versão exigida pelo comando de atualização.</p>
+     * <p>O cliente alterado é lido como projeção, como nas listagens, sem carregar a entidade e seus documentos.</p>
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.DOCUMENTS_BY_ID, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.DOCUMENTS_BY_TYPE_AND_NUMBER, allEntries = true)
+    })
+    public CustomerDTO patchCustomer(long id, CustomerMergePatch patch, Long expectedVersion) {
+        checkVersion(id, patch.getVersion(), expectedVersion);
+        if (repository.patch(id, patch.getVersion(), patch.getChanges()) == 0) {
+            repository.findVersionById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com o ID: " + id));
+            if (expectedVersion != null) {
+                throw preconditionFailed(id);
+            }
+            throw new ObjectOptimisticLockingFailureException(Customer.class, id);
+        }
+        CustomerDTO customer = findRows(List.of(id)).getFirst();
+        if (patch.changesName()) {
+            nameIndex.put(id, customer.getFirstName(), customer.getLastName());
+        }
+        return customer;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>O vínculo é gravado uma única vez, pelo lado do cliente, e a versão do cliente é incrementada,
+     * pois sua representação mudou. Os documentos em cache são descartados, já que trazem a versão do cliente.</p>
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.DOCUMENTS_BY_ID, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.DOCUMENTS_BY_TYPE_AND_NUMBER, allEntries = true)
+    })
+    public void linkDocument(long customerId, long documentId) {
+        validateCustomerExists(customerId);
+        if (!documentRepository.existsById(documentId)) {
+            throw new ResourceNotFoundException("Documento não encontrado com o ID: " + documentId);
+        }
+        if (repository.linkDocument(customerId, documentId) > 0) {
+            repository.incrementVersion(customerId);
+        }
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void deleteCustomerById(long id) {
-        if (!repository.existsById(id)) {
-            throw new ResourceNotFoundException("Cliente não encontrado com o ID: " + id);
+    @Transactional(rollbackFor = Exception.class)
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.DOCUMENTS_BY_ID, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.DOCUMENTS_BY_TYPE_AND_NUMBER, allEntries = true)
+    })
+    public void unlinkDocument(long customerId, long documentId) {
+        if (repository.unlinkDocument(customerId, documentId) == 0) {
+            throw new ResourceNotFoundException(
+                    "Documento " + documentId + " não vinculado ao cliente com o ID: " + customerId);
+        }
+        repository.incrementVersion(customerId);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>A existência dos documentos é conferida com uma consulta por bloco de {@value #ID_CHUNK_SIZE}
+     * identificadores, e os vínculos são gravados com um único insert por bloco.</p>
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.DOCUMENTS_BY_ID, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.DOCUMENTS_BY_TYPE_AND_NUMBER, allEntries = true)
+    })
+    public int linkDocuments(long customerId, Collection<Long> documentIds) {
+        validateCustomerExists(customerId);
+        List<List<Long>> chunks = chunk(documentIds);
+        Set<Long> missing = new HashSet<>(documentIds);
+        for (List<Long> ids : chunks) {
+            documentRepository.findExistingIds(ids).forEach(missing::remove);
+        }
+        if (!missing.isEmpty()) {
+            throw new ResourceNotFoundException("Documentos não encontrados com os IDs: " + missing);
+        }
+        int linked = 0;
+        for (List<Long> ids : chunks) {
+            linked += repository.linkDocuments(customerId, ids);
+        }
+        if (linked > 0) {
+            repository.incrementVersion(customerId);
+        }
+        return linked;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.DOCUMENTS_BY_ID, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.DOCUMENTS_BY_TYPE_AND_NUMBER, allEntries = true)
+    })
+    public int unlinkDocuments(long customerId, Collection<Long> documentIds) {
+        validateCustomerExists(customerId);
+        int unlinked = 0;
+        for (List<Long> ids : chunk(documentIds)) {
+            unlinked += repository.unlinkDocuments(customerId, ids);
+        }
+        if (unlinked > 0) {
+            repository.incrementVersion(customerId);
+        }
+        return unlinked;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>O cliente não é carregado: os vínculos e o cliente são removidos com um comando cada, e a quantidade
+     * de linhas excluídas indica se o cliente existia. Os documentos vinculados são mantidos. Com uma versão
+     * esperada, o cliente só é removido se ainda estiver nela; caso contrário a remoção dos vínculos é desfeita.</p>
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.DOCUMENTS_BY_ID, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.DOCUMENTS_BY_TYPE_AND_NUMBER, allEntries = true)
+    })
+    public void deleteCustomerById(long id, Long expectedVersion) {
+        List<Long> ids = List.of(id);
+        repository.deleteDocumentLinks(ids);
+        if (expectedVersion == null) {
+            if (repository.deleteByIds(ids) == 0) {
+                throw new ResourceNotFoundException("Cliente não encontrado com o ID: " + id);
+            }
+        } else if (repository.deleteByIdAndVersion(id, expectedVersion) == 0) {
+            repository.findVersionById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com o ID: " + id));
+            throw preconditionFailed(id);
+        }
+        nameIndex.remove(ids);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Os identificadores são removidos em blocos de {@value #ID_CHUNK_SIZE}, com um comando para os vínculos
+     * e outro para os clientes de cada bloco.</p>
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.DOCUMENTS_BY_ID, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.DOCUMENTS_BY_TYPE_AND_NUMBER, allEntries = true)
+    })
+    public int deleteCustomers(Collection<Long> ids) {
+        List<List<Long>> chunks = chunk(ids);
+        int requested = chunks.stream().mapToInt(List::size).sum();
+        int deleted = 0;
+        for (List<Long> chunk : chunks) {
+            repository.deleteDocumentLinks(chunk);
+            deleted += repository.deleteByIds(chunk);
+        }
+        if (deleted < requested) {
+            throw new ResourceNotFoundException("Clientes não encontrados: " + (requested - deleted) + " de " + requested);
+        }
+        nameIndex.remove(ids);
+        return deleted;
+    }
+
+    private static void checkVersion(long id, Long currentVersion, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw preconditionFailed(id);
+        }
+    }
+
+    private static PreconditionFailedException preconditionFailed(long id) {
+        return new PreconditionFailedException("O cliente com o ID " + id + " não está mais na versão informada em If-Match");
+    }
+
+    private List<CustomerDTO> findRows(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<CustomerDTO> customers = new ArrayList<>(ids.size());
+        groupRows(repository.findRowsByIdIn(ids).iterator(), customers::add);
+        return customers;
+    }
+
+    private void groupRows(Iterator<CustomerExportRow> rows, Consumer<CustomerDTO> sink) {
+        CustomerDTO current = null;
+        while (rows.hasNext()) {
+            CustomerExportRow row = rows.next();
+            if (current == null || !current.getId().equals(row.id())) {
+                if (current != null) {
+                    sink.accept(current);
+                }
+                current = mapper.toDTO(row);
+            }
+            if (row.documentId() != null) {
+                current.getDocuments().add(mapper.toDocumentRef(row));
+            }
+        }
+        if (current != null) {
+            sink.accept(current);
+        }
+    }
+
+    private void validateCustomerExists(long customerId) {
+        if (!repository.existsById(customerId)) {
+            throw new ResourceNotFoundException("Cliente não encontrado com o ID: " + customerId);
+        }
+    }
+
+    private static List<List<Long>> chunk(Collection<Long> ids) {
+        List<Long> distinct = List.copyOf(new HashSet<>(ids));
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int start = 0; start < distinct.size(); start += ID_CHUNK_SIZE) {
+            chunks.add(distinct.subList(start, Math.min(start + ID_CHUNK_SIZE, distinct.size())));
         }
-        repository.deleteById(id);
+        return chunks;
     }
 }
@@ -0,0 +1,171 @@
+package br.com.douglasdreer.the_barbers_forge.services;
+
+import br.com.douglasdreer.the_barbers_forge.dtos.ImportResultDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.ImportRowResultDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.request.CreateDocumentRequest;
+import br.com.douglasdreer.the_barbers_forge.entities.Document;
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import br.com.douglasdreer.the_barbers_forge.enums.ImportRowStatus;
+import br.com.douglasdreer.the_barbers_forge.enums.MessageErroType;
+import br.com.douglasdreer.the_barbers_forge.repositories.DocumentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.util.Pair;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <h1>Document Importer</h1>
+ * <p>
+ * Importação de documentos em lote, usada pelo {@link DocumentServiceImpl}.
+ * As linhas são validadas e normalizadas em memória pelo {@link DocumentNumberValidator}
+ * e as repetidas dentro da requisição são descartadas.
+ * As restantes são processadas em blocos: cada bloco faz uma única consulta para encontrar
+ * os documentos já cadastrados e insere os novos com instruções JDBC em lote, na sua própria transação.
+ * </p>
+ *
+ * <p>
+ * Só os documentos que o {@link DocumentKeyFilter} não descarta são consultados; se nenhum sobrar, a consulta
+ * do bloco é pulada.
+ * </p>
+ *
+ * <p>
+ * Se outra requisição cadastrar o mesmo documento entre a consulta e a inserção, o bloco é desfeito
+ * e processado novamente, agora consultando todos os documentos do bloco sem passar pelo filtro.
+ * </p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@Component
+public class DocumentImporter {
+    private static final String MSG_TYPE_REQUIRED = "Document type is required";
+    private static final String MSG_NUMBER_REQUIRED = "Document number is required";
+    private static final String MSG_NUMBER_INVALID = MessageErroType.INVALID_DOCUMENT_NUMBER.getMessage();
+    private static final String MSG_DUPLICATE_IN_REQUEST = "Document repeated in this request";
+    private static final int MAX_ATTEMPTS = 2;
+
+    private final DocumentRepository repository;
+    private final DocumentKeyFilter keyFilter;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    /**
+     * Construtor que recebe as dependências por injeção de dependência.
+     *
+     * @param repository repositório de documentos
+     * @param keyFilter filtro dos documentos já cadastrados, que evita consultar os certamente novos
+     * @param transactionManager gerenciador das transações de cada bloco
+     * @param chunkSize quantidade de linhas por bloco
+     */
+    public DocumentImporter(DocumentRepository repository,
+                            DocumentKeyFilter keyFilter,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.documents.import.chunk-size:500}") int chunkSize) {
+        this.repository = repository;
+        this.keyFilter = keyFilter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Importa os documentos informados.
+     *
+     * @param requests linhas a serem importadas, na ordem recebida
+     * @return resumo da importação com o resultado de cada linha
+     */
+    public ImportResultDTO importAll(List<CreateDocumentRequest> requests) {
+        ImportRowResultDTO[] rows = new ImportRowResultDTO[requests.size()];
+        String[] numbers = new String[requests.size()];
+        List<Integer> pending = new ArrayList<>(requests.size());
+        Set<Pair<DocumentType, String>> seen = new HashSet<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateDocumentRequest request = requests.get(i);
+            if (request.getDocumentType() == null) {
+                rows[i] = row(i, request, ImportRowStatus.INVALID, MSG_TYPE_REQUIRED);
+            } else if (request.getNumber() == null || request.getNumber().isBlank()) {
+                rows[i] = row(i, request, ImportRowStatus.INVALID, MSG_NUMBER_REQUIRED);
+            } else if (!DocumentNumberValidator.isValid(request.getDocumentType(), request.getNumber())) {
+                rows[i] = row(i, request, ImportRowStatus.INVALID, MSG_NUMBER_INVALID);
+            } else {
+                numbers[i] = DocumentNumberValidator.normalize(request.getDocumentType(), request.getNumber());
+                if (seen.add(key(request, numbers[i]))) {
+                    pending.add(i);
+                } else {
+                    rows[i] = row(i, request, numbers[i], ImportRowStatus.DUPLICATE, MSG_DUPLICATE_IN_REQUEST);
+                }
+            }
+        }
+
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            List<Integer> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+            importChunk(requests, numbers, chunk, rows);
+        }
+        return ImportResultDTO.of(Arrays.asList(rows));
+    }
+
+    private void importChunk(List<CreateDocumentRequest> requests, String[] numbers, List<Integer> chunk, ImportRowResultDTO[] rows) {
+        for (int attempt = 1; ; attempt++) {
+            boolean useFilter = attempt == 1;
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertChunk(requests, numbers, chunk, rows, useFilter));
+                return;
+            } catch (DuplicateKeyException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void insertChunk(List<CreateDocumentRequest> requests, String[] numbers, List<Integer> chunk,
+                             ImportRowResultDTO[] rows, boolean useFilter) {
+        List<Pair<DocumentType, String>> keys = chunk.stream()
+                .map(i -> key(requests.get(i), numbers[i]))
+                .filter(key -> !useFilter || keyFilter.mightContain(key.getFirst(), key.getSecond()))
+                .toList();
+        Set<Pair<DocumentType, String>> existing = keys.isEmpty() ? Set.of() : repository.findExistingTypeAndNumbers(keys);
+        if (useFilter) {
+            keyFilter.recordFalsePositives(keys.size() - existing.size());
+        }
+
+        List<Document> documents = new ArrayList<>(chunk.size());
+        for (int i : chunk) {
+            CreateDocumentRequest request = requests.get(i);
+            if (existing.contains(key(request, numbers[i]))) {
+                rows[i] = row(i, request, numbers[i], ImportRowStatus.DUPLICATE, MessageErroType.DOCUMENT_ALREADY_EXISTS.getMessage());
+            } else {
+                rows[i] = row(i, request, numbers[i], ImportRowStatus.CREATED, null);
+                documents.add(Document.builder()
+                        .documentType(request.getDocumentType())
+                        .number(numbers[i])
+                        .numberKey(DocumentNumberValidator.numberKey(request.getDocumentType(), numbers[i]))
+                        .build());
+            }
+        }
+        if (!documents.isEmpty()) {
+            repository.insertAll(documents);
+            documents.forEach(document -> keyFilter.put(document.getDocumentType(), document.getNumber()));
+        }
+    }
+
+    private static Pair<DocumentType, String> key(CreateDocumentRequest request, String number) {
+        return Pair.of(request.getDocumentType(), number);
+    }
+
+    private static ImportRowResultDTO row(int index, CreateDocumentRequest request, ImportRowStatus status, String message) {
+        return row(index, request, request.getNumber(), status, message);
+    }
+
+    private static ImportRowResultDTO row(int index, CreateDocumentRequest request, String number, ImportRowStatus status, String message) {
+        return new ImportRowResultDTO(index, request.getDocumentType(), number, status, message);
+    }
+}
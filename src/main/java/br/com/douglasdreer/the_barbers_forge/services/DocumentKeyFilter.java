@@ -0,0 +1,221 @@
+package br.com.douglasdreer.the_barbers_forge.services;
+
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import br.com.douglasdreer.the_barbers_forge.repositories.DocumentRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <h1>Document Key Filter</h1>
+ * <p>
+ * Filtro de Bloom em memória com os pares {@code (DocumentType, number)} já cadastrados, usado pelo
+ * {@link DocumentImporter} para não consultar o banco por documentos que certamente não existem.
+ * Quando o filtro responde que um par está ausente, ele não está cadastrado; quando responde que pode estar,
+ * o banco é consultado.
+ * </p>
+ *
+ * <p>
+ * O filtro é montado quando a aplicação sobe, lendo os documentos em blocos, e é remontado periodicamente.
+ * Até a primeira montagem terminar, todo par é tratado como possivelmente cadastrado. Os documentos criados
+ * são adicionados na hora; os excluídos continuam no filtro até a próxima montagem, já que um filtro de Bloom
+ * não permite remoção, e só custam uma consulta a mais. Um documento cadastrado por outra instância e ainda
+ * ausente do filtro é barrado pela restrição única, e o importador repete o bloco consultando o banco.
+ * </p>
+ *
+ * <p>
+ * Publica as métricas {@code documents.key.filter.checks} (por resultado), {@code documents.key.filter.false.positives}
+ * e {@code documents.key.filter.false.positive.rate}, a taxa observada de pares ausentes que o filtro deixou passar.
+ * </p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@Component
+public class DocumentKeyFilter implements MeterBinder {
+    private final DocumentRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+
+    private final LongAdder absent = new LongAdder();
+    private final LongAdder present = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    /**
+     * Construtor que recebe as dependências por injeção de dependência.
+     *
+     * @param repository repositório de documentos
+     * @param transactionManager gerenciador da transação de leitura usada na montagem
+     * @param expectedInsertions quantidade mínima de documentos para a qual o filtro é dimensionado
+     * @param falsePositiveProbability probabilidade de falso positivo desejada
+     */
+    public DocumentKeyFilter(DocumentRepository repository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.documents.key-filter.expected-insertions:1000000}") long expectedInsertions,
+                             @Value("${app.documents.key-filter.false-positive-probability:0.01}") double falsePositiveProbability) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    /**
+     * Monta o filtro a partir dos documentos cadastrados, quando a aplicação sobe e depois periodicamente.
+     * Os pares adicionados durante a leitura entram no filtro antigo e no novo.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.documents.key-filter.rebuild-interval:PT6H}",
+            initialDelayString = "${app.documents.key-filter.rebuild-interval:PT6H}")
+    public synchronized void rebuild() {
+        long count = repository.count();
+        BloomFilter filter = new BloomFilter(Math.max(expectedInsertions, count * 2), falsePositiveProbability);
+        building = filter;
+        try {
+            transactionTemplate.executeWithoutResult(status -> repository.forEachTypeAndNumber(filter::put));
+            current = filter;
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * Informa se o documento pode estar cadastrado.
+     *
+     * @param type tipo do documento
+     * @param number número normalizado
+     * @return {@code false} somente se o documento certamente não está cadastrado
+     */
+    public boolean mightContain(DocumentType type, String number) {
+        BloomFilter filter = current;
+        if (filter == null) {
+            return true;
+        }
+        boolean result = filter.mightContain(type, number);
+        (result ? present : absent).increment();
+        return result;
+    }
+
+    /**
+     * Adiciona um documento cadastrado ao filtro.
+     *
+     * @param type tipo do documento
+     * @param number número normalizado
+     */
+    public void put(DocumentType type, String number) {
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.put(type, number);
+        }
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(type, number);
+        }
+    }
+
+    /**
+     * Registra os documentos que o filtro deixou passar e que a consulta ao banco não encontrou.
+     *
+     * @param count quantidade de falsos positivos
+     */
+    public void recordFalsePositives(int count) {
+        falsePositives.add(count);
+    }
+
+    /**
+     * Taxa observada de falsos positivos: dos pares que não estavam cadastrados, a fração que o filtro deixou passar.
+     *
+     * @return a taxa entre 0 e 1, ou 0 enquanto nenhum par ausente foi verificado
+     */
+    public double falsePositiveRate() {
+        double negatives = falsePositives.sum() + absent.sum();
+        return negatives == 0 ? 0 : falsePositives.sum() / negatives;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("documents.key.filter.checks", absent, LongAdder::sum).tag("result", "absent").register(registry);
+        FunctionCounter.builder("documents.key.filter.checks", present, LongAdder::sum).tag("result", "maybe").register(registry);
+        FunctionCounter.builder("documents.key.filter.false.positives", falsePositives, LongAdder::sum).register(registry);
+        Gauge.builder("documents.key.filter.false.positive.rate", this, DocumentKeyFilter::falsePositiveRate)
+                .description("Share of unregistered documents that the filter did not rule out")
+                .register(registry);
+    }
+
+    /**
+     * Filtro de Bloom sobre {@code long}s atômicos, com as posições obtidas por hash duplo de um único hash de 64 bits.
+     * Verificar e adicionar não alocam memória.
+     */
+    static final class BloomFilter {
+        private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+        private static final long FNV_PRIME = 0x100000001b3L;
+
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+
+        BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+            long n = Math.max(1, expectedInsertions);
+            long m = (long) Math.ceil(-n * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+            int words = (int) Math.min(Integer.MAX_VALUE - 8, (Math.max(64, m) + 63) / 64);
+            this.bits = new AtomicLongArray(words);
+            this.bitCount = (long) words * 64;
+            this.hashCount = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        }
+
+        void put(DocumentType type, CharSequence number) {
+            long hash = hash(type, number);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitCount;
+                long mask = 1L << index;
+                int word = (int) (index >>> 6);
+                long value;
+                while (((value = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, value, value | mask)) {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+
+        boolean mightContain(DocumentType type, CharSequence number) {
+            long hash = hash(type, number);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitCount;
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long hash(DocumentType type, CharSequence number) {
+            long hash = (FNV_OFFSET_BASIS ^ type.ordinal()) * FNV_PRIME;
+            for (int i = 0; i < number.length(); i++) {
+                hash = (hash ^ number.charAt(i)) * FNV_PRIME;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            return hash ^ (hash >>> 33);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.douglasdreer.the_barbers_forge.services;
+
+import br.com.douglasdreer.the_barbers_forge.configs.CacheConfig;
+import br.com.douglasdreer.the_barbers_forge.dtos.DocumentDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.DocumentMapper;
+import br.com.douglasdreer.the_barbers_forge.entities.Document;
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import br.com.douglasdreer.the_barbers_forge.enums.FetchPlan;
+import br.com.douglasdreer.the_barbers_forge.repositories.DocumentRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * <h1>Document Lookup</h1>
+ * <p>
+ * Consultas de documento com cache, usadas pelo {@link DocumentServiceImpl}.
+ * Os resultados vazios também são armazenados, com validade menor, para que buscas repetidas
+ * por documentos inexistentes não voltem ao banco. A invalidação fica a cargo do serviço.
+ * </p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@Component
+public class DocumentLookup {
+    private final DocumentRepository repository;
+    private final DocumentMapper mapper;
+
+    /**
+     * Construtor que recebe o repositório de documentos e o mapeador por injeção de dependência.
+     *
+     * @param repository repositório de documentos
+     * @param mapper objeto para mapeamento entre entidades e DTOs
+     */
+    public DocumentLookup(DocumentRepository repository, DocumentMapper mapper) {
+        this.repository = repository;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Busca um documento pelo ID.
+     *
+     * @param id ID do documento
+     * @return DTO do documento, ou vazio se não existir
+     */
+    @Cacheable(cacheNames = CacheConfig.DOCUMENTS_BY_ID, key = "#id")
+    @Transactional(readOnly = true)
+    public Optional<DocumentDTO> findById(long id) {
+        return repository.findById(id, FetchPlan.DETAIL).map(mapper::toDTO);
+    }
+
+    /**
+     * Busca um documento pelo tipo e número.
+     * Quando o número tem chave numérica, a busca usa o índice de {@code number_key} em vez de comparar o texto.
+     *
+     * @param documentType tipo do documento
+     * @param number número do documento
+     * @return DTO do documento, ou vazio se não existir
+     */
+    @Cacheable(cacheNames = CacheConfig.DOCUMENTS_BY_TYPE_AND_NUMBER, key = "#documentType + ':' + #number")
+    @Transactional(readOnly = true)
+    public Optional<DocumentDTO> findByTypeAndNumber(DocumentType documentType, String number) {
+        Long numberKey = DocumentNumberValidator.numberKey(documentType, number);
+        Optional<Document> document = numberKey == null
+                ? repository.findByDocumentTypeAndNumber(documentType, number)
+                : repository.findByDocumentTypeAndNumberKey(documentType, numberKey);
+        return document.map(mapper::toDTO);
+    }
+}
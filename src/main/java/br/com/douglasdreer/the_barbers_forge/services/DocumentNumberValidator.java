@@ -0,0 +1,287 @@
+package br.com.douglasdreer.the_barbers_forge.services;
+
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import br.com.douglasdreer.the_barbers_forge.enums.MessageErroType;
+import br.com.douglasdreer.the_barbers_forge.exceptions.ValidateDocumentServiceException;
+
+/**
+ * <h1>Document Number Validator</h1>
+ * <p>
+ * Valida e normaliza o número de um documento de acordo com o seu {@link DocumentType}.
+ * A forma normalizada é a que é gravada e consultada: sem pontuação e com letras em maiúsculas,
+ * de modo que {@code 529.982.247-25} e {@code 52998224725} sejam o mesmo CPF.
+ * </p>
+ *
+ * <p>
+ * Os dígitos verificadores são calculados percorrendo o {@link CharSequence} uma única vez,
+ * sem expressões regulares e sem cópias intermediárias. A validação não aloca memória e a
+ * normalização só cria uma nova {@link String} quando o número recebido não está na forma normalizada.
+ * </p>
+ *
+ * <ul>
+ *     <li>CPF: 11 dígitos com os dois dígitos verificadores de módulo 11.</li>
+ *     <li>CNPJ: 12 caracteres alfanuméricos seguidos de 2 dígitos verificadores de módulo 11,
+ *     aceitando tanto o formato numérico quanto o alfanumérico.</li>
+ *     <li>CNH: 11 dígitos com os dois dígitos verificadores definidos pelo Denatran.</li>
+ *     <li>RG: não existe regra nacional para o dígito verificador, cada estado tem a sua;
+ *     por isso o número é apenas normalizado e limitado a caracteres alfanuméricos.</li>
+ * </ul>
+ *
+ * <p>
+ * Para CPF, CNH e CNPJ numérico o número também é convertido em uma chave {@code long}
+ * ({@link #numberKey(DocumentType, CharSequence)}), gravada em {@code number_key} e usada nas consultas.
+ * Como esses tipos têm tamanho fixo, zeros à esquerda não fazem dois números diferentes terem a mesma chave.
+ * </p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+public final class DocumentNumberValidator {
+    private static final int CPF_LENGTH = 11;
+    private static final int CNH_LENGTH = 11;
+    private static final int CNPJ_LENGTH = 14;
+    private static final int RG_MAX_LENGTH = 14;
+
+    private DocumentNumberValidator() {
+    }
+
+    /**
+     * Normaliza o número informado e confere o seu formato e dígitos verificadores.
+     *
+     * @param type tipo do documento
+     * @param number número como foi digitado, com ou sem pontuação
+     * @return número normalizado
+     * @throws ValidateDocumentServiceException se o número não for válido para o tipo
+     */
+    public static String normalize(DocumentType type, CharSequence number) {
+        if (!isValid(type, number)) {
+            throw new ValidateDocumentServiceException(MessageErroType.INVALID_DOCUMENT_NUMBER.getMessage());
+        }
+        int length = normalizedLength(number);
+        if (length == number.length() && isUpperCase(number)) {
+            return number.toString();
+        }
+        char[] normalized = new char[length];
+        for (int i = 0, j = 0; i < number.length(); i++) {
+            char c = number.charAt(i);
+            if (!isSeparator(c)) {
+                normalized[j++] = upperCase(c);
+            }
+        }
+        return new String(normalized);
+    }
+
+    /**
+     * Informa se o número é válido para o tipo do documento.
+     *
+     * @param type tipo do documento
+     * @param number número como foi digitado, com ou sem pontuação
+     * @return {@code true} se o número for válido
+     */
+    public static boolean isValid(DocumentType type, CharSequence number) {
+        if (type == null || number == null) {
+            return false;
+        }
+        return switch (type) {
+            case CPF -> isValidCpf(number);
+            case CNPJ -> isValidCnpj(number);
+            case CNH -> isValidCnh(number);
+            case RG -> isValidRg(number);
+        };
+    }
+
+    /**
+     * Converte os dígitos de um número válido na chave numérica usada em {@code number_key}.
+     *
+     * @param type tipo do documento
+     * @param number número válido para o tipo, com ou sem pontuação
+     * @return a chave numérica, ou {@code null} para RG e CNPJ alfanumérico, que são consultados pelo texto
+     */
+    public static Long numberKey(DocumentType type, CharSequence number) {
+        if (type == null || number == null || type == DocumentType.RG) {
+            return null;
+        }
+        long key = 0;
+        for (int i = 0; i < number.length(); i++) {
+            char c = number.charAt(i);
+            if (isSeparator(c)) {
+                continue;
+            }
+            if (!isDigit(c)) {
+                return null;
+            }
+            key = key * 10 + (c - '0');
+        }
+        return key;
+    }
+
+    private static boolean isValidCpf(CharSequence number) {
+        int count = 0;
+        int sum1 = 0;
+        int sum2 = 0;
+        int dv1 = 0;
+        int dv2 = 0;
+        boolean repeated = true;
+        int first = -1;
+        for (int i = 0; i < number.length(); i++) {
+            char c = number.charAt(i);
+            if (isSeparator(c)) {
+                continue;
+            }
+            if (!isDigit(c) || count == CPF_LENGTH) {
+                return false;
+            }
+            int digit = c - '0';
+            if (first < 0) {
+                first = digit;
+            } else if (digit != first) {
+                repeated = false;
+            }
+            if (count < 9) {
+                sum1 += digit * (10 - count);
+                sum2 += digit * (11 - count);
+            } else if (count == 9) {
+                dv1 = digit;
+                sum2 += digit * 2;
+            } else {
+                dv2 = digit;
+            }
+            count++;
+        }
+        return count == CPF_LENGTH && !repeated && dv1 == mod11(sum1) && dv2 == mod11(sum2);
+    }
+
+    private static boolean isValidCnpj(CharSequence number) {
+        int count = 0;
+        int sum1 = 0;
+        int sum2 = 0;
+        int dv1 = 0;
+        int dv2 = 0;
+        boolean repeated = true;
+        char first = 0;
+        for (int i = 0; i < number.length(); i++) {
+            char c = upperCase(number.charAt(i));
+            if (isSeparator(c)) {
+                continue;
+            }
+            if (count == CNPJ_LENGTH || !(isDigit(c) || (count < 12 && c >= 'A' && c <= 'Z'))) {
+                return false;
+            }
+            if (count == 0) {
+                first = c;
+            } else if (c != first) {
+                repeated = false;
+            }
+            int value = c - '0';
+            if (count < 12) {
+                sum1 += value * (count < 4 ? 5 - count : 13 - count);
+                sum2 += value * (count < 5 ? 6 - count : 14 - count);
+            } else if (count == 12) {
+                dv1 = value;
+                sum2 += value * 2;
+            } else {
+                dv2 = value;
+            }
+            count++;
+        }
+        return count == CNPJ_LENGTH && !repeated && dv1 == mod11(sum1) && dv2 == mod11(sum2);
+    }
+
+    private static boolean isValidCnh(CharSequence number) {
+        int count = 0;
+        int sum1 = 0;
+        int sum2 = 0;
+        int dv1 = 0;
+        int dv2 = 0;
+        boolean repeated = true;
+        int first = -1;
+        for (int i = 0; i < number.length(); i++) {
+            char c = number.charAt(i);
+            if (isSeparator(c)) {
+                continue;
+            }
+            if (!isDigit(c) || count == CNH_LENGTH) {
+                return false;
+            }
+            int digit = c - '0';
+            if (first < 0) {
+                first = digit;
+            } else if (digit != first) {
+                repeated = false;
+            }
+            if (count < 9) {
+                sum1 += digit * (9 - count);
+                sum2 += digit * (1 + count);
+            } else if (count == 9) {
+                dv1 = digit;
+            } else {
+                dv2 = digit;
+            }
+            count++;
+        }
+        if (count != CNH_LENGTH || repeated) {
+            return false;
+        }
+        int expected1 = sum1 % 11;
+        int discount = 0;
+        if (expected1 >= 10) {
+            expected1 = 0;
+            discount = 2;
+        }
+        int remainder2 = sum2 % 11;
+        int expected2 = remainder2 >= 10 ? 0 : remainder2 - discount;
+        return dv1 == expected1 && dv2 == expected2;
+    }
+
+    private static boolean isValidRg(CharSequence number) {
+        int count = 0;
+        for (int i = 0; i < number.length(); i++) {
+            char c = upperCase(number.charAt(i));
+            if (isSeparator(c)) {
+                continue;
+            }
+            if (count == RG_MAX_LENGTH || !(isDigit(c) || (c >= 'A' && c <= 'Z'))) {
+                return false;
+            }
+            count++;
+        }
+        return count > 0;
+    }
+
+    private static int mod11(int sum) {
+        int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+
+    private static int normalizedLength(CharSequence number) {
+        int length = 0;
+        for (int i = 0; i < number.length(); i++) {
+            if (!isSeparator(number.charAt(i))) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    private static boolean isUpperCase(CharSequence number) {
+        for (int i = 0; i < number.length(); i++) {
+            char c = number.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char upperCase(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '.' || c == '-' || c == '/' || c == ' ';
+    }
+}
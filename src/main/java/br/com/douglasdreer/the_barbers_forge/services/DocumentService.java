@@ -1,12 +1,15 @@
 package br.com.douglasdreer.the_barbers_forge.services;
 
 import br.com.douglasdreer.the_barbers_forge.dtos.DocumentDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.ImportResultDTO;
 import br.com.douglasdreer.the_barbers_forge.dtos.request.CreateDocumentRequest;
 import br.com.douglasdreer.the_barbers_forge.dtos.request.ParamDocumentRequest;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Interface que define os serviços relacionados a documentos.
@@ -14,12 +17,23 @@ import java.util.List;
 public interface DocumentService {
     /**
      * Cria um novo documento.
+     * A unicidade de tipo e número é garantida pelo banco, sem consulta prévia.
      *
      * @param document dados do documento a ser criado
      * @return DTO do documento criado
+     * @throws br.com.douglasdreer.the_barbers_forge.exceptions.UniqueConstraintViolationException se já existir documento com o mesmo tipo e número
      */
     DocumentDTO createDocument(CreateDocumentRequest document);
 
+    /**
+     * Importa documentos em lote.
+     * Linhas inválidas ou repetidas são informadas no resultado sem interromper as demais.
+     *
+     * @param documents dados dos documentos a serem importados, na ordem recebida
+     * @return resumo da importação com o resultado de cada linha
+     */
+    ImportResultDTO importDocuments(List<CreateDocumentRequest> documents);
+
     /**
      * Remove um documento pelo seu ID.
      *
@@ -29,11 +43,20 @@ public interface DocumentService {
 
     /**
      * Lista todos os documentos.
+     * Carrega a tabela inteira em memória; para grandes volumes use {@link #exportDocuments(Consumer)}.
      *
      * @return lista de DTOs de documentos
      */
     List<DocumentDTO> listDocument();
 
+    /**
+     * Exporta todos os documentos com seus clientes, ordenados por ID.
+     * Os registros são lidos do banco por cursor e entregues um a um, sem carregar a tabela em memória.
+     *
+     * @param sink destino que recebe cada documento assim que ele é montado
+     */
+    void exportDocuments(Consumer<DocumentDTO> sink);
+
     /**
      * Busca todos os documentos com paginação.
      *
@@ -43,6 +66,15 @@ public interface DocumentService {
      */
     Page<DocumentDTO> findAllDocumentWithPagination(int page, int pageSize);
 
+    /**
+     * Busca os documentos com paginação por cursor (keyset), sem consulta de contagem.
+     *
+     * @param cursor token de continuação retornado pela fatia anterior, ou nulo para a primeira fatia
+     * @param pageSize quantidade de itens por fatia
+     * @return fatia de DTOs de documentos ordenada por ID
+     */
+    Slice<DocumentDTO> findAllDocumentWithCursor(String cursor, int pageSize);
+
     /**
      * Busca um documento pelo seu ID.
      *
@@ -51,6 +83,14 @@ public interface DocumentService {
      */
     DocumentDTO findDocumentById(long id);
 
+    /**
+     * Busca a ETag atual de um documento, derivada do seu ID e das versões dos clientes vinculados.
+     *
+     * @param id identificador único do documento
+     * @return ETag forte do documento, entre aspas
+     */
+    String findDocumentETag(long id);
+
     /**
      * Busca um documento pelo tipo e número.
      *
@@ -1,90 +1,191 @@
 package br.com.douglasdreer.the_barbers_forge.services;
 
+import br.com.douglasdreer.the_barbers_forge.configs.CacheConfig;
 import br.com.douglasdreer.the_barbers_forge.dtos.DocumentDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.ImportResultDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.CursorMapper;
 import br.com.douglasdreer.the_barbers_forge.dtos.mappers.DocumentMapper;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.ETagMapper;
 import br.com.douglasdreer.the_barbers_forge.dtos.request.CreateDocumentRequest;
 import br.com.douglasdreer.the_barbers_forge.dtos.request.ParamDocumentRequest;
 import br.com.douglasdreer.the_barbers_forge.entities.Document;
 import br.com.douglasdreer.the_barbers_forge.enums.MessageErroType;
-import br.com.douglasdreer.the_barbers_forge.exceptions.DocumentServiceException;
+import br.com.douglasdreer.the_barbers_forge.exceptions.DocumentNotFoundException;
+import br.com.douglasdreer.the_barbers_forge.exceptions.UniqueConstraintViolationException;
 import br.com.douglasdreer.the_barbers_forge.repositories.DocumentRepository;
+import br.com.douglasdreer.the_barbers_forge.repositories.projections.CustomerVersionRow;
+import br.com.douglasdreer.the_barbers_forge.repositories.projections.DocumentExportRow;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class DocumentServiceImpl implements DocumentService {
     private final DocumentRepository repository;
     private final DocumentMapper mapper;
+    private final DocumentLookup lookup;
+    private final DocumentImporter importer;
+    private final DocumentKeyFilter keyFilter;
 
-    public DocumentServiceImpl(DocumentRepository repository, DocumentMapper mapper) {
+    public DocumentServiceImpl(DocumentRepository repository, DocumentMapper mapper, DocumentLookup lookup,
+                               DocumentImporter importer, DocumentKeyFilter keyFilter) {
         this.repository = repository;
         this.mapper = mapper;
+        this.lookup = lookup;
+        this.importer = importer;
+        this.keyFilter = keyFilter;
     }
 
     @Override
     @Transactional(rollbackFor = Exception.class)
+    @Caching(
+        put = @CachePut(cacheNames = CacheConfig.DOCUMENTS_BY_ID, key = "#result.id"),
+        evict = @CacheEvict(cacheNames = CacheConfig.DOCUMENTS_BY_TYPE_AND_NUMBER, key = "#result.documentType + ':' + #result.number")
+    )
     public DocumentDTO createDocument(CreateDocumentRequest document) {
+        Document entity = mapper.toEntity(document);
+        entity.setNumber(DocumentNumberValidator.normalize(document.getDocumentType(), document.getNumber()));
+        entity.setNumberKey(DocumentNumberValidator.numberKey(entity.getDocumentType(), entity.getNumber()));
         try {
-            validateDocumentForCreate(document);
-            Document documentSaved = repository.save(mapper.toEntity(document));
+            Document documentSaved = repository.saveAndFlush(entity);
+            keyFilter.put(documentSaved.getDocumentType(), documentSaved.getNumber());
             return mapper.toDTO(documentSaved);
-        } catch (Exception e) {
-            throw new DocumentServiceException(e.getLocalizedMessage());
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateDocument(e)) {
+                throw new UniqueConstraintViolationException(MessageErroType.DOCUMENT_ALREADY_EXISTS.getMessage());
+            }
+            throw e;
         }
     }
 
+    @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.DOCUMENTS_BY_ID, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.DOCUMENTS_BY_TYPE_AND_NUMBER, allEntries = true)
+    })
+    public ImportResultDTO importDocuments(List<CreateDocumentRequest> documents) {
+        return importer.importAll(documents);
+    }
+
     @Override
     public List<DocumentDTO> listDocument() {
         return repository.findAll().stream().map(mapper::toDTO).toList();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public void exportDocuments(Consumer<DocumentDTO> sink) {
+        try (Stream<DocumentExportRow> rows = repository.streamAllForExport()) {
+            groupRows(rows.iterator(), sink);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Page<DocumentDTO> findAllDocumentWithPagination(int page, int pageSize) {
-        PageRequest pageRequest = PageRequest.of(page, pageSize);
-        Page<Document> result = repository.findAll(pageRequest);
-        return result.map(mapper::toDTO);
+        PageRequest pageRequest = PageRequest.of(page, pageSize, Sort.by("id"));
+        Page<Long> ids = repository.findAllIds(pageRequest);
+        return new PageImpl<>(findRows(ids.getContent()), ids.getPageable(), ids.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<DocumentDTO> findAllDocumentWithCursor(String cursor, int pageSize) {
+        Slice<Long> ids = repository.findIdsAfter(CursorMapper.decode(cursor), PageRequest.of(0, pageSize, Sort.by("id")));
+        return new SliceImpl<>(findRows(ids.getContent()), ids.getPageable(), ids.hasNext());
     }
 
     @Override
     public DocumentDTO findDocumentById(long id) {
-        Document result = repository.findById(id).orElseThrow(() -> new DocumentServiceException(MessageErroType.NOT_FOUND.getMessage()));
-        return mapper.toDTO(result);
+        return lookup.findById(id).orElseThrow(DocumentNotFoundException::new);
+    }
+
+    @Override
+    public String findDocumentETag(long id) {
+        List<CustomerVersionRow> rows = repository.findCustomerVersionsById(id);
+        if (rows.isEmpty()) {
+            throw new DocumentNotFoundException();
+        }
+        Map<Long, Long> customerVersions = new HashMap<>();
+        for (CustomerVersionRow row : rows) {
+            if (row.customerId() != null) {
+                customerVersions.put(row.customerId(), row.customerVersion());
+            }
+        }
+        return ETagMapper.document(id, customerVersions);
     }
 
     @Override
     public DocumentDTO findByDocumentTypeAndNumber(ParamDocumentRequest paramsDocument) {
-        Document result = repository
-            .findByDocumentTypeAndNumber(paramsDocument.getDocumentType(), paramsDocument.getNumber())
-            .orElseThrow(() -> new DocumentServiceException(MessageErroType.NOT_FOUND.getMessage()));
-        return mapper.toDTO(result);
+        String number = DocumentNumberValidator.normalize(paramsDocument.getDocumentType(), paramsDocument.getNumber());
+        return lookup
+            .findByTypeAndNumber(paramsDocument.getDocumentType(), number)
+            .orElseThrow(DocumentNotFoundException::new);
     }
 
     @Override
     @Transactional(rollbackFor = Exception.class)
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.DOCUMENTS_BY_ID, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.DOCUMENTS_BY_TYPE_AND_NUMBER, allEntries = true)
+    })
     public void deleteDocumentById(long id) {
-        validateDocumentForDelete(id);
-        repository.deleteById(id);
+        repository.incrementCustomerVersions(id);
+        repository.deleteCustomerLinks(id);
+        if (repository.deleteDocument(id) == 0) {
+            throw new DocumentNotFoundException();
+        }
     }
 
-    private void validateDocumentForCreate(CreateDocumentRequest document) {
-        Document entity = mapper.toEntity(document);
-        
-        if (checkIfAlrightSave(entity)) {
-            throw new DocumentServiceException("Document alright saved.");
+    private List<DocumentDTO> findRows(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
         }
+        List<DocumentDTO> documents = new ArrayList<>(ids.size());
+        groupRows(repository.findRowsByIdIn(ids).iterator(), documents::add);
+        return documents;
     }
 
-    private void validateDocumentForDelete(long id) {
-        repository.findById(id).orElseThrow(() -> new DocumentServiceException(MessageErroType.NOT_FOUND.getMessage()));
+    private void groupRows(Iterator<DocumentExportRow> rows, Consumer<DocumentDTO> sink) {
+        DocumentDTO current = null;
+        while (rows.hasNext()) {
+            DocumentExportRow row = rows.next();
+            if (current == null || !current.getId().equals(row.id())) {
+                if (current != null) {
+                    sink.accept(current);
+                }
+                current = mapper.toDTO(row);
+            }
+            if (row.customerId() != null) {
+                current.getCustomers().add(mapper.toCustomerRef(row));
+            }
+        }
+        if (current != null) {
+            sink.accept(current);
+        }
     }
 
-    private boolean checkIfAlrightSave(Document document) {
-        Optional<Document> documentOptional = repository.findByDocumentTypeAndNumber(document.getDocumentType(), document.getNumber());
-        return documentOptional.isPresent();
+    private boolean isDuplicateDocument(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toUpperCase().contains(Document.UK_TYPE_NUMBER);
     }
 }
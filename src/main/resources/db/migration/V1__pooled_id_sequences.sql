@@ -0,0 +1,27 @@
+-- Moves customer and document identifiers from IDENTITY columns to pooled sequences.
+-- Each sequence increments by the entity allocationSize (50): Hibernate reserves the block
+-- (value - 50, value] per call, so inserts can be sent in JDBC batches.
+-- Runs on both new and existing databases: on a new database the tables are created afterwards by Hibernate.
+CREATE SEQUENCE IF NOT EXISTS tbl0001_customers_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tbl0002_documents_seq START WITH 1 INCREMENT BY 50;
+
+DO $$
+DECLARE
+    max_id BIGINT;
+BEGIN
+    IF to_regclass('tbl0001_customers') IS NOT NULL THEN
+        SELECT MAX(id) INTO max_id FROM tbl0001_customers;
+        IF max_id IS NOT NULL THEN
+            PERFORM setval('tbl0001_customers_seq', max_id, true);
+        END IF;
+        ALTER TABLE tbl0001_customers ALTER COLUMN id DROP IDENTITY IF EXISTS;
+    END IF;
+
+    IF to_regclass('tbl0002_documents') IS NOT NULL THEN
+        SELECT MAX(id) INTO max_id FROM tbl0002_documents;
+        IF max_id IS NOT NULL THEN
+            PERFORM setval('tbl0002_documents_seq', max_id, true);
+        END IF;
+        ALTER TABLE tbl0002_documents ALTER COLUMN id DROP IDENTITY IF EXISTS;
+    END IF;
+END $$;
@@ -0,0 +1,56 @@
+-- Merges the two join tables of the Customer/Document association into tbl0006_customer_document.
+-- Customer.documents wrote tbl0006 and Document.customers wrote tbl0003 independently; only tbl0006 is mapped now.
+-- tbl0003 was mapped from the document side with joinColumns = customer_id, so its customer_id column holds
+-- the document id and its document_id column holds the customer id: the copy swaps them back.
+-- Runs on both new and existing databases: on a new database the tables are created afterwards by Hibernate.
+DO $$
+BEGIN
+    IF to_regclass('tbl0003_customers_contacts') IS NULL THEN
+        RETURN;
+    END IF;
+
+    IF to_regclass('tbl0006_customer_document') IS NULL THEN
+        CREATE TABLE tbl0006_customer_document (
+            customer_id BIGINT NOT NULL REFERENCES tbl0001_customers (id),
+            document_id BIGINT NOT NULL REFERENCES tbl0002_documents (id)
+        );
+    END IF;
+
+    INSERT INTO tbl0006_customer_document (customer_id, document_id)
+    SELECT DISTINCT legacy.document_id, legacy.customer_id
+    FROM tbl0003_customers_contacts legacy
+    WHERE EXISTS (SELECT 1 FROM tbl0001_customers c WHERE c.id = legacy.document_id)
+      AND EXISTS (SELECT 1 FROM tbl0002_documents d WHERE d.id = legacy.customer_id)
+      AND NOT EXISTS (
+          SELECT 1
+          FROM tbl0006_customer_document link
+          WHERE link.customer_id = legacy.document_id
+            AND link.document_id = legacy.customer_id
+      );
+
+    DROP TABLE tbl0003_customers_contacts;
+END $$;
+
+-- Both sides used to append the same link, so a pair may be stored more than once.
+DO $$
+BEGIN
+    IF to_regclass('tbl0006_customer_document') IS NULL THEN
+        RETURN;
+    END IF;
+
+    DELETE FROM tbl0006_customer_document duplicate
+    USING tbl0006_customer_document kept
+    WHERE duplicate.customer_id = kept.customer_id
+      AND duplicate.document_id = kept.document_id
+      AND duplicate.ctid > kept.ctid;
+
+    IF NOT EXISTS (
+        SELECT 1
+        FROM pg_constraint
+        WHERE conrelid = 'tbl0006_customer_document'::regclass
+          AND contype = 'p'
+    ) THEN
+        ALTER TABLE tbl0006_customer_document
+            ADD CONSTRAINT pk_tbl0006_customer_document PRIMARY KEY (customer_id, document_id);
+    END IF;
+END $$;
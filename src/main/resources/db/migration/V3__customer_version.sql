@@ -0,0 +1,8 @@
+-- Adds the optimistic lock version of customers; existing rows start at version 0.
+-- Runs on both new and existing databases: on a new database the table is created afterwards by Hibernate.
+DO $$
+BEGIN
+    IF to_regclass('tbl0001_customers') IS NOT NULL THEN
+        ALTER TABLE tbl0001_customers ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+    END IF;
+END $$;
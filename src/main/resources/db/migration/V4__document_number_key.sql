@@ -0,0 +1,19 @@
+-- Adds the numeric key of document numbers and the (document_type, number_key) index used by lookups.
+-- CPF and CNH have 11 digits and numeric CNPJ has 14, so the digits fit a BIGINT without ambiguity;
+-- RG and alphanumeric CNPJ keep a NULL key and are still looked up through the (document_type, number) constraint.
+-- Runs on both new and existing databases: on a new database the table is created afterwards by Hibernate.
+DO $$
+BEGIN
+    IF to_regclass('tbl0002_documents') IS NOT NULL THEN
+        ALTER TABLE tbl0002_documents ADD COLUMN IF NOT EXISTS number_key BIGINT;
+
+        UPDATE tbl0002_documents
+           SET number_key = CAST(number AS BIGINT)
+         WHERE number_key IS NULL
+           AND ((document_type IN ('CPF', 'CNH') AND number ~ '^[0-9]{11}$')
+             OR (document_type = 'CNPJ' AND number ~ '^[0-9]{14}$'));
+
+        CREATE INDEX IF NOT EXISTS ix_tbl0002_document_type_number_key
+            ON tbl0002_documents (document_type, number_key);
+    END IF;
+END $$;
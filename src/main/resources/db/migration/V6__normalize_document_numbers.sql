@@ -0,0 +1,46 @@
+-- Stores legacy document numbers in the normalized form written by DocumentNumberValidator:
+-- without the '.', '-', '/' and ' ' separators and in upper case, so '123.456.789-09' becomes '12345678909'.
+-- Lookups normalize the number they receive, so a row still stored formatted could never be found.
+-- Two rows that normalize to the same number are the same document: the oldest one (lowest id) is kept,
+-- the customers linked to the others are linked to it, and the others are deleted.
+-- Runs on both new and existing databases: on a new database there is no legacy row and nothing changes.
+DO $$
+BEGIN
+    IF to_regclass('tbl0002_documents') IS NULL THEN
+        RETURN;
+    END IF;
+
+    CREATE TEMPORARY TABLE document_number_duplicates ON COMMIT DROP AS
+    SELECT ranked.id AS duplicate_id, ranked.kept_id
+    FROM (
+        SELECT id,
+               MIN(id) OVER (PARTITION BY document_type, upper(regexp_replace(number, '[./ -]', '', 'g'))) AS kept_id
+        FROM tbl0002_documents
+    ) ranked
+    WHERE ranked.id <> ranked.kept_id;
+
+    IF to_regclass('tbl0006_customer_document') IS NOT NULL THEN
+        INSERT INTO tbl0006_customer_document (customer_id, document_id)
+        SELECT DISTINCT link.customer_id, duplicate.kept_id
+        FROM tbl0006_customer_document link
+        JOIN document_number_duplicates duplicate ON duplicate.duplicate_id = link.document_id
+        WHERE NOT EXISTS (
+            SELECT 1
+            FROM tbl0006_customer_document kept
+            WHERE kept.customer_id = link.customer_id
+              AND kept.document_id = duplicate.kept_id
+        );
+
+        DELETE FROM tbl0006_customer_document link
+        USING document_number_duplicates duplicate
+        WHERE link.document_id = duplicate.duplicate_id;
+    END IF;
+
+    DELETE FROM tbl0002_documents document
+    USING document_number_duplicates duplicate
+    WHERE document.id = duplicate.duplicate_id;
+
+    UPDATE tbl0002_documents
+       SET number = upper(regexp_replace(number, '[./ -]', '', 'g'))
+     WHERE number <> upper(regexp_replace(number, '[./ -]', '', 'g'));
+END $$;
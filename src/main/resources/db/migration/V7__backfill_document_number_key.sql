@@ -0,0 +1,24 @@
+-- Recomputes the numeric key of every document from its number, now that V6 stored all numbers normalized.
+-- V4 only filled rows already stored as bare digits, so formatted legacy rows were left with a NULL key.
+-- Same rule as DocumentNumberValidator.numberKey: CPF and CNH with 11 digits and numeric CNPJ with 14 digits
+-- get the digits as a BIGINT; RG and alphanumeric CNPJ keep a NULL key.
+-- Runs on both new and existing databases: on a new database there is no legacy row and nothing changes.
+DO $$
+BEGIN
+    IF to_regclass('tbl0002_documents') IS NULL THEN
+        RETURN;
+    END IF;
+
+    UPDATE tbl0002_documents
+       SET number_key = computed.number_key
+      FROM (
+          SELECT id,
+                 CASE
+                     WHEN document_type IN ('CPF', 'CNH') AND number ~ '^[0-9]{11}$' THEN CAST(number AS BIGINT)
+                     WHEN document_type = 'CNPJ' AND number ~ '^[0-9]{14}$' THEN CAST(number AS BIGINT)
+                 END AS number_key
+          FROM tbl0002_documents
+      ) computed
+     WHERE tbl0002_documents.id = computed.id
+       AND tbl0002_documents.number_key IS DISTINCT FROM computed.number_key;
+END $$;
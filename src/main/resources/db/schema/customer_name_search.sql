@@ -0,0 +1,20 @@
+-- Enables the trigram name search of customers (GET /customers/search).
+-- unaccent is only STABLE, so f_unaccent wraps it with a fixed dictionary as IMMUTABLE to be usable in an index.
+-- The GIN index covers the exact expression matched by CustomerSearchRepositoryImpl; both must change together.
+-- Not a Flyway migration: Flyway runs before Hibernate, so on a new database the table would not exist yet.
+-- SchemaScriptConfig runs this script on every startup once Hibernate has built the schema,
+-- so every statement is idempotent. The script is sent as a single statement.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+CREATE OR REPLACE FUNCTION f_unaccent(text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+AS $$ SELECT public.unaccent('public.unaccent'::regdictionary, $1) $$;
+
+DO $$
+BEGIN
+    IF to_regclass('tbl0001_customers') IS NOT NULL THEN
+        CREATE INDEX IF NOT EXISTS ix_tbl0001_customers_name_trgm
+            ON tbl0001_customers USING gin (f_unaccent(lower(first_name || ' ' || last_name)) gin_trgm_ops);
+    END IF;
+END $$;
@@ -1,12 +1,19 @@
 package br.com.douglasdreer.the_barbers_forge.configs;
 
-import br.com.douglasdreer.the_barbers_forge.dtos.ErrorDTO;
+import br.com.douglasdreer.the_barbers_forge.enums.MessageErroType;
+import br.com.douglasdreer.the_barbers_forge.enums.ProblemType;
+import br.com.douglasdreer.the_barbers_forge.exceptions.DocumentNotFoundException;
 import br.com.douglasdreer.the_barbers_forge.exceptions.ResourceNotFoundException;
 import br.com.douglasdreer.the_barbers_forge.exceptions.UniqueConstraintViolationException;
+import br.com.douglasdreer.the_barbers_forge.exceptions.ValidateDocumentServiceException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -41,14 +48,14 @@ public class GlobalHandleConfigTest {
         };
 
         // Executa o handler
-        ResponseEntity<ErrorDTO> response = globalHandleConfig.handleDataIntegrityViolationException(exception);
+        ResponseEntity<ProblemDetail> response = globalHandleConfig.handleDataIntegrityViolationException(exception);
 
         // Verifica a resposta
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode(), "Status code deve ser BAD_REQUEST");
         assertNotNull(response.getBody(), "Corpo da resposta não deve ser nulo");
-        assertEquals(400L, response.getBody().getCode(), "Código de erro deve ser 400");
+        assertEquals(400, response.getBody().getStatus(), "Código de erro deve ser 400");
         assertEquals("Duplicate Entry", response.getBody().getTitle(), "Título deve indicar entrada duplicada");
-        assertTrue(response.getBody().getMessage().contains("cpf"), "Mensagem deve mencionar o campo CPF");
+        assertTrue(response.getBody().getDetail().contains("cpf"), "Mensagem deve mencionar o campo CPF");
     }
 
     /**
@@ -60,12 +67,12 @@ public class GlobalHandleConfigTest {
         DataIntegrityViolationException exception = new DataIntegrityViolationException("Database error");
 
         // Executa o handler
-        ResponseEntity<ErrorDTO> response = globalHandleConfig.handleDataIntegrityViolationException(exception);
+        ResponseEntity<ProblemDetail> response = globalHandleConfig.handleDataIntegrityViolationException(exception);
 
         // Verifica a resposta
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode(), "Status code deve ser INTERNAL_SERVER_ERROR");
         assertNotNull(response.getBody(), "Corpo da resposta não deve ser nulo");
-        assertEquals(500L, response.getBody().getCode(), "Código de erro deve ser 500");
+        assertEquals(500, response.getBody().getStatus(), "Código de erro deve ser 500");
         assertEquals("Internal Server Error", response.getBody().getTitle(), "Título deve indicar erro interno");
     }
 
@@ -79,14 +86,14 @@ public class GlobalHandleConfigTest {
         UniqueConstraintViolationException exception = new UniqueConstraintViolationException(errorMessage);
 
         // Executa o handler
-        ResponseEntity<ErrorDTO> response = globalHandleConfig.handleUniqueConstraintViolationException(exception);
+        ResponseEntity<ProblemDetail> response = globalHandleConfig.handleUniqueConstraintViolationException(exception);
 
         // Verifica a resposta
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode(), "Status code deve ser BAD_REQUEST");
         assertNotNull(response.getBody(), "Corpo da resposta não deve ser nulo");
-        assertEquals(400L, response.getBody().getCode(), "Código de erro deve ser 400");
+        assertEquals(400, response.getBody().getStatus(), "Código de erro deve ser 400");
         assertEquals("Duplicate Entry", response.getBody().getTitle(), "Título deve indicar entrada duplicada");
-        assertEquals(errorMessage, response.getBody().getMessage(), "Mensagem deve ser a mesma da exceção");
+        assertEquals(errorMessage, response.getBody().getDetail(), "Mensagem deve ser a mesma da exceção");
     }
 
     /**
@@ -99,14 +106,14 @@ public class GlobalHandleConfigTest {
         IllegalArgumentException exception = new IllegalArgumentException(errorMessage);
 
         // Executa o handler
-        ResponseEntity<ErrorDTO> response = globalHandleConfig.handleIllegalArgumentException(exception);
+        ResponseEntity<ProblemDetail> response = globalHandleConfig.handleIllegalArgumentException(exception);
 
         // Verifica a resposta
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode(), "Status code deve ser BAD_REQUEST");
         assertNotNull(response.getBody(), "Corpo da resposta não deve ser nulo");
-        assertEquals(400L, response.getBody().getCode(), "Código de erro deve ser 400");
+        assertEquals(400, response.getBody().getStatus(), "Código de erro deve ser 400");
         assertEquals("Invalid Parameter", response.getBody().getTitle(), "Título deve indicar parâmetro inválido");
-        assertEquals(errorMessage, response.getBody().getMessage(), "Mensagem deve ser a mesma da exceção");
+        assertEquals(errorMessage, response.getBody().getDetail(), "Mensagem deve ser a mesma da exceção");
     }
 
     /**
@@ -119,14 +126,43 @@ public class GlobalHandleConfigTest {
         ResourceNotFoundException exception = new ResourceNotFoundException(errorMessage);
 
         // Executa o handler
-        ResponseEntity<ErrorDTO> response = globalHandleConfig.handleResourceNotFoundException(exception);
+        ResponseEntity<ProblemDetail> response = globalHandleConfig.handleResourceNotFoundException(exception);
 
         // Verifica a resposta
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode(), "Status code deve ser NOT_FOUND");
         assertNotNull(response.getBody(), "Corpo da resposta não deve ser nulo");
-        assertEquals(404L, response.getBody().getCode(), "Código de erro deve ser 404");
+        assertEquals(404, response.getBody().getStatus(), "Código de erro deve ser 404");
         assertEquals("Resource Not Found", response.getBody().getTitle(), "Título deve indicar recurso não encontrado");
-        assertEquals(errorMessage, response.getBody().getMessage(), "Mensagem deve ser a mesma da exceção");
+        assertEquals(errorMessage, response.getBody().getDetail(), "Mensagem deve ser a mesma da exceção");
+    }
+
+    /**
+     * Testa que um documento inexistente é respondido com 404 no formato Problem Details.
+     */
+    @Test
+    void handleResourceNotFoundExceptionShouldReturnNotFoundForMissingDocument() {
+        ResponseEntity<ProblemDetail> response = globalHandleConfig.handleResourceNotFoundException(new DocumentNotFoundException());
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode(), "Status code deve ser NOT_FOUND");
+        assertNotNull(response.getBody(), "Corpo da resposta não deve ser nulo");
+        assertEquals(ProblemType.RESOURCE_NOT_FOUND.getType(), response.getBody().getType(), "Tipo deve identificar o erro");
+        assertEquals(MessageErroType.NOT_FOUND.getMessage(), response.getBody().getDetail(), "Detalhe deve ser a mensagem da exceção");
+    }
+
+    /**
+     * Testa que um número de documento inválido é respondido com 400 no formato Problem Details.
+     */
+    @Test
+    void handleValidateDocumentServiceExceptionShouldReturnBadRequest() {
+        ValidateDocumentServiceException exception =
+                new ValidateDocumentServiceException(MessageErroType.INVALID_DOCUMENT_NUMBER.getMessage());
+
+        ResponseEntity<ProblemDetail> response = globalHandleConfig.handleValidateDocumentServiceException(exception);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode(), "Status code deve ser BAD_REQUEST");
+        assertNotNull(response.getBody(), "Corpo da resposta não deve ser nulo");
+        assertEquals(ProblemType.INVALID_PARAMETER.getType(), response.getBody().getType(), "Tipo deve identificar o erro");
+        assertEquals(MessageErroType.INVALID_DOCUMENT_NUMBER.getMessage(), response.getBody().getDetail(), "Detalhe deve ser a mensagem da exceção");
     }
 
     /**
@@ -138,14 +174,14 @@ public class GlobalHandleConfigTest {
         UnsupportedOperationException exception = new UnsupportedOperationException();
 
         // Executa o handler
-        ResponseEntity<ErrorDTO> response = globalHandleConfig.handleUnsupportedOperationException(exception);
+        ResponseEntity<ProblemDetail> response = globalHandleConfig.handleUnsupportedOperationException(exception);
 
         // Verifica a resposta
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode(), "Status code deve ser INTERNAL_SERVER_ERROR");
         assertNotNull(response.getBody(), "Corpo da resposta não deve ser nulo");
-        assertEquals(500L, response.getBody().getCode(), "Código de erro deve ser 500");
+        assertEquals(500, response.getBody().getStatus(), "Código de erro deve ser 500");
         assertEquals("Internal Server Error", response.getBody().getTitle(), "Título deve indicar erro interno");
-        assertEquals("Function not implement still.", response.getBody().getMessage(), "Mensagem deve indicar que a função não está implementada");
+        assertEquals("Function not implement still.", response.getBody().getDetail(), "Mensagem deve indicar que a função não está implementada");
     }
 
     /**
@@ -154,13 +190,42 @@ public class GlobalHandleConfigTest {
     @Test
     void handleGeneralExceptionShouldReturnInternalServerError() {
         // Executa o handler
-        ResponseEntity<ErrorDTO> response = globalHandleConfig.handleGeneralException();
+        ResponseEntity<ProblemDetail> response = globalHandleConfig.handleGeneralException(new IllegalStateException("boom"));
 
         // Verifica a resposta
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode(), "Status code deve ser INTERNAL_SERVER_ERROR");
         assertNotNull(response.getBody(), "Corpo da resposta não deve ser nulo");
-        assertEquals(500L, response.getBody().getCode(), "Código de erro deve ser 500");
+        assertEquals(500, response.getBody().getStatus(), "Código de erro deve ser 500");
         assertEquals("Internal Server Error", response.getBody().getTitle(), "Título deve indicar erro interno");
-        assertEquals("An unexpected error occurred.", response.getBody().getMessage(), "Mensagem deve indicar erro inesperado");
+        assertEquals("An unexpected error occurred.", response.getBody().getDetail(), "Mensagem deve indicar erro inesperado");
+    }
+
+    /**
+     * Testa o tratamento de exceção quando não há conexão disponível no pool.
+     */
+    @Test
+    void handleCannotCreateTransactionExceptionShouldReturnServiceUnavailable() {
+        CannotCreateTransactionException exception = new CannotCreateTransactionException("Connection is not available");
+
+        ResponseEntity<ProblemDetail> response = globalHandleConfig.handleCannotCreateTransactionException(exception);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode(), "Status code deve ser SERVICE_UNAVAILABLE");
+        assertNotNull(response.getBody(), "Corpo da resposta não deve ser nulo");
+        assertEquals(503, response.getBody().getStatus(), "Código de erro deve ser 503");
+        assertNotNull(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER), "Deve indicar quando tentar novamente");
+    }
+
+    /**
+     * Testa o tratamento de exceção quando a versão do recurso mudou desde a leitura.
+     */
+    @Test
+    void handleOptimisticLockingFailureExceptionShouldReturnConflict() {
+        ObjectOptimisticLockingFailureException exception = new ObjectOptimisticLockingFailureException(Object.class, 1L);
+
+        ResponseEntity<ProblemDetail> response = globalHandleConfig.handleOptimisticLockingFailureException(exception);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode(), "Status code deve ser CONFLICT");
+        assertNotNull(response.getBody(), "Corpo da resposta não deve ser nulo");
+        assertEquals(409, response.getBody().getStatus(), "Código de erro deve ser 409");
     }
-} 
\ No newline at end of file
+}
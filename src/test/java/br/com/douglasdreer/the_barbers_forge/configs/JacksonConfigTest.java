@@ -0,0 +1,68 @@
+package br.com.douglasdreer.the_barbers_forge.configs;
+
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.CustomerMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <h1>JacksonConfigTest</h1>
+ * <p>Testes para a classe de configuração {@link JacksonConfig}.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class JacksonConfigTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CustomerMapper customerMapper;
+
+    @Autowired
+    private RequestMappingHandlerAdapter handlerAdapter;
+
+    /**
+     * Testa se o ObjectMapper da aplicação tem o Blackbird registrado e gera JSON compacto com datas ISO-8601.
+     */
+    @Test
+    void objectMapperShouldBeTunedAndCompact() {
+        CustomerDTO customer = new CustomerDTO();
+        customer.setFirstName("João");
+        customer.setCreatedAt(LocalDateTime.of(2024, 5, 10, 8, 30));
+
+        String json = customerMapper.toJson(customer);
+
+        assertTrue(objectMapper.getRegisteredModuleIds().contains(new BlackbirdModule().getTypeId()),
+                "Blackbird deve estar registrado");
+        assertFalse(json.contains("\n"), "O JSON não deve ser indentado");
+        assertTrue(json.contains("\"createdAt\":\"2024-05-10T08:30:00\""), "Datas devem ser escritas no formato ISO-8601");
+    }
+
+    /**
+     * Testa se o Spring MVC usa a mesma instância de ObjectMapper dos mapeadores.
+     */
+    @Test
+    void springMvcShouldShareTheObjectMapper() {
+        MappingJackson2HttpMessageConverter converter = handlerAdapter.getMessageConverters().stream()
+                .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+                .map(MappingJackson2HttpMessageConverter.class::cast)
+                .findFirst()
+                .orElseThrow();
+
+        assertSame(objectMapper, converter.getObjectMapper(), "O ObjectMapper deve ser compartilhado");
+    }
+}
@@ -0,0 +1,120 @@
+package br.com.douglasdreer.the_barbers_forge.configs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <h1>ProductionProfileTest</h1>
+ * <p>Testes do perfil {@code prod}: respostas JSON compactadas com gzip e HTTP/2 sem TLS (h2c).</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "prod"})
+public class ProductionProfileTest {
+    private static final int PAGE_SIZE = 100;
+    private static final String CPF_PREFIX = "99";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    public void setUp() {
+        List<Object[]> customers = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            customers.add(new Object[]{"Cliente " + i, "Sobrenome " + i, CPF_PREFIX + String.format("%09d", i),
+                    "Rua das Flores, " + i, "11987654321", LocalDate.of(1990, 1, 15)});
+        }
+        jdbcTemplate.batchUpdate("insert into TBL0001_CUSTOMERS (first_name, last_name, cpf, address, phone, birth_date) "
+                + "values (?, ?, ?, ?, ?, ?)", customers);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("delete from TBL0001_CUSTOMERS where cpf like ?", CPF_PREFIX + "%");
+    }
+
+    /**
+     * Testa que uma página de 100 clientes é entregue por HTTP/2 (h2c), compactada com gzip e com o envelope
+     * enxuto, sem os metadados de {@code Pageable}.
+     */
+    @Test
+    public void customerPageShouldBeCompressedOverHttp2() throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/v1/customers?page=0&pageSize=" + PAGE_SIZE))
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build();
+
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(200, response.statusCode());
+        assertEquals(HttpClient.Version.HTTP_2, response.version());
+        assertEquals("gzip", response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+        byte[] json = gunzip(response.body());
+        assertTrue(response.body().length * 4 < json.length,
+                "gzip: " + response.body().length + " bytes, JSON: " + json.length + " bytes");
+
+        JsonNode page = objectMapper.readTree(json);
+        assertEquals(PAGE_SIZE, page.get("content").size());
+        assertFalse(page.has("pageable"));
+        assertFalse(page.has("sort"));
+    }
+
+    /**
+     * Testa que respostas abaixo do limite não são compactadas.
+     */
+    @Test
+    public void smallResponsesShouldNotBeCompressed() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/v1/customers/" + firstCustomerId()))
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build();
+
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).isEmpty());
+    }
+
+    private long firstCustomerId() {
+        return jdbcTemplate.queryForObject("select min(id) from TBL0001_CUSTOMERS", Long.class);
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
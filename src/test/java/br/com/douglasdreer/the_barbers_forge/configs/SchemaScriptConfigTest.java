@@ -0,0 +1,72 @@
+package br.com.douglasdreer.the_barbers_forge.configs;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h1>SchemaScriptConfigTest</h1>
+ * <p>Testes para a classe de configuração {@link SchemaScriptConfig}.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+public class SchemaScriptConfigTest {
+
+    /**
+     * Testa se, no PostgreSQL, o script da busca por nome é enviado inteiro em um único comando,
+     * com o índice protegido por {@code to_regclass}.
+     */
+    @Test
+    void nameSearchScriptShouldRunAsSingleStatementOnPostgres() throws Exception {
+        Statement statement = mock(Statement.class);
+        Connection connection = mock(Connection.class);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+
+        new SchemaScriptConfig().schemaScripts(dataSource, entityManagerFactory(new PostgreSQLDialect()))
+                .afterPropertiesSet();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(statement).execute(sql.capture());
+        assertTrue(sql.getValue().contains("CREATE EXTENSION IF NOT EXISTS pg_trgm"));
+        assertTrue(sql.getValue().contains("IF to_regclass('tbl0001_customers') IS NOT NULL THEN"));
+        assertTrue(sql.getValue().contains("CREATE INDEX IF NOT EXISTS ix_tbl0001_customers_name_trgm"));
+    }
+
+    /**
+     * Testa se outros bancos, como o H2 dos testes, não executam os scripts do PostgreSQL.
+     */
+    @Test
+    void scriptsShouldBeSkippedOnOtherDatabases() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+
+        new SchemaScriptConfig().schemaScripts(dataSource, entityManagerFactory(new H2Dialect()))
+                .afterPropertiesSet();
+
+        verifyNoInteractions(dataSource);
+    }
+
+    private static EntityManagerFactory entityManagerFactory(Dialect dialect) {
+        JdbcServices jdbcServices = mock(JdbcServices.class);
+        when(jdbcServices.getDialect()).thenReturn(dialect);
+        SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class);
+        when(sessionFactory.getJdbcServices()).thenReturn(jdbcServices);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        return entityManagerFactory;
+    }
+}
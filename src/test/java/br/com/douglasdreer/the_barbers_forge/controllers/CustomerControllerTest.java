@@ -1,22 +1,33 @@
 package br.com.douglasdreer.the_barbers_forge.controllers;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,14 +38,24 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 
 import br.com.douglasdreer.the_barbers_forge.dtos.CustomerDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerSuggestionDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.CursorMapper;
 import br.com.douglasdreer.the_barbers_forge.dtos.request.CreateCustomerRequest;
+import br.com.douglasdreer.the_barbers_forge.dtos.request.CustomerMergePatch;
+import br.com.douglasdreer.the_barbers_forge.exceptions.PreconditionFailedException;
+import br.com.douglasdreer.the_barbers_forge.exceptions.ResourceNotFoundException;
 import br.com.douglasdreer.the_barbers_forge.services.CustomerService;
 
 /**
@@ -57,6 +78,7 @@ public class CustomerControllerTest {
     private ObjectMapper objectMapper;
     
     private static final String BASE_URL = "/customers";
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
     private static final String FIRST_NAME = "João";
     private static final String LAST_NAME = "Silva";
     private static final String ADDRESS = "Rua das Flores, 123";
@@ -86,6 +108,7 @@ public class CustomerControllerTest {
         dto.setDocuments(new ArrayList<>());
         dto.setCreatedAt(LocalDateTime.now());
         dto.setUpdatedAt(LocalDateTime.now());
+        dto.setVersion(0L);
     }
 
     @Test
@@ -119,6 +142,12 @@ public class CustomerControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.totalElements").value(customerPagined.getTotalElements()))
                 .andExpect(jsonPath("$.totalPages").value(customerPagined.getTotalPages()))
+                .andExpect(jsonPath("$.number").value(0))
+                .andExpect(jsonPath("$.first").value(true))
+                .andExpect(jsonPath("$.last").value(true))
+                .andExpect(jsonPath("$.numberOfElements").value(1))
+                .andExpect(jsonPath("$.empty").value(false))
+                .andExpect(jsonPath("$.pageable").doesNotExist())
                 .andExpect(jsonPath("$.content").isNotEmpty())
                 .andExpect(jsonPath("$.content[0].id").value(dto.getId()))
                 .andExpect(jsonPath("$.content[0].firstName").value(dto.getFirstName()))
@@ -127,6 +156,72 @@ public class CustomerControllerTest {
                 .andExpect(jsonPath("$.content[0].phone").value(dto.getPhone()));
     }
 
+    @Test
+    void mustReturnSuccessWhenListCustomersWithCursor() throws Exception {
+        final String cursor = CursorMapper.encode(0L);
+        SliceImpl<CustomerDTO> slice = new SliceImpl<>(List.of(dto), PageRequest.of(0, 10), false);
+        when(customerService.findAllCustomersWithCursor(eq(cursor), anyInt())).thenReturn(slice);
+
+        MockHttpServletRequestBuilder getMethod = get(BASE_URL + "/scroll")
+                .param("cursor", cursor)
+                .param("pageSize", "10");
+
+        mockMvc.perform(getMethod)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(dto.getId()))
+                .andExpect(jsonPath("$.content[0].firstName").value(dto.getFirstName()))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    void mustReturnSuccessWhenSearchCustomers() throws Exception {
+        when(customerService.searchCustomers("joao", 5)).thenReturn(List.of(dto));
+
+        mockMvc.perform(get(BASE_URL + "/search").param("q", "joao").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(dto.getId()))
+                .andExpect(jsonPath("$[0].firstName").value(dto.getFirstName()));
+    }
+
+    @Test
+    void mustReturnBadRequestWhenSearchCustomersWithShortQuery() throws Exception {
+        when(customerService.searchCustomers("j", 20)).thenThrow(new IllegalArgumentException("Busca curta"));
+
+        mockMvc.perform(get(BASE_URL + "/search").param("q", "j"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void mustReturnSuggestionsWhenAutocompleteCustomers() throws Exception {
+        when(customerService.autocompleteCustomers("jo", 10))
+                .thenReturn(List.of(new CustomerSuggestionDTO(CUSTOMER_ID, FIRST_NAME, "Silva")));
+
+        mockMvc.perform(get(BASE_URL + "/autocomplete").param("q", "jo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(CUSTOMER_ID))
+                .andExpect(jsonPath("$[0].firstName").value(FIRST_NAME))
+                .andExpect(jsonPath("$[0].version").doesNotExist());
+    }
+
+    @Test
+    void mustReturnNdjsonWhenExportCustomers() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<CustomerDTO> sink = invocation.getArgument(0);
+            sink.accept(dto);
+            sink.accept(dto);
+            return null;
+        }).when(customerService).exportCustomers(any());
+
+        final String LINE = objectMapper.writeValueAsString(dto);
+
+        mockMvc.perform(get(BASE_URL + "/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(LINE + "\n" + LINE + "\n"));
+    }
+
     @Test
     void mustReturnSuccessWhenFindCustomerById() throws Exception {
         when(customerService.findCustomerById(anyLong())).thenReturn(dto);
@@ -142,9 +237,95 @@ public class CustomerControllerTest {
                 .andExpect(jsonPath("$.phone").value(dto.getPhone()));
     }
 
+    @Test
+    void mustReturnETagWhenFindCustomerById() throws Exception {
+        when(customerService.findCustomerById(anyLong())).thenReturn(dto);
+
+        mockMvc.perform(get(BASE_URL + "/{id}", CUSTOMER_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-0\""));
+    }
+
+    @Test
+    void mustReturnNotModifiedWhenFindCustomerByIdWithCurrentETag() throws Exception {
+        when(customerService.findCustomerETag(CUSTOMER_ID)).thenReturn("\"1-0\"");
+
+        mockMvc.perform(get(BASE_URL + "/{id}", CUSTOMER_ID).header(HttpHeaders.IF_NONE_MATCH, "\"1-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(customerService, never()).findCustomerById(anyLong());
+    }
+
+    @Test
+    void mustReturnSuccessWhenFindCustomerByIdWithStaleETag() throws Exception {
+        when(customerService.findCustomerETag(CUSTOMER_ID)).thenReturn("\"1-0\"");
+        when(customerService.findCustomerById(anyLong())).thenReturn(dto);
+
+        mockMvc.perform(get(BASE_URL + "/{id}", CUSTOMER_ID).header(HttpHeaders.IF_NONE_MATCH, "\"1-7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-0\""))
+                .andExpect(jsonPath("$.id").value(dto.getId()));
+    }
+
+    @Test
+    void mustReturnPreconditionFailedWhenUpdateCustomerWithStaleETag() throws Exception {
+        when(customerService.updateCustomer(eq(CUSTOMER_ID), any(), eq(0L)))
+                .thenThrow(new PreconditionFailedException("Versão desatualizada"));
+
+        mockMvc.perform(put(BASE_URL + "/{id}", CUSTOMER_ID)
+                        .header(HttpHeaders.IF_MATCH, "\"1-0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createCustomerRequest)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.title").value("Precondition Failed"));
+    }
+
+    @Test
+    void mustReturnSuccessWhenUpdateCustomerWithCurrentETag() throws Exception {
+        dto.setVersion(1L);
+        when(customerService.updateCustomer(eq(CUSTOMER_ID), any(), eq(0L))).thenReturn(dto);
+
+        mockMvc.perform(put(BASE_URL + "/{id}", CUSTOMER_ID)
+                        .header(HttpHeaders.IF_MATCH, "\"1-0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createCustomerRequest)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-1\""));
+    }
+
+    @Test
+    void mustReturnPreconditionFailedWhenUpdateCustomerWithETagOfAnotherCustomer() throws Exception {
+        mockMvc.perform(put(BASE_URL + "/{id}", CUSTOMER_ID)
+                        .header(HttpHeaders.IF_MATCH, "\"2-0\"", "W/\"1-0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createCustomerRequest)))
+                .andExpect(status().isPreconditionFailed());
+        verify(customerService, never()).updateCustomer(anyLong(), any(), any());
+    }
+
+    @Test
+    void mustReturnPreconditionFailedWhenDeleteCustomerWithStaleETag() throws Exception {
+        doThrow(new PreconditionFailedException("Versão desatualizada"))
+                .when(customerService).deleteCustomerById(CUSTOMER_ID, 0L);
+
+        mockMvc.perform(delete(BASE_URL + "/{id}", CUSTOMER_ID).header(HttpHeaders.IF_MATCH, "\"1-0\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void mustPassExpectedVersionWhenPatchCustomerWithETag() throws Exception {
+        when(customerService.patchCustomer(eq(CUSTOMER_ID), any(), eq(3L))).thenReturn(dto);
+
+        mockMvc.perform(patch(BASE_URL + "/{id}", CUSTOMER_ID)
+                        .header(HttpHeaders.IF_MATCH, "\"1-3\"")
+                        .contentType(CustomerMergePatch.MEDIA_TYPE)
+                        .content("{\"version\": 3, \"phone\": null}"))
+                .andExpect(status().isOk());
+    }
+
     @Test
     void mustReturnSuccessWhenUpdateCustomer() throws Exception {
-        when(customerService.updateCustomer(anyLong(), any())).thenReturn(dto);
+        when(customerService.updateCustomer(anyLong(), any(), any())).thenReturn(dto);
         final String JSON_CONTENT = objectMapper.writeValueAsString(createCustomerRequest);
 
         MockHttpServletRequestBuilder putMethod = put(BASE_URL + "/{id}", CUSTOMER_ID)
@@ -160,13 +341,118 @@ public class CustomerControllerTest {
                 .andExpect(jsonPath("$.phone").value(dto.getPhone()));
     }
 
+    @Test
+    void mustReturnSmileWhenFindCustomerByIdAcceptingSmile() throws Exception {
+        when(customerService.findCustomerById(anyLong())).thenReturn(dto);
+
+        byte[] body = mockMvc.perform(get(BASE_URL + "/{id}", CUSTOMER_ID).accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        CustomerDTO result = new SmileMapper().findAndRegisterModules().readValue(body, CustomerDTO.class);
+        assertEquals(dto.getFirstName(), result.getFirstName());
+        assertEquals(dto.getBirthDate(), result.getBirthDate());
+    }
+
     @Test
     void mustReturnSuccessWhenDeleteCustomerById() throws Exception {
         final String MSG_SUCCESS = "Cliente removido com sucesso";
-        doNothing().when(customerService).deleteCustomerById(anyLong());
+        doNothing().when(customerService).deleteCustomerById(anyLong(), any());
 
         mockMvc.perform(delete(BASE_URL + "/{id}", CUSTOMER_ID))
                 .andExpect(status().isOk())
                 .andExpect(content().string(MSG_SUCCESS));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void mustReturnSuccessWhenDeleteCustomers() throws Exception {
+        when(customerService.deleteCustomers(List.of(1L, 2L))).thenReturn(2);
+
+        mockMvc.perform(delete(BASE_URL).param("ids", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Clientes removidos com sucesso: 2"));
+    }
+
+    @Test
+    void mustReturnSuccessWhenLinkDocument() throws Exception {
+        doNothing().when(customerService).linkDocument(anyLong(), anyLong());
+
+        mockMvc.perform(put(BASE_URL + "/{id}/documents/{documentId}", CUSTOMER_ID, 10L))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Documento vinculado com sucesso"));
+    }
+
+    @Test
+    void mustReturnNotFoundWhenUnlinkDocumentNotLinked() throws Exception {
+        doThrow(new ResourceNotFoundException("Documento 10 não vinculado ao cliente com o ID: 1"))
+                .when(customerService).unlinkDocument(anyLong(), anyLong());
+
+        mockMvc.perform(delete(BASE_URL + "/{id}/documents/{documentId}", CUSTOMER_ID, 10L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void mustReturnSuccessWhenLinkDocuments() throws Exception {
+        when(customerService.linkDocuments(eq(CUSTOMER_ID), eq(List.of(10L, 11L)))).thenReturn(2);
+
+        mockMvc.perform(put(BASE_URL + "/{id}/documents", CUSTOMER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[10, 11]"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Documentos vinculados com sucesso: 2"));
+    }
+
+    @Test
+    void mustReturnSuccessWhenUnlinkDocuments() throws Exception {
+        when(customerService.unlinkDocuments(eq(CUSTOMER_ID), eq(List.of(10L, 11L)))).thenReturn(1);
+
+        mockMvc.perform(delete(BASE_URL + "/{id}/documents", CUSTOMER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[10, 11]"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Documentos desvinculados com sucesso: 1"));
+    }
+
+    @Test
+    void mustReturnSuccessWhenPatchCustomer() throws Exception {
+        dto.setVersion(4L);
+        when(customerService.patchCustomer(eq(CUSTOMER_ID), argThat(patch ->
+                patch.getVersion() == 3L && patch.getChanges().equals(Map.of("firstName", FIRST_NAME))), any()))
+                .thenReturn(dto);
+
+        mockMvc.perform(patch(BASE_URL + "/{id}", CUSTOMER_ID)
+                        .contentType(CustomerMergePatch.MEDIA_TYPE)
+                        .content("{\"version\": 3, \"firstName\": \"" + FIRST_NAME + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName").value(FIRST_NAME))
+                .andExpect(jsonPath("$.version").value(4));
+    }
+
+    @Test
+    void mustReturnBadRequestWhenPatchCustomerWithNotPatchableField() throws Exception {
+        mockMvc.perform(patch(BASE_URL + "/{id}", CUSTOMER_ID)
+                        .contentType(CustomerMergePatch.MEDIA_TYPE)
+                        .content("{\"version\": 3, \"createdAt\": \"2020-01-01T00:00:00\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void mustReturnBadRequestWhenPatchCustomerWithoutVersion() throws Exception {
+        mockMvc.perform(patch(BASE_URL + "/{id}", CUSTOMER_ID)
+                        .contentType(CustomerMergePatch.MEDIA_TYPE)
+                        .content("{\"firstName\": \"" + FIRST_NAME + "\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void mustReturnConflictWhenPatchCustomerWithOutdatedVersion() throws Exception {
+        when(customerService.patchCustomer(eq(CUSTOMER_ID), any(), any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(CustomerDTO.class, CUSTOMER_ID));
+
+        mockMvc.perform(patch(BASE_URL + "/{id}", CUSTOMER_ID)
+                        .contentType(CustomerMergePatch.MEDIA_TYPE)
+                        .content("{\"version\": 1, \"phone\": null}"))
+                .andExpect(status().isConflict());
+    }
+}
@@ -1,9 +1,15 @@
 package br.com.douglasdreer.the_barbers_forge.controllers;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -11,9 +17,11 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,17 +34,28 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 
 import br.com.douglasdreer.the_barbers_forge.dtos.DocumentDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.ImportResultDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.ImportRowResultDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.CursorMapper;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.ETagMapper;
 import br.com.douglasdreer.the_barbers_forge.dtos.request.CreateDocumentRequest;
 import br.com.douglasdreer.the_barbers_forge.dtos.request.ParamDocumentRequest;
 import br.com.douglasdreer.the_barbers_forge.entities.Document;
 import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import br.com.douglasdreer.the_barbers_forge.enums.ImportRowStatus;
+import br.com.douglasdreer.the_barbers_forge.exceptions.DocumentNotFoundException;
 import br.com.douglasdreer.the_barbers_forge.services.DocumentService;
 
 @WebMvcTest(DocumentController.class)
@@ -114,12 +133,67 @@ public class DocumentControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.totalElements").value(documentPagined.getTotalElements()))
                 .andExpect(jsonPath("$.totalPages").value(documentPagined.getTotalPages()))
+                .andExpect(jsonPath("$.number").value(0))
+                .andExpect(jsonPath("$.first").value(true))
+                .andExpect(jsonPath("$.last").value(true))
+                .andExpect(jsonPath("$.numberOfElements").value(1))
+                .andExpect(jsonPath("$.empty").value(false))
+                .andExpect(jsonPath("$.pageable").doesNotExist())
                 .andExpect(jsonPath("$.content").isNotEmpty())
                 .andExpect(jsonPath("$.content[0].id").value(dto.getId()))
                 .andExpect(jsonPath("$.content[0].documentType").value(dto.getDocumentType().toString()))
                 .andExpect(jsonPath("$.content[0].number").value(dto.getNumber()));
     }
 
+    @Test
+    void mustReturnNdjsonWhenExportDocuments() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<DocumentDTO> sink = invocation.getArgument(0);
+            sink.accept(dto);
+            sink.accept(dto);
+            return null;
+        }).when(documentService).exportDocuments(any());
+
+        final String LINE = objectMapper.writeValueAsString(dto);
+
+        mockMvc.perform(get(BASE_URL + "/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(LINE + "\n" + LINE + "\n"));
+    }
+
+    @Test
+    void mustReturnSuccessWhenListDocumentWithCursor() throws Exception {
+        SliceImpl<DocumentDTO> slice = new SliceImpl<>(List.of(dto), PageRequest.of(0, 1), true);
+        when(documentService.findAllDocumentWithCursor(isNull(), anyInt())).thenReturn(slice);
+
+        MockHttpServletRequestBuilder getMethod = get(BASE_URL + "/scroll")
+                .param("pageSize", "1");
+
+        mockMvc.perform(getMethod)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(dto.getId()))
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(CursorMapper.encode(DOCUMENT_ID)))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    void mustReturnCborWhenListDocumentWithCursorAcceptingCbor() throws Exception {
+        SliceImpl<DocumentDTO> slice = new SliceImpl<>(List.of(dto), PageRequest.of(0, 1), true);
+        when(documentService.findAllDocumentWithCursor(isNull(), anyInt())).thenReturn(slice);
+
+        byte[] body = mockMvc.perform(get(BASE_URL + "/scroll").param("pageSize", "1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode result = new CBORMapper().readTree(body);
+        assertEquals(dto.getNumber(), result.at("/content/0/number").asText());
+        assertEquals(CursorMapper.encode(DOCUMENT_ID), result.get("nextCursor").asText());
+    }
+
     @Test
     void mustReturnSuccessWhenFindDocumentById() throws Exception {
         when(documentService.findDocumentById(anyLong())).thenReturn(dto);
@@ -133,6 +207,37 @@ public class DocumentControllerTest {
                 .andExpect(jsonPath("$.number").value(dto.getNumber()));
     }
 
+    @Test
+    void mustReturnETagWhenFindDocumentById() throws Exception {
+        when(documentService.findDocumentById(anyLong())).thenReturn(dto);
+
+        mockMvc.perform(get(BASE_URL + "/{id}", DOCUMENT_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETagMapper.of(dto)));
+    }
+
+    @Test
+    void mustReturnNotModifiedWhenFindDocumentByIdWithCurrentETag() throws Exception {
+        String etag = ETagMapper.of(dto);
+        when(documentService.findDocumentETag(DOCUMENT_ID)).thenReturn(etag);
+
+        mockMvc.perform(get(BASE_URL + "/{id}", DOCUMENT_ID).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(documentService, never()).findDocumentById(anyLong());
+    }
+
+    @Test
+    void mustReturnProblemDetailWhenFindDocumentByIdNotFound() throws Exception {
+        when(documentService.findDocumentById(anyLong())).thenThrow(new DocumentNotFoundException());
+
+        mockMvc.perform(get(BASE_URL + "/{id}", DOCUMENT_ID))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.title").value("Resource Not Found"))
+                .andExpect(jsonPath("$.instance").value(BASE_URL + "/" + DOCUMENT_ID));
+    }
+
     @Test
     void mustReturnSuccessWhenFindDocumentByTypeAndNumber() throws Exception {
         when(documentService.findByDocumentTypeAndNumber(any())).thenReturn(dto);
@@ -158,4 +263,44 @@ public class DocumentControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string(MSG_SUCCESS));
     }
+
+    @Test
+    void mustReturnSuccessWhenImportDocumentsFromJson() throws Exception {
+        when(documentService.importDocuments(any())).thenReturn(importResult());
+        final String JSON_CONTENT = objectMapper.writeValueAsString(List.of(createDocumentRequest));
+
+        mockMvc.perform(post(BASE_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(JSON_CONTENT))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rows[0].status").value(ImportRowStatus.CREATED.name()));
+    }
+
+    @Test
+    void mustReturnSuccessWhenImportDocumentsFromNdjson() throws Exception {
+        when(documentService.importDocuments(argThat(documents -> documents.size() == 2))).thenReturn(importResult());
+        final String NDJSON_CONTENT = objectMapper.writeValueAsString(createDocumentRequest) + "\n"
+                + objectMapper.writeValueAsString(new CreateDocumentRequest(DocumentType.RG, DOCUMENT_NUMBER)) + "\n";
+
+        mockMvc.perform(post(BASE_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(NDJSON_CONTENT))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1));
+    }
+
+    @Test
+    void mustReturnBadRequestWhenImportDocumentsFromMalformedNdjson() throws Exception {
+        mockMvc.perform(post(BASE_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"documentType\":\"CPF\"\n{broken"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private ImportResultDTO importResult() {
+        return ImportResultDTO.of(List.of(
+                new ImportRowResultDTO(0, DocumentType.CPF, DOCUMENT_NUMBER, ImportRowStatus.CREATED, null)));
+    }
 }
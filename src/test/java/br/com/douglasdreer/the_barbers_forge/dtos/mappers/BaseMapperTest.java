@@ -1,22 +1,20 @@
 package br.com.douglasdreer.the_barbers_forge.dtos.mappers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 
@@ -32,19 +30,16 @@ import br.com.douglasdreer.the_barbers_forge.exceptions.ConverterException;
  * @author Douglas Dreer
  * @since 0.0.2
  */
-@ExtendWith(MockitoExtension.class)
 public class BaseMapperTest {
 
-    @Mock
-    private ModelMapper modelMapper;
-
     private BaseMapper baseMapper;
     private Document document;
     private DocumentDTO documentDTO;
+    private Function<Document, DocumentDTO> converter;
 
     @BeforeEach
     public void setUp() {
-        baseMapper = new BaseMapper(modelMapper);
+        baseMapper = new BaseMapper(Jackson2ObjectMapperBuilder.json().build());
 
         // Configurar entidade de documento
         document = new Document();
@@ -57,6 +52,8 @@ public class BaseMapperTest {
         documentDTO.setId(1L);
         documentDTO.setDocumentType(DocumentType.CPF);
         documentDTO.setNumber("12345678901");
+
+        converter = source -> documentDTO;
     }
 
     /**
@@ -64,9 +61,7 @@ public class BaseMapperTest {
      */
     @Test
     public void mustReturnSuccessWhenConvertToAnotherType() {
-        when(modelMapper.map(any(Document.class), eq(DocumentDTO.class))).thenReturn(documentDTO);
-
-        DocumentDTO result = baseMapper.convertTo(document, DocumentDTO.class);
+        DocumentDTO result = baseMapper.convertTo(document, converter);
 
         assertNotNull(result);
         assertEquals(documentDTO.getId(), result.getId());
@@ -79,22 +74,37 @@ public class BaseMapperTest {
      */
     @Test
     public void mustThrowConverterExceptionWhenConversionFails() {
-        when(modelMapper.map(any(), any())).thenThrow(new IllegalArgumentException("Erro de conversão"));
+        Function<Document, DocumentDTO> failingConverter = source -> {
+            throw new IllegalArgumentException("Erro de conversão");
+        };
 
         assertThrows(ConverterException.class, () -> {
-            baseMapper.convertTo(document, DocumentDTO.class);
+            baseMapper.convertTo(document, failingConverter);
         });
     }
 
+    /**
+     * Testa que uma ConverterException lançada pelo conversor é propagada sem ser encapsulada.
+     */
+    @Test
+    public void mustPropagateConverterExceptionWhenConverterThrowsIt() {
+        ConverterException expected = new ConverterException("Conversão não suportada");
+        Function<Document, DocumentDTO> failingConverter = source -> {
+            throw expected;
+        };
+
+        ConverterException result = assertThrows(ConverterException.class, () -> baseMapper.convertTo(document, failingConverter));
+        assertSame(expected, result);
+    }
+
     /**
      * Testa o mapeamento de uma lista de objetos.
      */
     @Test
     public void mustReturnSuccessWhenMapList() {
         List<Document> documents = Arrays.asList(document);
-        when(modelMapper.map(any(Document.class), eq(DocumentDTO.class))).thenReturn(documentDTO);
 
-        List<DocumentDTO> result = baseMapper.mapList(documents, DocumentDTO.class);
+        List<DocumentDTO> result = baseMapper.mapList(documents, converter);
 
         assertNotNull(result);
         assertEquals(1, result.size());
@@ -109,7 +119,7 @@ public class BaseMapperTest {
     @Test
     public void mustReturnSuccessWhenConvertObjectToJsonAndBack() throws IOException {
         // Criar um BaseMapper personalizado para testes com conversão JSON
-        BaseMapper testMapper = new BaseMapper(modelMapper) {
+        BaseMapper testMapper = new BaseMapper(Jackson2ObjectMapperBuilder.json().build()) {
             @Override
             public String toJSON(Object object) throws JsonProcessingException {
                 return "{\"id\":1,\"documentType\":\"CPF\",\"number\":\"12345678901\"}";
@@ -133,4 +143,20 @@ public class BaseMapperTest {
         assertEquals(documentDTO.getDocumentType(), result.getDocumentType());
         assertEquals(documentDTO.getNumber(), result.getNumber());
     }
-} 
\ No newline at end of file
+
+    /**
+     * Testa que o JSON gerado é compacto e volta ao mesmo objeto pelo leitor em cache.
+     */
+    @Test
+    public void mustReturnCompactJsonWhenConvertObjectToJsonAndBack() throws IOException {
+        documentDTO.setCreatedAt(LocalDateTime.of(2024, 5, 10, 8, 30));
+
+        String json = baseMapper.toJSON(documentDTO);
+        DocumentDTO result = baseMapper.toObject(json, DocumentDTO.class);
+
+        assertFalse(json.contains("\n"), "O JSON não deve ser indentado");
+        assertEquals(documentDTO.getNumber(), result.getNumber());
+        assertEquals(documentDTO.getCreatedAt(), result.getCreatedAt());
+        assertEquals(json, baseMapper.toJSON(result));
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.douglasdreer.the_barbers_forge.dtos.mappers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * <h1>Cursor Mapper Test</h1>
+ * <p>Testes unitários para a classe {@link CursorMapper}.</p>
+ * 
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+public class CursorMapperTest {
+
+    /**
+     * Testa que o token gerado pode ser decodificado para o mesmo ID.
+     */
+    @Test
+    public void mustReturnSameIdWhenEncodeAndDecode() {
+        assertEquals(123456789L, CursorMapper.decode(CursorMapper.encode(123456789L)));
+    }
+
+    /**
+     * Testa que um cursor vazio representa a primeira fatia.
+     */
+    @Test
+    public void mustReturnZeroWhenCursorIsBlank() {
+        assertEquals(0L, CursorMapper.decode(null));
+        assertEquals(0L, CursorMapper.decode(""));
+    }
+
+    /**
+     * Testa que um cursor malformado é rejeitado.
+     */
+    @Test
+    public void mustThrowIllegalArgumentExceptionWhenCursorIsInvalid() {
+        String withoutPrefix = Base64.getUrlEncoder().encodeToString("42".getBytes(StandardCharsets.US_ASCII));
+        String notNumeric = Base64.getUrlEncoder().encodeToString("id:abc".getBytes(StandardCharsets.US_ASCII));
+
+        assertThrows(IllegalArgumentException.class, () -> CursorMapper.decode("###"));
+        assertThrows(IllegalArgumentException.class, () -> CursorMapper.decode(withoutPrefix));
+        assertThrows(IllegalArgumentException.class, () -> CursorMapper.decode(notNumeric));
+    }
+}
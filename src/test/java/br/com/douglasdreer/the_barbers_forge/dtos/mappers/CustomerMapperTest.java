@@ -2,28 +2,28 @@ package br.com.douglasdreer.the_barbers_forge.dtos.mappers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import br.com.douglasdreer.the_barbers_forge.dtos.CustomerDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.DocumentRefDTO;
 import br.com.douglasdreer.the_barbers_forge.dtos.request.CreateCustomerRequest;
 import br.com.douglasdreer.the_barbers_forge.entities.Customer;
+import br.com.douglasdreer.the_barbers_forge.entities.Document;
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
 import br.com.douglasdreer.the_barbers_forge.exceptions.ConverterException;
 
 /**
@@ -33,11 +33,10 @@ import br.com.douglasdreer.the_barbers_forge.exceptions.ConverterException;
  * @author Douglas Dreer
  * @since 0.0.2
  */
-@ExtendWith(MockitoExtension.class)
 public class CustomerMapperTest {
 
-    @Mock
-    private ModelMapper modelMapper;
+    private final EntityDtoMapper entityDtoMapper = Mappers.getMapper(EntityDtoMapper.class);
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
 
     private CustomerMapper customerMapper;
     private Customer customer;
@@ -46,7 +45,7 @@ public class CustomerMapperTest {
 
     @BeforeEach
     public void setUp() {
-        customerMapper = new CustomerMapper(modelMapper);
+        customerMapper = new CustomerMapper(entityDtoMapper, objectMapper);
 
         // Configurar entidade de cliente
         customer = new Customer();
@@ -87,8 +86,6 @@ public class CustomerMapperTest {
      */
     @Test
     public void mustReturnSuccessWhenConvertEntityToDTO() {
-        when(modelMapper.map(any(Customer.class), eq(CustomerDTO.class))).thenReturn(customerDTO);
-
         CustomerDTO result = customerMapper.toDTO(customer);
 
         assertNotNull(result);
@@ -105,8 +102,6 @@ public class CustomerMapperTest {
      */
     @Test
     public void mustReturnSuccessWhenConvertDTOToEntity() {
-        when(modelMapper.map(any(CustomerDTO.class), eq(Customer.class))).thenReturn(customer);
-
         Customer result = customerMapper.toEntity(customerDTO);
 
         assertNotNull(result);
@@ -123,12 +118,10 @@ public class CustomerMapperTest {
      */
     @Test
     public void mustReturnSuccessWhenConvertRequestToEntity() {
-        when(modelMapper.map(any(CreateCustomerRequest.class), eq(Customer.class))).thenReturn(customer);
-
         Customer result = customerMapper.toEntity(createCustomerRequest);
 
         assertNotNull(result);
-        assertEquals(customer.getId(), result.getId());
+        assertNull(result.getId());
         assertEquals(customer.getFirstName(), result.getFirstName());
         assertEquals(customer.getLastName(), result.getLastName());
         assertEquals(customer.getAddress(), result.getAddress());
@@ -136,6 +129,43 @@ public class CustomerMapperTest {
         assertEquals(customer.getBirthDate(), result.getBirthDate());
     }
 
+    /**
+     * Testa que a atualização copia apenas os campos preenchidos do request.
+     */
+    @Test
+    public void mustUpdateOnlyPresentFieldsWhenUpdateEntity() {
+        CreateCustomerRequest partialRequest = new CreateCustomerRequest();
+        partialRequest.setFirstName("José");
+
+        customerMapper.updateEntity(partialRequest, customer);
+
+        assertEquals(1L, customer.getId());
+        assertEquals("José", customer.getFirstName());
+        assertEquals("Silva", customer.getLastName());
+        assertEquals("Rua das Flores, 123", customer.getAddress());
+    }
+
+    /**
+     * Testa que a associação bidirecional é convertida com um único nível de resumos.
+     */
+    @Test
+    public void mustMapDocumentsAsReferencesWhenAssociationIsCyclic() {
+        Document document = new Document();
+        document.setId(10L);
+        document.setDocumentType(DocumentType.CPF);
+        document.setNumber("12345678901");
+        document.setCustomers(new ArrayList<>(List.of(customer)));
+        customer.setDocuments(new ArrayList<>(List.of(document)));
+
+        CustomerDTO result = customerMapper.toDTO(customer);
+
+        DocumentRefDTO documentRef = result.getDocuments().get(0);
+        assertEquals(1, result.getDocuments().size());
+        assertEquals(10L, documentRef.getId());
+        assertEquals(DocumentType.CPF, documentRef.getDocumentType());
+        assertEquals("12345678901", documentRef.getNumber());
+    }
+
     /**
      * Testa a conversão de um objeto para JSON.
      */
@@ -146,7 +176,7 @@ public class CustomerMapperTest {
         String expectedJson = "{\"id\":1,\"firstName\":\"João\",\"lastName\":\"Silva\"}";
 
         // Criar um CustomerMapper de teste que sobrescreve o método toJson
-        CustomerMapper testMapper = new CustomerMapper(modelMapper) {
+        CustomerMapper testMapper = new CustomerMapper(entityDtoMapper, objectMapper) {
             @Override
             public String toJson(Object object) {
                 return expectedJson;
@@ -167,7 +197,7 @@ public class CustomerMapperTest {
     @Test
     public void mustThrowConverterExceptionWhenJsonProcessingExceptionOccurs() {
         // Configurando um mapper que lança exceção
-        CustomerMapper spyMapper = new CustomerMapper(modelMapper) {
+        CustomerMapper spyMapper = new CustomerMapper(entityDtoMapper, objectMapper) {
             @Override
             public String toJson(Object object) {
                 try {
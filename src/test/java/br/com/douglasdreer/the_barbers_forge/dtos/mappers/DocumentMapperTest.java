@@ -2,17 +2,13 @@ package br.com.douglasdreer.the_barbers_forge.dtos.mappers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -22,6 +18,7 @@ import br.com.douglasdreer.the_barbers_forge.dtos.DocumentDTO;
 import br.com.douglasdreer.the_barbers_forge.dtos.request.CreateDocumentRequest;
 import br.com.douglasdreer.the_barbers_forge.entities.Document;
 import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import br.com.douglasdreer.the_barbers_forge.exceptions.ConverterException;
 
 /**
  * <h1>Document Mapper Test</h1>
@@ -30,11 +27,10 @@ import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
  * @author Douglas Dreer
  * @since 0.0.2
  */
-@ExtendWith(MockitoExtension.class)
 public class DocumentMapperTest {
 
-    @Mock
-    private ModelMapper modelMapper;
+    private final EntityDtoMapper entityDtoMapper = Mappers.getMapper(EntityDtoMapper.class);
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
 
     private DocumentMapper documentMapper;
     private Document document;
@@ -43,7 +39,7 @@ public class DocumentMapperTest {
 
     @BeforeEach
     public void setUp() {
-        documentMapper = new DocumentMapper(modelMapper);
+        documentMapper = new DocumentMapper(entityDtoMapper, objectMapper);
 
         // Configurar entidade de documento
         document = new Document();
@@ -66,8 +62,6 @@ public class DocumentMapperTest {
      */
     @Test
     public void mustReturnSuccessWhenConvertEntityToDTO() {
-        when(modelMapper.map(any(Document.class), eq(DocumentDTO.class))).thenReturn(documentDTO);
-
         DocumentDTO result = documentMapper.toDTO(document);
 
         assertNotNull(result);
@@ -81,8 +75,6 @@ public class DocumentMapperTest {
      */
     @Test
     public void mustReturnSuccessWhenConvertDTOToEntity() {
-        when(modelMapper.map(any(DocumentDTO.class), eq(Document.class))).thenReturn(document);
-
         Document result = documentMapper.toEntity(documentDTO);
 
         assertNotNull(result);
@@ -96,16 +88,23 @@ public class DocumentMapperTest {
      */
     @Test
     public void mustReturnSuccessWhenConvertRequestToEntity() {
-        when(modelMapper.map(any(CreateDocumentRequest.class), eq(Document.class))).thenReturn(document);
-
         Document result = documentMapper.toEntity(createDocumentRequest);
 
         assertNotNull(result);
-        assertEquals(document.getId(), result.getId());
+        assertNull(result.getId());
         assertEquals(document.getDocumentType(), result.getDocumentType());
         assertEquals(document.getNumber(), result.getNumber());
     }
 
+    /**
+     * Testa que um tipo não suportado gera ConverterException.
+     */
+    @Test
+    public void mustThrowConverterExceptionWhenTypeIsNotSupported() {
+        assertThrows(ConverterException.class, () -> documentMapper.toDTO("documento"));
+        assertThrows(ConverterException.class, () -> documentMapper.toEntity(document));
+    }
+
     /**
      * Testa a conversão de um objeto para JSON.
      */
@@ -0,0 +1,81 @@
+package br.com.douglasdreer.the_barbers_forge.dtos.mappers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerRefDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.DocumentDTO;
+
+/**
+ * <h1>ETag Mapper Test</h1>
+ * <p>Testes unitários para a classe {@link ETagMapper}.</p>
+ * 
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+public class ETagMapperTest {
+
+    /**
+     * Testa que a ETag do cliente é formada pelo ID e pela versão, entre aspas.
+     */
+    @Test
+    public void mustReturnIdAndVersionWhenBuildCustomerETag() {
+        CustomerDTO customer = new CustomerDTO();
+        customer.setId(7L);
+        customer.setVersion(3L);
+
+        assertEquals("\"7-3\"", ETagMapper.customer(7L, 3L));
+        assertEquals(ETagMapper.customer(7L, 3L), ETagMapper.of(customer));
+    }
+
+    /**
+     * Testa que a ETag do documento montada pela representação é igual à montada pela consulta de versões,
+     * independentemente da ordem dos clientes.
+     */
+    @Test
+    public void mustReturnSameETagWhenBuildDocumentETagFromRepresentationOrVersions() {
+        DocumentDTO document = new DocumentDTO();
+        document.setId(5L);
+        document.setCustomers(List.of(
+                new CustomerRefDTO(2L, "Maria", "Souza", 4L),
+                new CustomerRefDTO(1L, "João", "Silva", 0L)));
+        Map<Long, Long> versions = new LinkedHashMap<>();
+        versions.put(1L, 0L);
+        versions.put(2L, 4L);
+
+        assertEquals(ETagMapper.document(5L, versions), ETagMapper.of(document));
+    }
+
+    /**
+     * Testa que a ETag do documento muda quando um cliente vinculado muda de versão ou é desvinculado.
+     */
+    @Test
+    public void mustReturnDifferentETagWhenLinkedCustomersChange() {
+        String etag = ETagMapper.document(5L, Map.of(1L, 0L, 2L, 4L));
+
+        assertNotEquals(etag, ETagMapper.document(5L, Map.of(1L, 1L, 2L, 4L)));
+        assertNotEquals(etag, ETagMapper.document(5L, Map.of(1L, 0L)));
+        assertNotEquals(etag, ETagMapper.document(6L, Map.of(1L, 0L, 2L, 4L)));
+        assertEquals(ETagMapper.document(5L, Map.of()), ETagMapper.of(new DocumentDTO(5L, null, null, null, null, null)));
+    }
+
+    /**
+     * Testa que a versão esperada é lida da primeira ETag forte do cliente informada em If-Match.
+     */
+    @Test
+    public void mustReturnVersionWhenReadCustomerVersionFromIfMatch() {
+        assertEquals(OptionalLong.of(3L), ETagMapper.customerVersion(7L, "\"7-3\""));
+        assertEquals(OptionalLong.of(4L), ETagMapper.customerVersion(7L, "\"70-1\", W/\"7-2\", \"7-4\""));
+        assertEquals(OptionalLong.empty(), ETagMapper.customerVersion(7L, "W/\"7-3\""));
+        assertEquals(OptionalLong.empty(), ETagMapper.customerVersion(7L, "\"8-3\""));
+        assertEquals(OptionalLong.empty(), ETagMapper.customerVersion(7L, "\"7-x\""));
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.douglasdreer.the_barbers_forge.exceptions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.douglasdreer.the_barbers_forge.enums.MessageErroType;
+
+/**
+ * <h1>Document Not Found Exception Test</h1>
+ * <p>Testes para a classe de exceção {@link DocumentNotFoundException}.</p>
+ * 
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+public class DocumentNotFoundExceptionTest {
+
+    /**
+     * Testa se a exceção é criada com a mensagem de recurso não encontrado e continua sendo
+     * uma {@link DocumentServiceException}.
+     */
+    @Test
+    public void mustReturnNotFoundMessageWhenThrowDocumentNotFoundException() {
+        DocumentServiceException exception = assertThrows(DocumentServiceException.class, () -> {
+            throw new DocumentNotFoundException();
+        });
+
+        assertInstanceOf(DocumentNotFoundException.class, exception);
+        assertEquals(MessageErroType.NOT_FOUND.getMessage(), exception.getMessage());
+    }
+
+    /**
+     * Testa que a exceção de negócio não captura a pilha de chamadas nem aceita exceções suprimidas.
+     */
+    @Test
+    public void mustReturnEmptyStackTraceWhenThrowDocumentNotFoundException() {
+        DocumentNotFoundException exception = new DocumentNotFoundException();
+        exception.addSuppressed(new IllegalStateException());
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(0, exception.getSuppressed().length);
+    }
+}
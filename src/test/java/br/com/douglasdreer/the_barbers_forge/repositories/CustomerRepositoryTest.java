@@ -10,6 +10,9 @@ import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -176,4 +179,44 @@ public class CustomerRepositoryTest {
         // Verifica se o cliente foi excluído
         assertFalse(customerRepository.existsById(savedCustomer.getId()), "Cliente não deve existir após a exclusão");
     }
-} 
\ No newline at end of file
+
+    /**
+     * Testa a busca de clientes por nome, sem diferenciar maiúsculas nem acentos.
+     */
+    @Test
+    void shouldSearchCustomerIdsByName() {
+        Customer joao = entityManager.persist(customer("João", "Silva"));
+        Customer maria = entityManager.persist(customer("Maria", "Joaquina Sá"));
+        entityManager.persist(customer("Pedro", "Almeida"));
+        entityManager.flush();
+
+        assertEquals(List.of(joao.getId(), maria.getId()), customerRepository.searchIdsByName("JOA", 10));
+        assertEquals(List.of(maria.getId()), customerRepository.searchIdsByName("joaquina  sa", 10));
+        assertEquals(List.of(joao.getId()), customerRepository.searchIdsByName("joão", 1));
+        assertTrue(customerRepository.searchIdsByName("carlos", 10).isEmpty());
+    }
+
+    /**
+     * Testa a leitura do identificador e dos nomes de todos os clientes.
+     */
+    @Test
+    void shouldScanCustomerNames() {
+        Customer joao = entityManager.persist(customer("João", "Silva"));
+        Customer maria = entityManager.persist(customer("Maria", "Souza"));
+        entityManager.flush();
+
+        Map<Long, String> names = new HashMap<>();
+        customerRepository.forEachName((id, firstName, lastName) -> names.put(id, firstName + " " + lastName));
+
+        assertEquals(Map.of(joao.getId(), "João Silva", maria.getId(), "Maria Souza"), names);
+    }
+
+    private Customer customer(String firstName, String lastName) {
+        Customer customer = new Customer();
+        customer.setFirstName(firstName);
+        customer.setLastName(lastName);
+        customer.setCreatedAt(LocalDateTime.now());
+        customer.setUpdatedAt(LocalDateTime.now());
+        return customer;
+    }
+}
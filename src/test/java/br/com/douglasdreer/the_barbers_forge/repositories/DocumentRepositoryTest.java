@@ -2,15 +2,21 @@ package br.com.douglasdreer.the_barbers_forge.repositories;
 
 import br.com.douglasdreer.the_barbers_forge.entities.Document;
 import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import br.com.douglasdreer.the_barbers_forge.repositories.projections.DocumentExportRow;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.util.Pair;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -209,4 +215,77 @@ public class DocumentRepositoryTest {
         assertFalse(foundWithDifferentType.isPresent(), "Documento não deve ser encontrado com tipo diferente");
         assertFalse(foundWithDifferentNumber.isPresent(), "Documento não deve ser encontrado com número diferente");
     }
-} 
\ No newline at end of file
+
+    /**
+     * Testa a paginação por cursor, percorrendo todas as fatias a partir do último ID lido.
+     */
+    @Test
+    void shouldListDocumentsWithKeysetPagination() {
+        // Cria alguns documentos para teste
+        for (int i = 1; i <= 5; i++) {
+            Document document = new Document();
+            document.setDocumentType(DocumentType.RG);
+            document.setNumber("Keyset" + i);
+            entityManager.persist(document);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // Percorre as fatias de tamanho 2 e lê as linhas de cada uma
+        Slice<Long> first = documentRepository.findIdsAfter(0L, PageRequest.of(0, 2, Sort.by("id")));
+        Slice<Long> second = documentRepository.findIdsAfter(first.getContent().get(1), PageRequest.of(0, 2, Sort.by("id")));
+        Slice<Long> last = documentRepository.findIdsAfter(second.getContent().get(1), PageRequest.of(0, 2, Sort.by("id")));
+        List<DocumentExportRow> rows = documentRepository.findRowsByIdIn(second.getContent());
+
+        // Verifica o tamanho e a ordem das fatias
+        assertEquals(2, first.getNumberOfElements(), "Primeira fatia deve ter 2 documentos");
+        assertTrue(first.hasNext(), "Primeira fatia deve ter próxima");
+        assertTrue(first.getContent().get(1) < second.getContent().get(0), "Fatias devem seguir a ordem do ID");
+        assertEquals(second.getContent(), rows.stream().map(DocumentExportRow::id).toList(),
+                "Linhas devem ser as dos documentos da fatia, na ordem do ID");
+        assertEquals(1, last.getNumberOfElements(), "Última fatia deve ter 1 documento");
+        assertFalse(last.hasNext(), "Última fatia não deve ter próxima");
+    }
+
+    /**
+     * Testa a inserção em lote e a consulta dos tipos e números já cadastrados.
+     */
+    @Test
+    void shouldInsertAllAndFindExistingTypeAndNumbers() {
+        documentRepository.insertAll(List.of(
+                Document.builder().documentType(DocumentType.CPF).number("11111111111").build(),
+                Document.builder().documentType(DocumentType.RG).number("222222222").build()
+        ));
+
+        Set<Pair<DocumentType, String>> existing = documentRepository.findExistingTypeAndNumbers(List.of(
+                Pair.of(DocumentType.CPF, "11111111111"),
+                Pair.of(DocumentType.CNH, "11111111111"),
+                Pair.of(DocumentType.RG, "222222222")
+        ));
+
+        assertEquals(Set.of(Pair.of(DocumentType.CPF, "11111111111"), Pair.of(DocumentType.RG, "222222222")), existing);
+        assertTrue(documentRepository.findExistingTypeAndNumbers(List.of()).isEmpty());
+    }
+
+    /**
+     * Testa a busca pela chave numérica, que distingue o tipo do documento e também é gravada pela inserção em lote.
+     */
+    @Test
+    void shouldFindDocumentByTypeAndNumberKey() {
+        entityManager.persistAndFlush(Document.builder()
+                .documentType(DocumentType.CPF).number("52998224725").numberKey(52998224725L).build());
+        documentRepository.insertAll(List.of(
+                Document.builder().documentType(DocumentType.CNPJ).number("00000000000191").numberKey(191L).build()
+        ));
+
+        Optional<Document> cpf = documentRepository.findByDocumentTypeAndNumberKey(DocumentType.CPF, 52998224725L);
+        Optional<Document> cnpj = documentRepository.findByDocumentTypeAndNumberKey(DocumentType.CNPJ, 191L);
+
+        assertTrue(cpf.isPresent(), "O CPF deve ser encontrado pela chave");
+        assertEquals("52998224725", cpf.get().getNumber(), "Número de documento deve ser igual");
+        assertTrue(cnpj.isPresent(), "O CNPJ inserido em lote deve ser encontrado pela chave");
+        assertEquals("00000000000191", cnpj.get().getNumber(), "Número de documento deve ser igual");
+        assertFalse(documentRepository.findByDocumentTypeAndNumberKey(DocumentType.CNH, 52998224725L).isPresent(),
+                "A mesma chave com outro tipo não deve ser encontrada");
+    }
+}
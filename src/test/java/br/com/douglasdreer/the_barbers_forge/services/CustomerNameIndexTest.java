@@ -0,0 +1,302 @@
+package br.com.douglasdreer.the_barbers_forge.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerSuggestionDTO;
+import br.com.douglasdreer.the_barbers_forge.repositories.CustomerRepository;
+import br.com.douglasdreer.the_barbers_forge.repositories.CustomerSearchRepository;
+import br.com.douglasdreer.the_barbers_forge.repositories.CustomerSearchRepository.NameConsumer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * <h1>Customer Name Index Test</h1>
+ * <p>Testes unitários para a classe {@link CustomerNameIndex}.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@ExtendWith(MockitoExtension.class)
+public class CustomerNameIndexTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CustomerNameIndex nameIndex;
+
+    @BeforeEach
+    public void setUp() {
+        nameIndex = new CustomerNameIndex(customerRepository, transactionManager);
+    }
+
+    /**
+     * Testa que, antes da primeira montagem, nenhum cliente é sugerido.
+     */
+    @Test
+    public void mustReturnEmptyWhenIndexIsNotBuilt() {
+        assertTrue(nameIndex.autocomplete("jo", 10).isEmpty());
+    }
+
+    /**
+     * Testa que o prefixo de qualquer palavra do nome encontra o cliente, sem diferenciar maiúsculas nem acentos.
+     */
+    @Test
+    public void mustReturnCustomersByPrefixOfAnyWordWhenAutocomplete() {
+        rebuildWith(consumer -> {
+            consumer.accept(1L, "João", "da Silva");
+            consumer.accept(2L, "Maria", "Joaquina");
+            consumer.accept(3L, "Pedro", "Almeida");
+        });
+
+        assertEquals(List.of(1L, 2L), ids(nameIndex.autocomplete("JO", 10)));
+        assertEquals(List.of(1L), ids(nameIndex.autocomplete("joão da s", 10)));
+        assertEquals(List.of(1L), ids(nameIndex.autocomplete("silv", 10)));
+        assertEquals(List.of(3L), ids(nameIndex.autocomplete("pedro almeida", 10)));
+        assertTrue(nameIndex.autocomplete("carlos", 10).isEmpty());
+        assertEquals(7, nameIndex.size());
+    }
+
+    /**
+     * Testa que um cliente com duas palavras que começam com o prefixo é sugerido uma única vez, respeitando o limite.
+     */
+    @Test
+    public void mustReturnEachCustomerOnceWhenAutocompleteMatchesSeveralWords() {
+        rebuildWith(consumer -> {
+            consumer.accept(1L, "Ana", "Anacleto");
+            consumer.accept(2L, "Anabela", "Souza");
+            consumer.accept(3L, "Mariana", "Andrade");
+        });
+
+        assertEquals(List.of(1L, 2L, 3L), ids(nameIndex.autocomplete("an", 10)));
+        assertEquals(List.of(1L, 2L), ids(nameIndex.autocomplete("an", 2)));
+    }
+
+    /**
+     * Testa que a inclusão, a alteração e a exclusão de clientes atualizam o índice.
+     */
+    @Test
+    public void mustUpdateSuggestionsWhenPutAndRemove() {
+        rebuildWith(consumer -> consumer.accept(1L, "João", "Silva"));
+
+        nameIndex.put(2L, "Joana", "Lima");
+        nameIndex.put(1L, "Carlos", "Silva");
+
+        assertEquals(List.of(2L), ids(nameIndex.autocomplete("jo", 10)));
+        assertEquals("Carlos", nameIndex.autocomplete("silva", 10).get(0).getFirstName());
+
+        nameIndex.remove(List.of(1L, 2L));
+
+        assertTrue(nameIndex.autocomplete("silva", 10).isEmpty());
+        assertEquals(0, nameIndex.size());
+    }
+
+    /**
+     * Testa que as chaves incluídas depois da montagem são intercaladas com as montadas, e continuam corretas depois
+     * de incorporadas aos vetores montados.
+     */
+    @Test
+    public void mustMergeBuiltAndChangedCustomersWhenChangesPassFoldThreshold() {
+        rebuildWith(consumer -> {
+            consumer.accept(1L, "Ana", "Souza");
+            consumer.accept(3L, "Anabela", "Lima");
+            consumer.accept(5L, "Bruno", "Costa");
+        });
+
+        nameIndex.put(2L, "Anacleto", "Dias");
+        nameIndex.put(5L, "Anselmo", "Costa");
+
+        assertEquals(List.of(1L, 3L, 2L, 5L), ids(nameIndex.autocomplete("an", 10)));
+        assertTrue(nameIndex.autocomplete("bruno", 10).isEmpty());
+        assertEquals(8, nameIndex.size());
+
+        for (long id = 10; id < 10 + CustomerNameIndex.FOLD_THRESHOLD; id++) {
+            nameIndex.put(id, "Cliente", "Novo");
+        }
+        nameIndex.remove(List.of(1L, 11L));
+
+        assertEquals(List.of(3L, 2L, 5L), ids(nameIndex.autocomplete("an", 10)));
+        assertEquals(List.of(10L, 12L), ids(nameIndex.autocomplete("cliente", 2)));
+        assertEquals(4 + 2 * CustomerNameIndex.FOLD_THRESHOLD, nameIndex.size());
+    }
+
+    /**
+     * Testa, com inclusões, alterações, exclusões e montagens sorteadas que passam várias vezes de
+     * {@link CustomerNameIndex#FOLD_THRESHOLD}, que cada consulta devolve o mesmo que uma busca ingênua sobre a lista
+     * ordenada de todas as chaves, mantida junto com as alterações.
+     */
+    @Test
+    public void mustMatchSortedListOfKeysWhenRandomChangesCrossFoldThreshold() {
+        Random random = new Random(42);
+        Map<Long, String[]> customers = new TreeMap<>();
+        NavigableSet<Map.Entry<String, Long>> keys = new TreeSet<>(KEY_ORDER);
+        for (long id = 1; id <= 2000; id++) {
+            String[] name = randomName(random);
+            customers.put(id, name);
+            keys.addAll(keys(id, name));
+        }
+        doAnswer(invocation -> {
+            NameConsumer consumer = invocation.getArgument(0, NameConsumer.class);
+            customers.forEach((id, name) -> consumer.accept(id, name[0], name[1]));
+            return null;
+        }).when(customerRepository).forEachName(any());
+        nameIndex.rebuild();
+
+        for (int step = 0; step < 6000; step++) {
+            // Na primeira metade predominam as exclusões, que ocultam chaves montadas até passar do limite de
+            // incorporação; na segunda, as inclusões, com montagens raras para que as chaves incluídas também passem dele
+            int removals = step < 3000 ? 900 : 100;
+            long id = 1 + random.nextInt(2000);
+            int operation = random.nextInt(1000);
+            if (operation < removals) {
+                String[] removed = customers.remove(id);
+                if (removed != null) {
+                    keys.removeAll(keys(id, removed));
+                }
+                nameIndex.remove(List.of(id));
+            } else if (operation < 999 || step < 3000) {
+                String[] name = randomName(random);
+                String[] replaced = customers.put(id, name);
+                if (replaced != null) {
+                    keys.removeAll(keys(id, replaced));
+                }
+                keys.addAll(keys(id, name));
+                nameIndex.put(id, name[0], name[1]);
+            } else {
+                nameIndex.rebuild();
+            }
+
+            String word = NAME_WORDS[random.nextInt(NAME_WORDS.length)];
+            String prefix = random.nextInt(4) == 0
+                    ? word + " " + NAME_WORDS[random.nextInt(NAME_WORDS.length)].substring(0, 1)
+                    : word.substring(0, 1 + random.nextInt(Math.min(3, word.length())));
+            int limit = 1 + random.nextInt(20);
+            assertEquals(naiveAutocomplete(keys, prefix, limit), ids(nameIndex.autocomplete(prefix, limit)),
+                    "Passo " + step + ", prefixo " + prefix);
+            assertEquals(keys.size(), nameIndex.size(), "Passo " + step);
+        }
+    }
+
+    /**
+     * Testa que as alterações feitas durante a montagem são reaplicadas sobre o índice montado.
+     */
+    @Test
+    public void mustKeepChangesMadeWhileRebuilding() {
+        rebuildWith(consumer -> {
+            consumer.accept(1L, "João", "Silva");
+            nameIndex.put(2L, "Joana", "Lima");
+            nameIndex.remove(List.of(1L));
+        });
+
+        assertEquals(List.of(2L), ids(nameIndex.autocomplete("jo", 10)));
+    }
+
+    /**
+     * Testa que, dentro de uma transação, o índice só é alterado depois do commit.
+     */
+    @Test
+    public void mustApplyChangesAfterCommitWhenTransactionIsActive() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            nameIndex.put(1L, "João", "Silva");
+
+            assertTrue(nameIndex.autocomplete("jo", 10).isEmpty());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of(1L), ids(nameIndex.autocomplete("jo", 10)));
+    }
+
+    /**
+     * Testa a métrica com a quantidade de chaves do índice.
+     */
+    @Test
+    public void mustPublishEntriesWhenBindToRegistry() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        nameIndex.bindTo(registry);
+
+        nameIndex.put(1L, "João", "da Silva");
+
+        assertEquals(3.0, registry.get("customers.name.index.entries").gauge().value());
+    }
+
+    private void rebuildWith(Consumer<NameConsumer> customers) {
+        doAnswer(invocation -> {
+            customers.accept(invocation.getArgument(0, NameConsumer.class));
+            return null;
+        }).when(customerRepository).forEachName(any());
+
+        nameIndex.rebuild();
+    }
+
+    private static final Comparator<Map.Entry<String, Long>> KEY_ORDER =
+            Map.Entry.<String, Long>comparingByKey().thenComparing(Map.Entry.comparingByValue());
+
+    private static final String[] NAME_WORDS = {"Ana", "Anabela", "Ângela", "an", "Bruno", "Bia", "Carlos", "Silva",
+            "Souza", "Sá", "da", "José", "Joana"};
+
+    private static String[] randomName(Random random) {
+        String lastName = NAME_WORDS[random.nextInt(NAME_WORDS.length)];
+        if (random.nextBoolean()) {
+            lastName += " " + NAME_WORDS[random.nextInt(NAME_WORDS.length)];
+        }
+        return new String[] {NAME_WORDS[random.nextInt(NAME_WORDS.length)], lastName};
+    }
+
+    /**
+     * Lê, na lista ordenada de chaves (palavra do nome normalizado até o fim e identificador), as que começam com o
+     * prefixo, sem repetir clientes.
+     */
+    private static List<Long> naiveAutocomplete(NavigableSet<Map.Entry<String, Long>> keys, String prefix, int limit) {
+        String folded = CustomerSearchRepository.fold(prefix);
+        List<Long> result = new ArrayList<>();
+        for (Map.Entry<String, Long> key : keys.tailSet(Map.entry(folded, Long.MIN_VALUE), true)) {
+            if (!key.getKey().startsWith(folded) || result.size() == limit) {
+                break;
+            }
+            if (!result.contains(key.getValue())) {
+                result.add(key.getValue());
+            }
+        }
+        return result;
+    }
+
+    private static List<Map.Entry<String, Long>> keys(long id, String[] name) {
+        String folded = CustomerSearchRepository.fold(name[0] + " " + name[1]);
+        List<Map.Entry<String, Long>> keys = new ArrayList<>(List.of(Map.entry(folded, id)));
+        for (int i = folded.indexOf(' '); i >= 0; i = folded.indexOf(' ', i + 1)) {
+            keys.add(Map.entry(folded.substring(i + 1), id));
+        }
+        return keys;
+    }
+
+    private static List<Long> ids(List<CustomerSuggestionDTO> suggestions) {
+        return suggestions.stream().map(CustomerSuggestionDTO::getId).toList();
+    }
+}
@@ -4,18 +4,22 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,16 +27,31 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import br.com.douglasdreer.the_barbers_forge.dtos.CustomerDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerSuggestionDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.DocumentRefDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.CursorMapper;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.CustomerMapper;
 import br.com.douglasdreer.the_barbers_forge.dtos.request.CreateCustomerRequest;
+import br.com.douglasdreer.the_barbers_forge.dtos.request.CustomerMergePatch;
 import br.com.douglasdreer.the_barbers_forge.entities.Customer;
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import br.com.douglasdreer.the_barbers_forge.enums.FetchPlan;
+import br.com.douglasdreer.the_barbers_forge.exceptions.PreconditionFailedException;
 import br.com.douglasdreer.the_barbers_forge.exceptions.ResourceNotFoundException;
 import br.com.douglasdreer.the_barbers_forge.repositories.CustomerRepository;
+import br.com.douglasdreer.the_barbers_forge.repositories.DocumentRepository;
+import br.com.douglasdreer.the_barbers_forge.repositories.projections.CustomerExportRow;
 
 /**
  * <h1>Customer Service Test</h1>
@@ -51,7 +70,13 @@ public class CustomerServiceTest {
     private CustomerRepository customerRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private CustomerMapper customerMapper;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private CustomerNameIndex customerNameIndex;
 
     private Customer customer;
     private CustomerDTO customerDTO;
@@ -66,6 +91,7 @@ public class CustomerServiceTest {
         customer.setLastName("Silva");
         customer.setAddress("Rua das Flores, 123");
         customer.setPhone("(11) 98765-4321");
+        customer.setVersion(2L);
         customer.setBirthDate(LocalDate.of(1990, 1, 15));
         customer.setDocuments(new ArrayList<>());
         customer.setCreatedAt(LocalDateTime.now());
@@ -98,9 +124,9 @@ public class CustomerServiceTest {
      */
     @Test
     public void mustReturnSuccessWhenCreateCustomer() {
-        when(modelMapper.map(any(CreateCustomerRequest.class), eq(Customer.class))).thenReturn(customer);
+        when(customerMapper.toEntity(any(CreateCustomerRequest.class))).thenReturn(customer);
         when(customerRepository.save(any(Customer.class))).thenReturn(customer);
-        when(modelMapper.map(any(Customer.class), eq(CustomerDTO.class))).thenReturn(customerDTO);
+        when(customerMapper.toDTO(any(Customer.class))).thenReturn(customerDTO);
 
         CustomerDTO result = customerService.createCustomer(createCustomerRequest);
 
@@ -110,6 +136,7 @@ public class CustomerServiceTest {
         assertEquals(customerDTO.getLastName(), result.getLastName());
         
         verify(customerRepository, times(1)).save(any(Customer.class));
+        verify(customerNameIndex).put(1L, "João", "Silva");
     }
 
     /**
@@ -117,8 +144,8 @@ public class CustomerServiceTest {
      */
     @Test
     public void mustReturnSuccessWhenFindCustomerById() {
-        when(customerRepository.findById(anyLong())).thenReturn(Optional.of(customer));
-        when(modelMapper.map(any(Customer.class), eq(CustomerDTO.class))).thenReturn(customerDTO);
+        when(customerRepository.findById(anyLong(), eq(FetchPlan.DETAIL))).thenReturn(Optional.of(customer));
+        when(customerMapper.toDTO(any(Customer.class))).thenReturn(customerDTO);
 
         CustomerDTO result = customerService.findCustomerById(1L);
 
@@ -127,7 +154,7 @@ public class CustomerServiceTest {
         assertEquals(customerDTO.getFirstName(), result.getFirstName());
         assertEquals(customerDTO.getLastName(), result.getLastName());
         
-        verify(customerRepository, times(1)).findById(anyLong());
+        verify(customerRepository, times(1)).findById(anyLong(), eq(FetchPlan.DETAIL));
     }
 
     /**
@@ -135,11 +162,11 @@ public class CustomerServiceTest {
      */
     @Test
     public void mustReturnResourceNotFoundExceptionWhenFindCustomerByIdWithInvalidId() {
-        when(customerRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(customerRepository.findById(anyLong(), eq(FetchPlan.DETAIL))).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> customerService.findCustomerById(999L));
         
-        verify(customerRepository, times(1)).findById(anyLong());
+        verify(customerRepository, times(1)).findById(anyLong(), eq(FetchPlan.DETAIL));
     }
 
     /**
@@ -147,26 +174,54 @@ public class CustomerServiceTest {
      */
     @Test
     public void mustReturnSuccessWhenUpdateCustomer() {
-        when(customerRepository.findById(anyLong())).thenReturn(Optional.of(customer));
-        when(customerRepository.save(any(Customer.class))).thenReturn(customer);
+        when(customerRepository.findById(anyLong(), eq(FetchPlan.DETAIL))).thenReturn(Optional.of(customer));
+        when(customerRepository.saveAndFlush(any(Customer.class))).thenReturn(customer);
         
         
-        doAnswer(invocation -> null)
-        .when(modelMapper)
-        .map(any(), eq(customer));
+        doNothing()
+        .when(customerMapper)
+        .updateEntity(any(), eq(customer));
         
-        when(modelMapper.map(any(Customer.class), eq(CustomerDTO.class))).thenReturn(customerDTO);
+        when(customerMapper.toDTO(any(Customer.class))).thenReturn(customerDTO);
 
-        CustomerDTO result = customerService.updateCustomer(1L, createCustomerRequest);
+        CustomerDTO result = customerService.updateCustomer(1L, createCustomerRequest, null);
 
         assertNotNull(result);
         assertEquals(customerDTO.getId(), result.getId());
         assertEquals(customerDTO.getFirstName(), result.getFirstName());
         assertEquals(customerDTO.getLastName(), result.getLastName());
         
-        verify(customerRepository, times(1)).findById(anyLong());
-        verify(modelMapper, times(1)).map(any(CreateCustomerRequest.class), eq(customer));
-        verify(customerRepository, times(1)).save(any(Customer.class));
+        verify(customerRepository, times(1)).findById(anyLong(), eq(FetchPlan.DETAIL));
+        verify(customerMapper, times(1)).updateEntity(any(CreateCustomerRequest.class), eq(customer));
+        verify(customerRepository, times(1)).saveAndFlush(any(Customer.class));
+    }
+
+    /**
+     * Testa que a atualização com uma versão de If-Match diferente da do cliente é recusada sem gravar.
+     */
+    @Test
+    public void mustReturnPreconditionFailedExceptionWhenUpdateCustomerWithStaleVersion() {
+        when(customerRepository.findById(anyLong(), eq(FetchPlan.DETAIL))).thenReturn(Optional.of(customer));
+
+        assertThrows(PreconditionFailedException.class, () ->
+            customerService.updateCustomer(1L, createCustomerRequest, customer.getVersion() + 1));
+
+        verify(customerMapper, never()).updateEntity(any(), any());
+        verify(customerRepository, never()).saveAndFlush(any());
+        verify(customerNameIndex, never()).put(anyLong(), any(), any());
+    }
+
+    /**
+     * Testa que uma alteração concorrente entre a leitura e a gravação do cliente é respondida como 412.
+     */
+    @Test
+    public void mustReturnPreconditionFailedExceptionWhenUpdateCustomerChangedConcurrently() {
+        when(customerRepository.findById(anyLong(), eq(FetchPlan.DETAIL))).thenReturn(Optional.of(customer));
+        when(customerRepository.saveAndFlush(any(Customer.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Customer.class, 1L));
+
+        assertThrows(PreconditionFailedException.class, () ->
+            customerService.updateCustomer(1L, createCustomerRequest, customer.getVersion()));
     }
 
     /**
@@ -174,12 +229,12 @@ public class CustomerServiceTest {
      */
     @Test
     public void mustReturnResourceNotFoundExceptionWhenUpdateCustomerWithInvalidId() {
-        when(customerRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(customerRepository.findById(anyLong(), eq(FetchPlan.DETAIL))).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> 
-            customerService.updateCustomer(999L, createCustomerRequest));
+            customerService.updateCustomer(999L, createCustomerRequest, null));
         
-        verify(customerRepository, times(1)).findById(anyLong());
+        verify(customerRepository, times(1)).findById(anyLong(), eq(FetchPlan.DETAIL));
     }
 
     /**
@@ -187,13 +242,14 @@ public class CustomerServiceTest {
      */
     @Test
     public void mustReturnSuccessWhenDeleteCustomerById() {
-        when(customerRepository.existsById(anyLong())).thenReturn(true);
-        doNothing().when(customerRepository).deleteById(anyLong());
+        when(customerRepository.deleteByIds(List.of(1L))).thenReturn(1);
 
-        customerService.deleteCustomerById(1L);
+        customerService.deleteCustomerById(1L, null);
 
-        verify(customerRepository, times(1)).existsById(anyLong());
-        verify(customerRepository, times(1)).deleteById(anyLong());
+        verify(customerRepository, times(1)).deleteDocumentLinks(List.of(1L));
+        verify(customerRepository, times(1)).deleteByIds(List.of(1L));
+        verify(customerRepository, never()).findById(anyLong());
+        verify(customerNameIndex).remove(List.of(1L));
     }
 
     /**
@@ -201,29 +257,302 @@ public class CustomerServiceTest {
      */
     @Test
     public void mustReturnResourceNotFoundExceptionWhenDeleteCustomerByIdWithInvalidId() {
-        when(customerRepository.existsById(anyLong())).thenReturn(false);
+        when(customerRepository.deleteByIds(List.of(999L))).thenReturn(0);
 
-        assertThrows(ResourceNotFoundException.class, () -> customerService.deleteCustomerById(999L));
-        
-        verify(customerRepository, times(1)).existsById(anyLong());
+        assertThrows(ResourceNotFoundException.class, () -> customerService.deleteCustomerById(999L, null));
+        verify(customerNameIndex, never()).remove(any());
+    }
+
+    /**
+     * Testa que a exclusão com a versão de If-Match só remove o cliente que ainda está nela.
+     */
+    @Test
+    public void mustDeleteOnlyExpectedVersionWhenDeleteCustomerByIdWithVersion() {
+        when(customerRepository.deleteByIdAndVersion(1L, 2L)).thenReturn(1);
+
+        customerService.deleteCustomerById(1L, 2L);
+
+        verify(customerRepository, never()).deleteByIds(any());
+        verify(customerNameIndex).remove(List.of(1L));
     }
 
     /**
-     * Testa a busca de todos os clientes com paginação.
+     * Testa que a exclusão de um cliente que mudou de versão é recusada.
+     */
+    @Test
+    public void mustReturnPreconditionFailedExceptionWhenDeleteCustomerByIdWithStaleVersion() {
+        when(customerRepository.deleteByIdAndVersion(1L, 2L)).thenReturn(0);
+        when(customerRepository.findVersionById(1L)).thenReturn(Optional.of(3L));
+
+        assertThrows(PreconditionFailedException.class, () -> customerService.deleteCustomerById(1L, 2L));
+        verify(customerNameIndex, never()).remove(any());
+    }
+
+    /**
+     * Testa a exclusão em lote com algum cliente inexistente.
+     */
+    @Test
+    public void mustReturnResourceNotFoundExceptionWhenDeleteCustomersWithInvalidId() {
+        when(customerRepository.deleteByIds(any())).thenReturn(1);
+
+        assertThrows(ResourceNotFoundException.class, () -> customerService.deleteCustomers(List.of(1L, 999L)));
+    }
+
+    /**
+     * Testa a busca de todos os clientes com paginação, lida como projeção.
      */
     @Test
     public void mustReturnSuccessWhenFindAllCustomersWithPagination() {
-        Page<Customer> customerPage = new PageImpl<>(java.util.List.of(customer));
-        Page<CustomerDTO> dtoPage = new PageImpl<>(java.util.List.of(customerDTO));
-        
-        when(customerRepository.findAll(any(PageRequest.class))).thenReturn(customerPage);
-        when(modelMapper.map(any(Customer.class), eq(CustomerDTO.class))).thenReturn(customerDTO);
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by("id"));
+        CustomerExportRow row = exportRow(1L, null, null);
+        when(customerRepository.findAllIds(pageRequest)).thenReturn(new PageImpl<>(List.of(1L), pageRequest, 1));
+        when(customerRepository.findRowsByIdIn(List.of(1L))).thenReturn(List.of(row));
+        when(customerMapper.toDTO(row)).thenReturn(customerDTO);
 
         Page<CustomerDTO> result = customerService.findAllCustomersWithPagination(0, 10);
 
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
-        
-        verify(customerRepository, times(1)).findAll(any(PageRequest.class));
+        assertEquals(List.of(customerDTO), result.getContent());
+    }
+
+    /**
+     * Testa a busca de clientes com paginação por cursor, lida como projeção.
+     */
+    @Test
+    public void mustReturnSuccessWhenFindAllCustomersWithCursor() {
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by("id"));
+        CustomerExportRow row = exportRow(2L, null, null);
+        when(customerRepository.findIdsAfter(1L, pageRequest)).thenReturn(new SliceImpl<>(List.of(2L), pageRequest, true));
+        when(customerRepository.findRowsByIdIn(List.of(2L))).thenReturn(List.of(row));
+        when(customerMapper.toDTO(row)).thenReturn(customerDTO);
+
+        Slice<CustomerDTO> result = customerService.findAllCustomersWithCursor(CursorMapper.encode(1L), 10);
+
+        assertNotNull(result);
+        assertEquals(1, result.getNumberOfElements());
+        assertEquals(true, result.hasNext());
+    }
+
+    /**
+     * Testa a busca de clientes por nome, mantendo a ordem de relevância devolvida pelo repositório.
+     */
+    @Test
+    public void mustReturnCustomersInRankOrderWhenSearchCustomers() {
+        CustomerExportRow first = exportRow(1L, null, null);
+        CustomerExportRow second = exportRow(2L, null, null);
+        CustomerDTO firstDTO = CustomerDTO.builder().id(1L).build();
+        CustomerDTO secondDTO = CustomerDTO.builder().id(2L).build();
+        when(customerRepository.searchIdsByName("joão", 10)).thenReturn(List.of(2L, 1L));
+        when(customerRepository.findRowsByIdIn(List.of(2L, 1L))).thenReturn(List.of(first, second));
+        when(customerMapper.toDTO(first)).thenReturn(firstDTO);
+        when(customerMapper.toDTO(second)).thenReturn(secondDTO);
+
+        List<CustomerDTO> result = customerService.searchCustomers("joão", 10);
+
+        assertEquals(List.of(secondDTO, firstDTO), result);
+    }
+
+    /**
+     * Testa que a busca recusa um texto curto demais ou um limite fora do intervalo, sem consultar o banco.
+     */
+    @Test
+    public void mustReturnIllegalArgumentExceptionWhenSearchCustomersWithInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> customerService.searchCustomers(" j ", 10));
+        assertThrows(IllegalArgumentException.class, () -> customerService.searchCustomers(null, 10));
+        assertThrows(IllegalArgumentException.class, () -> customerService.searchCustomers("joão", 0));
+        assertThrows(IllegalArgumentException.class, () -> customerService.searchCustomers("joão", 101));
+        verify(customerRepository, never()).searchIdsByName(any(), anyInt());
+    }
+
+    /**
+     * Testa que o autocompletar responde a partir do índice em memória, sem consultar o banco.
+     */
+    @Test
+    public void mustReturnSuggestionsFromIndexWhenAutocompleteCustomers() {
+        List<CustomerSuggestionDTO> suggestions = List.of(new CustomerSuggestionDTO(1L, "João", "Silva"));
+        when(customerNameIndex.autocomplete("jo", 10)).thenReturn(suggestions);
+
+        assertEquals(suggestions, customerService.autocompleteCustomers("jo", 10));
+        verifyNoInteractions(customerRepository);
+    }
+
+    /**
+     * Testa que o autocompletar recusa um prefixo vazio ou um limite fora do intervalo.
+     */
+    @Test
+    public void mustReturnIllegalArgumentExceptionWhenAutocompleteCustomersWithInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> customerService.autocompleteCustomers(" ", 10));
+        assertThrows(IllegalArgumentException.class, () -> customerService.autocompleteCustomers("jo", 0));
+        assertThrows(IllegalArgumentException.class, () -> customerService.autocompleteCustomers("jo", 101));
+        verify(customerNameIndex, never()).autocomplete(any(), anyInt());
+    }
+
+    /**
+     * Testa a exportação de clientes, agrupando as linhas consecutivas de cada cliente.
+     */
+    @Test
+    public void mustGroupDocumentsByCustomerWhenExportCustomers() {
+        Stream<CustomerExportRow> rows = Stream.of(
+                exportRow(1L, 10L, "11111111111"),
+                exportRow(1L, 11L, "22222222222"),
+                exportRow(2L, null, null)
+        );
+        when(customerRepository.streamAllForExport()).thenReturn(rows);
+        when(customerMapper.toDTO(any(CustomerExportRow.class))).thenAnswer(invocation -> {
+            CustomerExportRow row = invocation.getArgument(0);
+            CustomerDTO dto = new CustomerDTO();
+            dto.setId(row.id());
+            dto.setDocuments(new ArrayList<>());
+            return dto;
+        });
+        when(customerMapper.toDocumentRef(any(CustomerExportRow.class))).thenAnswer(invocation -> {
+            CustomerExportRow row = invocation.getArgument(0);
+            return new DocumentRefDTO(row.documentId(), row.documentType(), row.documentNumber());
+        });
+
+        List<CustomerDTO> exported = new ArrayList<>();
+        customerService.exportCustomers(exported::add);
+
+        assertEquals(2, exported.size());
+        assertEquals(1L, exported.get(0).getId());
+        assertEquals(List.of(10L, 11L), exported.get(0).getDocuments().stream().map(DocumentRefDTO::getId).toList());
+        assertEquals(2L, exported.get(1).getId());
+        assertEquals(0, exported.get(1).getDocuments().size());
+    }
+
+    /**
+     * Testa o vínculo de um documento a um cliente.
+     */
+    @Test
+    public void mustReturnSuccessWhenLinkDocument() {
+        when(customerRepository.existsById(1L)).thenReturn(true);
+        when(documentRepository.existsById(10L)).thenReturn(true);
+        when(customerRepository.linkDocument(1L, 10L)).thenReturn(1);
+
+        customerService.linkDocument(1L, 10L);
+
+        verify(customerRepository, times(1)).linkDocument(1L, 10L);
+        verify(customerRepository, times(1)).incrementVersion(1L);
+    }
+
+    /**
+     * Testa que um vínculo já existente não altera a versão do cliente.
+     */
+    @Test
+    public void mustKeepVersionWhenLinkDocumentAlreadyLinked() {
+        when(customerRepository.existsById(1L)).thenReturn(true);
+        when(documentRepository.existsById(10L)).thenReturn(true);
+        when(customerRepository.linkDocument(1L, 10L)).thenReturn(0);
+
+        customerService.linkDocument(1L, 10L);
+
+        verify(customerRepository, never()).incrementVersion(anyLong());
+    }
+
+    /**
+     * Testa a ETag de um cliente, obtida somente pela sua versão.
+     */
+    @Test
+    public void mustReturnETagWhenFindCustomerETag() {
+        when(customerRepository.findVersionById(1L)).thenReturn(Optional.of(4L));
+
+        assertEquals("\"1-4\"", customerService.findCustomerETag(1L));
+        verify(customerRepository, never()).findById(anyLong(), any());
+    }
+
+    /**
+     * Testa a ETag de um cliente inexistente.
+     */
+    @Test
+    public void mustReturnResourceNotFoundExceptionWhenFindCustomerETagNotFound() {
+        when(customerRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> customerService.findCustomerETag(1L));
+    }
+
+    /**
+     * Testa o vínculo com um documento inexistente.
+     */
+    @Test
+    public void mustReturnResourceNotFoundExceptionWhenLinkDocumentNotFound() {
+        when(customerRepository.existsById(1L)).thenReturn(true);
+        when(documentRepository.existsById(10L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> customerService.linkDocument(1L, 10L));
+        verify(customerRepository, never()).linkDocument(anyLong(), anyLong());
+    }
+
+    /**
+     * Testa a remoção de um vínculo inexistente.
+     */
+    @Test
+    public void mustReturnResourceNotFoundExceptionWhenUnlinkDocumentNotLinked() {
+        when(customerRepository.unlinkDocument(1L, 10L)).thenReturn(0);
+
+        assertThrows(ResourceNotFoundException.class, () -> customerService.unlinkDocument(1L, 10L));
+    }
+
+    /**
+     * Testa que o cliente alterado pelo patch é lido como projeção, sem carregar a entidade.
+     */
+    @Test
+    public void mustReturnPatchedCustomerFromProjectionWhenPatchCustomer() throws Exception {
+        CustomerMergePatch patch = mergePatch("{\"version\": 1, \"firstName\": \"João\"}");
+        CustomerExportRow row = exportRow(1L, null, null);
+        when(customerRepository.patch(1L, 1L, patch.getChanges())).thenReturn(1);
+        when(customerRepository.findRowsByIdIn(List.of(1L))).thenReturn(List.of(row));
+        when(customerMapper.toDTO(row)).thenReturn(customerDTO);
+
+        CustomerDTO result = customerService.patchCustomer(1L, patch, null);
+
+        assertEquals(customerDTO, result);
+        verify(customerRepository, never()).findById(anyLong(), any());
+        verify(customerNameIndex).put(1L, "João", "Silva");
+    }
+
+    /**
+     * Testa o patch de um cliente cuja versão mudou desde a leitura.
+     */
+    @Test
+    public void mustReturnOptimisticLockingFailureWhenPatchCustomerWithOutdatedVersion() throws Exception {
+        CustomerMergePatch patch = mergePatch("{\"version\": 1, \"firstName\": \"Ana\"}");
+        when(customerRepository.patch(1L, 1L, patch.getChanges())).thenReturn(0);
+        when(customerRepository.findVersionById(1L)).thenReturn(Optional.of(2L));
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> customerService.patchCustomer(1L, patch, null));
+    }
+
+    /**
+     * Testa que o patch com uma versão de If-Match diferente da versão do corpo é recusado sem gravar.
+     */
+    @Test
+    public void mustReturnPreconditionFailedExceptionWhenPatchCustomerWithDifferentIfMatchVersion() throws Exception {
+        CustomerMergePatch patch = mergePatch("{\"version\": 1, \"firstName\": \"Ana\"}");
+
+        assertThrows(PreconditionFailedException.class, () -> customerService.patchCustomer(1L, patch, 2L));
+        verify(customerRepository, never()).patch(anyLong(), anyLong(), any());
+    }
+
+    /**
+     * Testa o patch de um cliente inexistente.
+     */
+    @Test
+    public void mustReturnResourceNotFoundExceptionWhenPatchCustomerNotFound() throws Exception {
+        CustomerMergePatch patch = mergePatch("{\"version\": 1, \"phone\": null}");
+        when(customerRepository.patch(1L, 1L, patch.getChanges())).thenReturn(0);
+        when(customerRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> customerService.patchCustomer(1L, patch, null));
+    }
+
+    private CustomerMergePatch mergePatch(String json) throws Exception {
+        return CustomerMergePatch.from(new ObjectMapper().readTree(json));
+    }
+
+    private CustomerExportRow exportRow(Long customerId, Long documentId, String documentNumber) {
+        DocumentType documentType = documentId == null ? null : DocumentType.CPF;
+        return new CustomerExportRow(customerId, "João", "Silva", null, null, null, 0L, null, null,
+                documentId, documentType, documentNumber);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,127 @@
+package br.com.douglasdreer.the_barbers_forge.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import br.com.douglasdreer.the_barbers_forge.repositories.DocumentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * <h1>Document Key Filter Test</h1>
+ * <p>Testes unitários para a classe {@link DocumentKeyFilter}.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@ExtendWith(MockitoExtension.class)
+public class DocumentKeyFilterTest {
+    private static final String CPF = "52998224725";
+    private static final String CNH = "55544433308";
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DocumentKeyFilter keyFilter;
+
+    @BeforeEach
+    public void setUp() {
+        keyFilter = new DocumentKeyFilter(documentRepository, transactionManager, 1000, 0.01);
+    }
+
+    /**
+     * Testa que, antes da primeira montagem, todo documento é tratado como possivelmente cadastrado.
+     */
+    @Test
+    public void mustReturnMightContainWhenFilterIsNotBuilt() {
+        assertTrue(keyFilter.mightContain(DocumentType.CPF, CPF));
+    }
+
+    /**
+     * Testa que a montagem lê os documentos cadastrados e descarta apenas os ausentes, distinguindo o tipo.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void mustReturnRegisteredDocumentsWhenRebuild() {
+        when(documentRepository.count()).thenReturn(1L);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, BiConsumer.class).accept(DocumentType.CPF, CPF);
+            return null;
+        }).when(documentRepository).forEachTypeAndNumber(any());
+
+        keyFilter.rebuild();
+
+        assertTrue(keyFilter.mightContain(DocumentType.CPF, CPF));
+        assertFalse(keyFilter.mightContain(DocumentType.CNH, CPF));
+        assertFalse(keyFilter.mightContain(DocumentType.CNH, CNH));
+    }
+
+    /**
+     * Testa que os documentos adicionados depois da montagem passam a ser possivelmente cadastrados.
+     */
+    @Test
+    public void mustReturnMightContainWhenPutAfterRebuild() {
+        keyFilter.rebuild();
+        assertFalse(keyFilter.mightContain(DocumentType.CNH, CNH));
+
+        keyFilter.put(DocumentType.CNH, CNH);
+
+        assertTrue(keyFilter.mightContain(DocumentType.CNH, CNH));
+    }
+
+    /**
+     * Testa que o filtro nunca descarta um documento adicionado e que a taxa de falsos positivos fica perto da configurada.
+     */
+    @Test
+    public void mustKeepFalsePositiveRateNearConfiguredWhenFilterIsFull() {
+        DocumentKeyFilter.BloomFilter filter = new DocumentKeyFilter.BloomFilter(10_000, 0.01);
+        for (long i = 0; i < 10_000; i++) {
+            filter.put(DocumentType.CPF, Long.toString(10_000_000_000L + i));
+        }
+
+        int falsePositives = 0;
+        for (long i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain(DocumentType.CPF, Long.toString(10_000_000_000L + i)));
+            if (filter.mightContain(DocumentType.CPF, Long.toString(20_000_000_000L + i))) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 200, "Taxa de falsos positivos deve ficar perto de 1%: " + falsePositives);
+    }
+
+    /**
+     * Testa a métrica da taxa observada de falsos positivos.
+     */
+    @Test
+    public void mustPublishFalsePositiveRateWhenBindToRegistry() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        keyFilter.bindTo(registry);
+        keyFilter.rebuild();
+
+        keyFilter.mightContain(DocumentType.CPF, CPF);
+        keyFilter.mightContain(DocumentType.CNH, CNH);
+        keyFilter.mightContain(DocumentType.RG, "987654321");
+        keyFilter.recordFalsePositives(1);
+
+        assertEquals(3.0, registry.get("documents.key.filter.checks").tag("result", "absent").functionCounter().count());
+        assertEquals(1.0, registry.get("documents.key.filter.false.positives").functionCounter().count());
+        assertEquals(0.25, registry.get("documents.key.filter.false.positive.rate").gauge().value());
+    }
+}
@@ -0,0 +1,155 @@
+package br.com.douglasdreer.the_barbers_forge.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import br.com.douglasdreer.the_barbers_forge.enums.MessageErroType;
+import br.com.douglasdreer.the_barbers_forge.exceptions.ValidateDocumentServiceException;
+
+/**
+ * <h1>Document Number Validator Test</h1>
+ * <p>Testes unitários para a classe {@link DocumentNumberValidator}.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+public class DocumentNumberValidatorTest {
+
+    /**
+     * Testa que um CPF válido é aceito com e sem pontuação.
+     */
+    @Test
+    public void mustReturnTrueWhenValidateValidCpf() {
+        assertTrue(DocumentNumberValidator.isValid(DocumentType.CPF, "52998224725"));
+        assertTrue(DocumentNumberValidator.isValid(DocumentType.CPF, "529.982.247-25"));
+        assertTrue(DocumentNumberValidator.isValid(DocumentType.CPF, "00000000191"));
+    }
+
+    /**
+     * Testa que um CPF com dígito verificador errado, tamanho errado, letras ou dígitos repetidos é recusado.
+     */
+    @Test
+    public void mustReturnFalseWhenValidateInvalidCpf() {
+        assertFalse(DocumentNumberValidator.isValid(DocumentType.CPF, "52998224724"));
+        assertFalse(DocumentNumberValidator.isValid(DocumentType.CPF, "52998224715"));
+        assertFalse(DocumentNumberValidator.isValid(DocumentType.CPF, "5299822472"));
+        assertFalse(DocumentNumberValidator.isValid(DocumentType.CPF, "529982247250"));
+        assertFalse(DocumentNumberValidator.isValid(DocumentType.CPF, "5299822472A"));
+        assertFalse(DocumentNumberValidator.isValid(DocumentType.CPF, "11111111111"));
+        assertFalse(DocumentNumberValidator.isValid(DocumentType.CPF, "..."));
+    }
+
+    /**
+     * Testa que CNPJs numéricos e alfanuméricos válidos são aceitos, inclusive com letras minúsculas.
+     */
+    @Test
+    public void mustReturnTrueWhenValidateValidCnpj() {
+        assertTrue(DocumentNumberValidator.isValid(DocumentType.CNPJ, "11222333000181"));
+        assertTrue(DocumentNumberValidator.isValid(DocumentType.CNPJ, "11.222.333/0001-81"));
+        assertTrue(DocumentNumberValidator.isValid(DocumentType.CNPJ, "12.ABC.345/01DE-35"));
+        assertTrue(DocumentNumberValidator.isValid(DocumentType.CNPJ, "12abc34501de35"));
+    }
+
+    /**
+     * Testa que um CNPJ com dígito verificador errado, letra no dígito verificador ou caracteres repetidos é recusado.
+     */
+    @Test
+    public void mustReturnFalseWhenValidateInvalidCnpj() {
+        assertFalse(DocumentNumberValidator.isValid(DocumentType.CNPJ, "11222333000182"));
+        assertFalse(DocumentNumberValidator.isValid(DocumentType.CNPJ, "12ABC34501DE3A"));
+        assertFalse(DocumentNumberValidator.isValid(DocumentType.CNPJ, "1122233300018"));
+        assertFalse(DocumentNumberValidator.isValid(DocumentType.CNPJ, "00000000000000"));
+        assertFalse(DocumentNumberValidator.isValid(DocumentType.CNPJ, "12ABC34501DÉ35"));
+    }
+
+    /**
+     * Testa a validação dos dígitos verificadores da CNH.
+     */
+    @Test
+    public void mustValidateCnhCheckDigits() {
+        assertTrue(DocumentNumberValidator.isValid(DocumentType.CNH, "55544433308"));
+        assertTrue(DocumentNumberValidator.isValid(DocumentType.CNH, "11122233369"));
+        assertFalse(DocumentNumberValidator.isValid(DocumentType.CNH, "55544433322"));
+        assertFalse(DocumentNumberValidator.isValid(DocumentType.CNH, "22222222222"));
+        assertFalse(DocumentNumberValidator.isValid(DocumentType.CNH, "5554443330"));
+    }
+
+    /**
+     * Testa que o RG aceita apenas caracteres alfanuméricos, sem dígito verificador.
+     */
+    @Test
+    public void mustValidateRgFormatOnly() {
+        assertTrue(DocumentNumberValidator.isValid(DocumentType.RG, "12.345.678-X"));
+        assertTrue(DocumentNumberValidator.isValid(DocumentType.RG, "987654321"));
+        assertFalse(DocumentNumberValidator.isValid(DocumentType.RG, "12_345"));
+        assertFalse(DocumentNumberValidator.isValid(DocumentType.RG, "123456789012345"));
+        assertFalse(DocumentNumberValidator.isValid(DocumentType.RG, " - "));
+    }
+
+    /**
+     * Testa que tipo ou número ausentes não são válidos.
+     */
+    @Test
+    public void mustReturnFalseWhenValidateWithoutTypeOrNumber() {
+        assertFalse(DocumentNumberValidator.isValid(null, "52998224725"));
+        assertFalse(DocumentNumberValidator.isValid(DocumentType.CPF, null));
+    }
+
+    /**
+     * Testa que a normalização remove a pontuação e converte as letras para maiúsculas.
+     */
+    @Test
+    public void mustReturnNormalizedNumberWhenNormalize() {
+        assertEquals("52998224725", DocumentNumberValidator.normalize(DocumentType.CPF, "529.982.247-25"));
+        assertEquals("12ABC34501DE35", DocumentNumberValidator.normalize(DocumentType.CNPJ, "12.abc.345/01de-35"));
+        assertEquals("12345678X", DocumentNumberValidator.normalize(DocumentType.RG, "12.345.678-x"));
+    }
+
+    /**
+     * Testa que um número já normalizado é devolvido sem criar outra String.
+     */
+    @Test
+    public void mustReturnSameInstanceWhenNormalizeNormalizedNumber() {
+        String number = "52998224725";
+
+        assertSame(number, DocumentNumberValidator.normalize(DocumentType.CPF, number));
+    }
+
+    /**
+     * Testa que a normalização recusa um número inválido.
+     */
+    @Test
+    public void mustReturnValidateDocumentServiceExceptionWhenNormalizeInvalidNumber() {
+        ValidateDocumentServiceException exception = assertThrows(ValidateDocumentServiceException.class,
+                () -> DocumentNumberValidator.normalize(DocumentType.CPF, "52998224724"));
+
+        assertEquals(MessageErroType.INVALID_DOCUMENT_NUMBER.getMessage(), exception.getMessage());
+    }
+
+    /**
+     * Testa que a chave numérica é formada pelos dígitos, inclusive com zeros à esquerda e pontuação.
+     */
+    @Test
+    public void mustReturnDigitsWhenBuildNumberKey() {
+        assertEquals(52998224725L, DocumentNumberValidator.numberKey(DocumentType.CPF, "529.982.247-25"));
+        assertEquals(191L, DocumentNumberValidator.numberKey(DocumentType.CNPJ, "00.000.000/0001-91"));
+        assertEquals(55544433308L, DocumentNumberValidator.numberKey(DocumentType.CNH, "55544433308"));
+    }
+
+    /**
+     * Testa que RG e CNPJ alfanumérico não têm chave numérica.
+     */
+    @Test
+    public void mustReturnNullWhenBuildNumberKeyForNumberWithLetters() {
+        assertNull(DocumentNumberValidator.numberKey(DocumentType.RG, "987654321"));
+        assertNull(DocumentNumberValidator.numberKey(DocumentType.CNPJ, "12ABC34501DE35"));
+        assertNull(DocumentNumberValidator.numberKey(null, "52998224725"));
+    }
+}
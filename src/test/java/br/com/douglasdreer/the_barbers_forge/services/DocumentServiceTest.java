@@ -3,36 +3,53 @@ package br.com.douglasdreer.the_barbers_forge.services;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import br.com.douglasdreer.the_barbers_forge.dtos.DocumentDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.ImportResultDTO;
 import br.com.douglasdreer.the_barbers_forge.dtos.mappers.DocumentMapper;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.ETagMapper;
 import br.com.douglasdreer.the_barbers_forge.dtos.request.CreateDocumentRequest;
 import br.com.douglasdreer.the_barbers_forge.dtos.request.ParamDocumentRequest;
 import br.com.douglasdreer.the_barbers_forge.entities.Document;
 import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
 import br.com.douglasdreer.the_barbers_forge.exceptions.DocumentServiceException;
+import br.com.douglasdreer.the_barbers_forge.exceptions.UniqueConstraintViolationException;
+import br.com.douglasdreer.the_barbers_forge.exceptions.ValidateDocumentServiceException;
 import br.com.douglasdreer.the_barbers_forge.repositories.DocumentRepository;
+import br.com.douglasdreer.the_barbers_forge.repositories.projections.CustomerVersionRow;
+import br.com.douglasdreer.the_barbers_forge.repositories.projections.DocumentExportRow;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +63,15 @@ public class DocumentServiceTest {
     @Mock
     private DocumentMapper documentMapper;
 
+    @Mock
+    private DocumentLookup documentLookup;
+
+    @Mock
+    private DocumentImporter documentImporter;
+
+    @Mock
+    private DocumentKeyFilter documentKeyFilter;
+
     private Document entity = new Document();
     private DocumentDTO dto = new DocumentDTO();
     private CreateDocumentRequest createDocumentRequest = new CreateDocumentRequest();
@@ -56,35 +82,32 @@ public class DocumentServiceTest {
     public void setUp() {
         createDocumentRequest = new CreateDocumentRequest(
             DocumentType.CPF,
-            "1234567890"
+            "52998224725"
         );
 
         params = new ParamDocumentRequest(
-            "1234567890",
+            "52998224725",
             DocumentType.CPF
         );        
 
         entity = new Document();
         entity.setId(1L);
         entity.setDocumentType(DocumentType.CPF);
-        entity.setNumber("1234567890");
+        entity.setNumber("52998224725");
         entity.setCreatedAt(LocalDateTime.now());
         entity.setUpdatedAt(LocalDateTime.now());
 
         dto = new DocumentDTO();
         dto.setId(1L);
         dto.setDocumentType(DocumentType.CPF);
-        dto.setNumber("1234567890");
+        dto.setNumber("52998224725");
     }
 
     @Test
     public void mustReturnSuccessWhenCreateDocument() {
-        Optional<Document> documentOptional = Optional.empty();
-
         when(documentMapper.toEntity(any())).thenReturn(entity);
         when(documentMapper.toDTO(any())).thenReturn(dto);
-        when(documentRepository.findByDocumentTypeAndNumber(any(), anyString())).thenReturn(documentOptional);
-        when(documentRepository.save(any())).thenReturn(entity);
+        when(documentRepository.saveAndFlush(any())).thenReturn(entity);
 
         DocumentDTO result = documentService.createDocument(createDocumentRequest);
 
@@ -93,18 +116,63 @@ public class DocumentServiceTest {
         assertEquals(entity.getDocumentType(), result.getDocumentType());
         assertEquals(entity.getNumber(), result.getNumber());
 
-        verify(documentRepository, times(1)).save(any());
-        verify(documentRepository, times(1)).findByDocumentTypeAndNumber(any(), anyString());
+        verify(documentMapper, times(1)).toEntity(any());
+        verify(documentRepository, times(1)).saveAndFlush(any());
+        verify(documentRepository, never()).findByDocumentTypeAndNumber(any(), anyString());
+    }
+
+    @Test
+    public void mustReturnUniqueConstraintViolationExceptionWhenCreateDocumentWithDocumentAlreadyExists() {
+        ConstraintViolationException violation = new ConstraintViolationException(
+                "duplicate key", new SQLException(), Document.UK_TYPE_NUMBER.toLowerCase());
+        when(documentMapper.toEntity(any())).thenReturn(entity);
+        when(documentRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate key", violation));
+
+        assertThrows(UniqueConstraintViolationException.class, () -> documentService.createDocument(createDocumentRequest));
     }
 
     @Test
-    public void mustReturnDocumentServiceExceptionWhenCreateDocumentWithDocumentAlreadyExists() {
-        when(documentRepository.findByDocumentTypeAndNumber(any(), anyString())).thenReturn(Optional.of(entity));
+    public void mustRethrowDataIntegrityViolationExceptionWhenCreateDocumentViolatesOtherConstraint() {
+        DataIntegrityViolationException notNull = new DataIntegrityViolationException("not null");
         when(documentMapper.toEntity(any())).thenReturn(entity);
+        when(documentRepository.saveAndFlush(any())).thenThrow(notNull);
 
-        assertThrows(DocumentServiceException.class, () -> documentService.createDocument(createDocumentRequest));
+        assertSame(notNull, assertThrows(DataIntegrityViolationException.class,
+                () -> documentService.createDocument(createDocumentRequest)));
+    }
+
+    @Test
+    public void mustReturnValidateDocumentServiceExceptionWhenCreateDocumentWithInvalidNumber() {
+        when(documentMapper.toEntity(any())).thenReturn(entity);
+
+        CreateDocumentRequest invalid = new CreateDocumentRequest(DocumentType.CPF, "52998224724");
+
+        assertThrows(ValidateDocumentServiceException.class, () -> documentService.createDocument(invalid));
+        verify(documentRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    public void mustReturnSuccessWhenCreateDocumentWithFormattedNumber() {
+        when(documentMapper.toEntity(any())).thenReturn(entity);
+        when(documentMapper.toDTO(any())).thenReturn(dto);
+        when(documentRepository.saveAndFlush(any())).thenReturn(entity);
+
+        documentService.createDocument(new CreateDocumentRequest(DocumentType.CPF, "529.982.247-25"));
+
+        verify(documentRepository).saveAndFlush(argThat(saved -> "52998224725".equals(saved.getNumber())));
     }
     
+    @Test
+    public void mustReturnSuccessWhenImportDocuments() {
+        ImportResultDTO importResult = ImportResultDTO.of(List.of());
+        when(documentImporter.importAll(anyList())).thenReturn(importResult);
+
+        ImportResultDTO result = documentService.importDocuments(List.of(createDocumentRequest));
+
+        assertEquals(importResult, result);
+        verify(documentImporter, times(1)).importAll(anyList());
+    }
+
     /**
      * Teste para verificar se o método listDocument retorna uma lista
      * de documentos com sucesso.
@@ -124,72 +192,131 @@ public class DocumentServiceTest {
 
     @Test
     public void mustReturnSuccessWhenFindDocumentsWithPagination() {
-        Page<Document> page = mock(Page.class);
-        when(documentRepository.findAll(any(PageRequest.class))).thenReturn(page);
-        when(page.map(any())).thenReturn(Page.empty());
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by("id"));
+        DocumentExportRow row = new DocumentExportRow(1L, DocumentType.CPF, "12345678900", null, null, null, null, null, null);
+        when(documentRepository.findAllIds(pageRequest)).thenReturn(new PageImpl<>(List.of(1L), pageRequest, 11));
+        when(documentRepository.findRowsByIdIn(List.of(1L))).thenReturn(List.of(row));
+        when(documentMapper.toDTO(row)).thenReturn(dto);
 
         Page<DocumentDTO> result = documentService.findAllDocumentWithPagination(0, 10);
 
+        assertEquals(List.of(dto), result.getContent());
+        assertEquals(11, result.getTotalElements());
+    }
+
+    @Test
+    public void mustReturnSuccessWhenFindDocumentsWithCursor() {
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by("id"));
+        when(documentRepository.findIdsAfter(0L, pageRequest)).thenReturn(new SliceImpl<>(List.of(), pageRequest, false));
+
+        Slice<DocumentDTO> result = documentService.findAllDocumentWithCursor(null, 10);
+
         assertNotNull(result);
-        verify(documentRepository, times(1)).findAll(any(PageRequest.class));
+        assertEquals(0, result.getNumberOfElements());
+        assertFalse(result.hasNext());
+        verify(documentRepository, never()).findRowsByIdIn(any());
+    }
+
+    @Test
+    public void mustReturnIllegalArgumentExceptionWhenFindDocumentsWithInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> documentService.findAllDocumentWithCursor("###", 10));
     }
 
     @Test
     public void mustReturnSuccessWhenFindDocumentById() {
-        when(documentRepository.findById(anyLong())).thenReturn(Optional.of(entity));
-        when(documentMapper.toDTO(any())).thenReturn(new DocumentDTO());
+        when(documentLookup.findById(anyLong())).thenReturn(Optional.of(dto));
 
         DocumentDTO result = documentService.findDocumentById(1L);
 
         assertNotNull(result);
-        verify(documentRepository, times(1)).findById(anyLong());
+        verify(documentLookup, times(1)).findById(anyLong());
     }
 
     @Test
     public void mustReturnSuccessWhenFindDocumentByTypeAndNumber() {        
-        when(documentRepository.findByDocumentTypeAndNumber(any(), anyString())).thenReturn(Optional.of(entity));
-        when(documentMapper.toDTO(any())).thenReturn(new DocumentDTO());
+        when(documentLookup.findByTypeAndNumber(any(), anyString())).thenReturn(Optional.of(dto));
 
         DocumentDTO result = documentService.findByDocumentTypeAndNumber(params);
 
         assertNotNull(result);
-        verify(documentRepository, times(1)).findByDocumentTypeAndNumber(any(), anyString());
+        verify(documentLookup, times(1)).findByTypeAndNumber(any(), anyString());
     }
 
     @Test
     public void mustReturnDocumentServiceExceptionWhenFindByDocumentTypeAndNumberWithDocumentNotFound() {
-        when(documentRepository.findByDocumentTypeAndNumber(any(), anyString())).thenReturn(Optional.empty());
+        when(documentLookup.findByTypeAndNumber(any(), anyString())).thenReturn(Optional.empty());
 
         assertThrows(DocumentServiceException.class, () -> documentService.findByDocumentTypeAndNumber(params));
     }
 
+    @Test
+    public void mustReturnSuccessWhenFindDocumentByTypeAndFormattedNumber() {
+        when(documentLookup.findByTypeAndNumber(DocumentType.CPF, "52998224725")).thenReturn(Optional.of(dto));
+
+        DocumentDTO result = documentService.findByDocumentTypeAndNumber(new ParamDocumentRequest("529.982.247-25", DocumentType.CPF));
+
+        assertNotNull(result);
+    }
+
+    @Test
+    public void mustReturnValidateDocumentServiceExceptionWhenFindByDocumentTypeAndNumberWithInvalidNumber() {
+        ParamDocumentRequest invalid = new ParamDocumentRequest("11111111111", DocumentType.CPF);
+
+        assertThrows(ValidateDocumentServiceException.class, () -> documentService.findByDocumentTypeAndNumber(invalid));
+        verify(documentLookup, never()).findByTypeAndNumber(any(), anyString());
+    }
+
     @Test
     public void mustReturnSuccessWhenDeleteDocumentById() {
-        when(documentRepository.findById(anyLong())).thenReturn(Optional.of(entity));
-        doNothing().when(documentRepository).deleteById(anyLong());
+        when(documentRepository.deleteDocument(1L)).thenReturn(1);
 
         documentService.deleteDocumentById(1L);
 
-        verify(documentRepository, times(1)).deleteById(anyLong());
-        verify(documentRepository, times(1)).findById(anyLong());
+        verify(documentRepository, times(1)).incrementCustomerVersions(1L);
+        verify(documentRepository, times(1)).deleteCustomerLinks(1L);
+        verify(documentRepository, times(1)).deleteDocument(1L);
+        verify(documentRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    public void mustReturnETagWhenFindDocumentETag() {
+        when(documentRepository.findCustomerVersionsById(1L))
+                .thenReturn(List.of(new CustomerVersionRow(2L, 3L), new CustomerVersionRow(1L, 0L)));
+
+        assertEquals(ETagMapper.document(1L, Map.of(1L, 0L, 2L, 3L)), documentService.findDocumentETag(1L));
+        verify(documentLookup, never()).findById(anyLong());
+    }
+
+    @Test
+    public void mustReturnETagWhenFindDocumentETagWithoutCustomers() {
+        when(documentRepository.findCustomerVersionsById(1L)).thenReturn(List.of(new CustomerVersionRow(null, null)));
+
+        assertEquals(ETagMapper.document(1L, Map.of()), documentService.findDocumentETag(1L));
+    }
+
+    @Test
+    public void mustReturnDocumentServiceExceptionWhenFindDocumentETagWithDocumentNotFound() {
+        when(documentRepository.findCustomerVersionsById(1L)).thenReturn(List.of());
+
+        assertThrows(DocumentServiceException.class, () -> documentService.findDocumentETag(1L));
     }
 
     @Test
     public void mustReturnDocumentServiceExceptionWhenDeleteDocumentByIdWithDocumentNotFound() {
-        when(documentRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(documentRepository.deleteDocument(1L)).thenReturn(0);
 
         assertThrows(DocumentServiceException.class, () -> documentService.deleteDocumentById(1L));
     }
 
     @Test
     public void mustReturnExceptionWhenDocumentNotFound() {
-        when(documentRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(documentLookup.findById(anyLong())).thenReturn(Optional.empty());
 
         assertThrows(DocumentServiceException.class, () -> {
             documentService.findDocumentById(1L);
         });
 
-        verify(documentRepository, times(1)).findById(anyLong());       
+        verify(documentLookup, times(1)).findById(anyLong());       
     }
 
 
@@ -0,0 +1,256 @@
+package br.com.douglasdreer.the_barbers_forge.services.integration;
+
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerRefDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.DocumentDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.DocumentRefDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.ETagMapper;
+import br.com.douglasdreer.the_barbers_forge.dtos.request.CreateDocumentRequest;
+import br.com.douglasdreer.the_barbers_forge.entities.Customer;
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import br.com.douglasdreer.the_barbers_forge.exceptions.ResourceNotFoundException;
+import br.com.douglasdreer.the_barbers_forge.repositories.CustomerRepository;
+import br.com.douglasdreer.the_barbers_forge.services.CustomerService;
+import br.com.douglasdreer.the_barbers_forge.services.DocumentService;
+import br.com.douglasdreer.the_barbers_forge.support.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <h1>Customer Document Link Integration Test</h1>
+ * <p>Testes de integração do vínculo entre clientes e documentos: cada vínculo é gravado uma única vez
+ * e lido igualmente pelos dois lados da associação.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@SpringBootTest(properties = SqlStatementCounter.PROPERTY)
+@ActiveProfiles("test")
+@Transactional
+public class CustomerDocumentLinkIntegrationTest {
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long customerId;
+    private DocumentDTO document;
+
+    @BeforeEach
+    public void setUp() {
+        customerId = customerRepository.findAll().get(0).getId();
+        document = documentService.createDocument(new CreateDocumentRequest(DocumentType.CNH, "55544433308"));
+    }
+
+    /**
+     * Testa que o vínculo é gravado uma única vez e aparece nos dois lados da associação.
+     */
+    @Test
+    public void mustReturnLinkOnBothSidesWhenLinkDocument() {
+        documentService.findDocumentById(document.getId());
+
+        customerService.linkDocument(customerId, document.getId());
+        customerService.linkDocument(customerId, document.getId());
+
+        assertEquals(1, countLinks());
+        CustomerDTO customer = customerService.findCustomerById(customerId);
+        assertEquals(List.of(document.getId()), customer.getDocuments().stream().map(DocumentRefDTO::getId).toList());
+        DocumentDTO linked = documentService.findDocumentById(document.getId());
+        assertEquals(List.of(customerId), linked.getCustomers().stream().map(CustomerRefDTO::getId).toList());
+    }
+
+    /**
+     * Testa que a remoção do vínculo mantém o cliente e o documento.
+     */
+    @Test
+    public void mustKeepCustomerAndDocumentWhenUnlinkDocument() {
+        customerService.linkDocument(customerId, document.getId());
+
+        customerService.unlinkDocument(customerId, document.getId());
+
+        assertEquals(0, countLinks());
+        assertTrue(customerService.findCustomerById(customerId).getDocuments().isEmpty());
+        assertTrue(documentService.findDocumentById(document.getId()).getCustomers().isEmpty());
+    }
+
+    /**
+     * Testa que vincular e desvincular um documento muda a ETag do cliente e a de outros documentos do cliente,
+     * e que as ETags consultadas sem carregar as entidades batem com as das representações.
+     */
+    @Test
+    public void mustChangeETagsWhenLinkAndUnlinkDocument() {
+        DocumentDTO other = documentService.createDocument(new CreateDocumentRequest(DocumentType.CNH, "11122233369"));
+        customerService.linkDocument(customerId, other.getId());
+        String customerETag = customerService.findCustomerETag(customerId);
+        String otherETag = documentService.findDocumentETag(other.getId());
+        assertEquals(ETagMapper.of(customerService.findCustomerById(customerId)), customerETag);
+        assertEquals(ETagMapper.of(documentService.findDocumentById(other.getId())), otherETag);
+
+        customerService.linkDocument(customerId, document.getId());
+
+        assertNotEquals(customerETag, customerService.findCustomerETag(customerId));
+        assertNotEquals(otherETag, documentService.findDocumentETag(other.getId()));
+        assertEquals(ETagMapper.of(customerService.findCustomerById(customerId)), customerService.findCustomerETag(customerId));
+        assertEquals(ETagMapper.of(documentService.findDocumentById(other.getId())),
+                documentService.findDocumentETag(other.getId()));
+
+        String linkedETag = customerService.findCustomerETag(customerId);
+        customerService.unlinkDocument(customerId, document.getId());
+
+        assertNotEquals(linkedETag, customerService.findCustomerETag(customerId));
+    }
+
+    /**
+     * Testa que a exclusão de um documento vinculado muda a ETag do cliente.
+     */
+    @Test
+    public void mustChangeCustomerETagWhenDeleteLinkedDocument() {
+        customerService.linkDocument(customerId, document.getId());
+        String customerETag = customerService.findCustomerETag(customerId);
+
+        documentService.deleteDocumentById(document.getId());
+
+        assertNotEquals(customerETag, customerService.findCustomerETag(customerId));
+        assertEquals(ETagMapper.of(customerService.findCustomerById(customerId)), customerService.findCustomerETag(customerId));
+    }
+
+    /**
+     * Testa a remoção de um vínculo inexistente.
+     */
+    @Test
+    public void mustReturnResourceNotFoundExceptionWhenUnlinkDocumentNotLinked() {
+        assertThrows(ResourceNotFoundException.class, () -> customerService.unlinkDocument(customerId, document.getId()));
+    }
+
+    /**
+     * Testa o vínculo com um documento inexistente.
+     */
+    @Test
+    public void mustReturnResourceNotFoundExceptionWhenLinkDocumentNotFound() {
+        assertThrows(ResourceNotFoundException.class, () -> customerService.linkDocument(customerId, Long.MAX_VALUE));
+        assertEquals(0, countLinks());
+    }
+
+    /**
+     * Testa a exclusão de um documento vinculado, que remove também seus vínculos.
+     */
+    @Test
+    public void mustRemoveLinksWhenDeleteLinkedDocument() {
+        customerService.linkDocument(customerId, document.getId());
+
+        documentService.deleteDocumentById(document.getId());
+
+        assertEquals(0, countLinks());
+        assertTrue(customerService.findCustomerById(customerId).getDocuments().isEmpty());
+    }
+
+    /**
+     * Testa o vínculo e a remoção em lote, com um número de comandos por bloco de identificadores
+     * e sem carregar as coleções da associação.
+     */
+    @Test
+    public void mustUseSetBasedStatementsWhenLinkAndUnlinkDocuments() {
+        documentService.importDocuments(IntStream.range(0, 1500)
+                .mapToObj(i -> new CreateDocumentRequest(DocumentType.RG, "RG" + i))
+                .toList());
+        List<Long> documentIds = jdbcTemplate.queryForList(
+                "select id from TBL0002_DOCUMENTS where document_type = 'RG'", Long.class);
+        int chunks = 2;
+
+        SqlStatementCounter.reset();
+        int linked = customerService.linkDocuments(customerId, documentIds);
+        int linkStatements = SqlStatementCounter.count();
+
+        assertEquals(1500, linked);
+        assertEquals(1 + 2 * chunks + 1, linkStatements);
+        assertEquals(0, customerService.linkDocuments(customerId, documentIds.subList(0, 10)));
+
+        SqlStatementCounter.reset();
+        int unlinked = customerService.unlinkDocuments(customerId, documentIds);
+        int unlinkStatements = SqlStatementCounter.count();
+
+        assertEquals(1500, unlinked);
+        assertEquals(1 + chunks + 1, unlinkStatements);
+    }
+
+    /**
+     * Testa o vínculo em lote com algum documento inexistente, que não grava nenhum vínculo.
+     */
+    @Test
+    public void mustReturnResourceNotFoundExceptionWhenLinkDocumentsWithUnknownDocument() {
+        List<Long> documentIds = List.of(document.getId(), Long.MAX_VALUE);
+
+        assertThrows(ResourceNotFoundException.class, () -> customerService.linkDocuments(customerId, documentIds));
+        assertEquals(0, countLinks());
+    }
+
+    /**
+     * Testa que a exclusão de um cliente usa um comando para os vínculos e outro para o cliente,
+     * mantendo o documento vinculado.
+     */
+    @Test
+    public void mustKeepLinkedDocumentWhenDeleteCustomer() {
+        customerService.linkDocument(customerId, document.getId());
+
+        SqlStatementCounter.reset();
+        customerService.deleteCustomerById(customerId, null);
+        int statements = SqlStatementCounter.count();
+
+        assertEquals(2, statements);
+        assertEquals(0, countLinks());
+        assertFalse(customerRepository.existsById(customerId));
+        assertTrue(documentService.findDocumentById(document.getId()).getCustomers().isEmpty());
+    }
+
+    /**
+     * Testa a exclusão em lote de clientes, com um comando para os vínculos e outro para os clientes.
+     */
+    @Test
+    public void mustUseSetBasedStatementsWhenDeleteCustomers() {
+        List<Long> customerIds = customerRepository.findAll().stream().map(Customer::getId).toList();
+        customerIds.forEach(id -> customerService.linkDocument(id, document.getId()));
+
+        SqlStatementCounter.reset();
+        int deleted = customerService.deleteCustomers(customerIds);
+        int statements = SqlStatementCounter.count();
+
+        assertEquals(customerIds.size(), deleted);
+        assertEquals(2, statements);
+        assertEquals(0, countLinks());
+        assertEquals(0, customerRepository.count());
+    }
+
+    /**
+     * Testa a exclusão de um cliente inexistente.
+     */
+    @Test
+    public void mustReturnResourceNotFoundExceptionWhenDeleteCustomerNotFound() {
+        assertThrows(ResourceNotFoundException.class, () -> customerService.deleteCustomerById(Long.MAX_VALUE, null));
+        assertThrows(ResourceNotFoundException.class,
+                () -> customerService.deleteCustomers(List.of(customerId, Long.MAX_VALUE)));
+    }
+
+    private int countLinks() {
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from TBL0006_CUSTOMER_DOCUMENT where document_id = ?", Integer.class, document.getId());
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.douglasdreer.the_barbers_forge.services.integration;
+
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.request.CreateDocumentRequest;
+import br.com.douglasdreer.the_barbers_forge.dtos.request.CustomerMergePatch;
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import br.com.douglasdreer.the_barbers_forge.exceptions.PreconditionFailedException;
+import br.com.douglasdreer.the_barbers_forge.exceptions.ResourceNotFoundException;
+import br.com.douglasdreer.the_barbers_forge.repositories.CustomerRepository;
+import br.com.douglasdreer.the_barbers_forge.services.CustomerService;
+import br.com.douglasdreer.the_barbers_forge.services.DocumentService;
+import br.com.douglasdreer.the_barbers_forge.support.SqlStatementCounter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <h1>Customer Patch Integration Test</h1>
+ * <p>Testes de integração da alteração parcial de clientes: um único comando de atualização com os campos
+ * alterados, protegido pela versão do cliente.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@SpringBootTest(properties = SqlStatementCounter.PROPERTY)
+@ActiveProfiles("test")
+@Transactional
+public class CustomerPatchIntegrationTest {
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private CustomerDTO customer;
+
+    @BeforeEach
+    public void setUp() {
+        long customerId = customerRepository.findAll().get(0).getId();
+        customerService.linkDocument(customerId,
+                documentService.createDocument(new CreateDocumentRequest(DocumentType.CNH, "55544433308")).getId());
+        customer = customerService.findCustomerById(customerId);
+    }
+
+    /**
+     * Testa que somente os campos do patch são alterados, com um único comando de atualização.
+     */
+    @Test
+    public void mustUpdateOnlyPatchedFieldsWhenPatchCustomer() throws Exception {
+        SqlStatementCounter.reset();
+        CustomerDTO patched = customerService.patchCustomer(customer.getId(),
+                patch("{\"version\": " + customer.getVersion() + ", \"firstName\": \"Joana\", \"phone\": null}"), null);
+        int statements = SqlStatementCounter.count();
+
+        assertEquals("Joana", patched.getFirstName());
+        assertNull(patched.getPhone());
+        assertEquals(customer.getLastName(), patched.getLastName());
+        assertEquals(customer.getAddress(), patched.getAddress());
+        assertEquals(customer.getBirthDate(), patched.getBirthDate());
+        assertEquals(customer.getVersion() + 1, patched.getVersion());
+        assertEquals(customer.getDocuments(), patched.getDocuments());
+        assertEquals(2, statements, "Um update e uma leitura do cliente atualizado, como projeção");
+    }
+
+    /**
+     * Testa que um patch baseado em uma versão antiga é recusado sem alterar o cliente.
+     */
+    @Test
+    public void mustReturnOptimisticLockingFailureWhenPatchCustomerWithOutdatedVersion() throws Exception {
+        customerService.patchCustomer(customer.getId(),
+                patch("{\"version\": " + customer.getVersion() + ", \"lastName\": \"Souza\"}"), null);
+
+        CustomerMergePatch outdated = patch("{\"version\": " + customer.getVersion() + ", \"lastName\": \"Lima\"}");
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> customerService.patchCustomer(customer.getId(), outdated, null));
+        assertEquals("Souza", customerService.findCustomerById(customer.getId()).getLastName());
+    }
+
+    /**
+     * Testa que o patch com uma versão de If-Match desatualizada é recusado sem alterar o cliente.
+     */
+    @Test
+    public void mustReturnPreconditionFailedWhenPatchCustomerWithOutdatedIfMatch() throws Exception {
+        customerService.patchCustomer(customer.getId(),
+                patch("{\"version\": " + customer.getVersion() + ", \"lastName\": \"Souza\"}"), customer.getVersion());
+
+        CustomerMergePatch outdated = patch("{\"version\": " + customer.getVersion() + ", \"lastName\": \"Lima\"}");
+
+        assertThrows(PreconditionFailedException.class,
+                () -> customerService.patchCustomer(customer.getId(), outdated, customer.getVersion()));
+        assertEquals("Souza", customerService.findCustomerById(customer.getId()).getLastName());
+    }
+
+    /**
+     * Testa o patch de um cliente inexistente.
+     */
+    @Test
+    public void mustReturnResourceNotFoundExceptionWhenPatchCustomerNotFound() throws Exception {
+        CustomerMergePatch patch = patch("{\"version\": 0, \"firstName\": \"Joana\"}");
+
+        assertThrows(ResourceNotFoundException.class, () -> customerService.patchCustomer(Long.MAX_VALUE, patch, null));
+    }
+
+    private CustomerMergePatch patch(String json) throws Exception {
+        JsonNode node = objectMapper.readTree(json);
+        return CustomerMergePatch.from(node);
+    }
+}
@@ -0,0 +1,134 @@
+package br.com.douglasdreer.the_barbers_forge.services.integration;
+
+import br.com.douglasdreer.the_barbers_forge.configs.CacheConfig;
+import br.com.douglasdreer.the_barbers_forge.dtos.DocumentDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.request.CreateDocumentRequest;
+import br.com.douglasdreer.the_barbers_forge.dtos.request.ParamDocumentRequest;
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import br.com.douglasdreer.the_barbers_forge.exceptions.DocumentServiceException;
+import br.com.douglasdreer.the_barbers_forge.repositories.DocumentRepository;
+import br.com.douglasdreer.the_barbers_forge.services.DocumentService;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <h1>Document Cache Integration Test</h1>
+ * <p>Testes de integração do cache das consultas de documento: acertos, resultados vazios
+ * armazenados e invalidação na criação e na exclusão.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class DocumentCacheIntegrationTest {
+    private static final String NUMBER = "98765432100";
+    private static final String KEY = DocumentType.CPF + ":" + NUMBER;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache byTypeAndNumber;
+    private Cache byId;
+    private ParamDocumentRequest searchParams;
+
+    @BeforeEach
+    public void setUp() {
+        documentRepository.deleteAll();
+        byTypeAndNumber = cacheManager.getCache(CacheConfig.DOCUMENTS_BY_TYPE_AND_NUMBER);
+        byId = cacheManager.getCache(CacheConfig.DOCUMENTS_BY_ID);
+        byTypeAndNumber.clear();
+        byId.clear();
+        searchParams = new ParamDocumentRequest(NUMBER, DocumentType.CPF);
+    }
+
+    /**
+     * Testa que a segunda busca pelo tipo e número é atendida pelo cache.
+     */
+    @Test
+    public void mustReturnFromCacheWhenFindByTypeAndNumberTwice() {
+        documentService.createDocument(new CreateDocumentRequest(DocumentType.CPF, NUMBER));
+        CacheStats before = stats(byTypeAndNumber);
+
+        DocumentDTO first = documentService.findByDocumentTypeAndNumber(searchParams);
+        DocumentDTO second = documentService.findByDocumentTypeAndNumber(searchParams);
+
+        CacheStats after = stats(byTypeAndNumber).minus(before);
+        assertEquals(first, second);
+        assertEquals(1, after.missCount());
+        assertEquals(1, after.hitCount());
+    }
+
+    /**
+     * Testa que um documento inexistente fica armazenado como resultado vazio.
+     */
+    @Test
+    public void mustCacheNotFoundWhenDocumentDoesNotExist() {
+        assertThrows(DocumentServiceException.class, () -> documentService.findByDocumentTypeAndNumber(searchParams));
+
+        Cache.ValueWrapper cached = byTypeAndNumber.get(KEY);
+        assertNotNull(cached);
+        assertNull(cached.get());
+    }
+
+    /**
+     * Testa que a criação invalida o resultado vazio armazenado para o mesmo tipo e número.
+     */
+    @Test
+    public void mustEvictNotFoundWhenDocumentIsCreated() {
+        assertThrows(DocumentServiceException.class, () -> documentService.findByDocumentTypeAndNumber(searchParams));
+
+        DocumentDTO created = documentService.createDocument(new CreateDocumentRequest(DocumentType.CPF, NUMBER));
+
+        assertEquals(created.getId(), documentService.findByDocumentTypeAndNumber(searchParams).getId());
+        assertNotNull(byId.get(created.getId()));
+    }
+
+    /**
+     * Testa que a exclusão invalida as entradas do documento.
+     */
+    @Test
+    public void mustEvictWhenDocumentIsDeleted() {
+        DocumentDTO created = documentService.createDocument(new CreateDocumentRequest(DocumentType.CPF, NUMBER));
+        documentService.findDocumentById(created.getId());
+        documentService.findByDocumentTypeAndNumber(searchParams);
+
+        documentService.deleteDocumentById(created.getId());
+
+        assertNull(byId.get(created.getId()));
+        assertNull(byTypeAndNumber.get(KEY));
+        assertThrows(DocumentServiceException.class, () -> documentService.findDocumentById(created.getId()));
+    }
+
+    /**
+     * Testa que as métricas do cache são publicadas para o Actuator.
+     */
+    @Test
+    public void mustPublishMetricsWhenCacheIsRegistered() {
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", CacheConfig.DOCUMENTS_BY_TYPE_AND_NUMBER).meter());
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", CacheConfig.DOCUMENTS_BY_ID).meter());
+    }
+
+    private CacheStats stats(Cache cache) {
+        return ((CaffeineCache) cache).getNativeCache().stats();
+    }
+}
@@ -0,0 +1,131 @@
+package br.com.douglasdreer.the_barbers_forge.services.integration;
+
+import br.com.douglasdreer.the_barbers_forge.dtos.ImportResultDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.ImportRowResultDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.request.CreateDocumentRequest;
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import br.com.douglasdreer.the_barbers_forge.enums.ImportRowStatus;
+import br.com.douglasdreer.the_barbers_forge.repositories.DocumentRepository;
+import br.com.douglasdreer.the_barbers_forge.services.DocumentKeyFilter;
+import br.com.douglasdreer.the_barbers_forge.services.DocumentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * <h1>Document Import Integration Test</h1>
+ * <p>Testes de integração da importação de documentos em lote. O tamanho do bloco é reduzido
+ * para que a importação atravesse mais de um bloco.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@SpringBootTest(properties = "app.documents.import.chunk-size=2")
+@ActiveProfiles("test")
+public class DocumentImportIntegrationTest {
+
+    @Autowired
+    private DocumentService documentService;
+
+    @SpyBean
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private DocumentKeyFilter documentKeyFilter;
+
+    @BeforeEach
+    public void setUp() {
+        documentRepository.deleteAll();
+    }
+
+    /**
+     * Testa que cada linha recebe seu resultado e que apenas as válidas e inéditas são inseridas.
+     */
+    @Test
+    public void mustReturnResultPerRowWhenImportDocuments() {
+        documentService.createDocument(new CreateDocumentRequest(DocumentType.CPF, "00000000191"));
+
+        ImportResultDTO result = documentService.importDocuments(List.of(
+                new CreateDocumentRequest(DocumentType.CPF, "00000000191"),
+                new CreateDocumentRequest(DocumentType.CPF, "00000000272"),
+                new CreateDocumentRequest(DocumentType.RG, "00000000001"),
+                new CreateDocumentRequest(DocumentType.CPF, "00000000272"),
+                new CreateDocumentRequest(null, "00000000353"),
+                new CreateDocumentRequest(DocumentType.CNH, " "),
+                new CreateDocumentRequest(DocumentType.CNPJ, "00.000.000/0001-91"),
+                new CreateDocumentRequest(DocumentType.CPF, "00000000273")
+        ));
+
+        assertEquals(8, result.getTotal());
+        assertEquals(3, result.getCreated());
+        assertEquals(2, result.getDuplicated());
+        assertEquals(3, result.getInvalid());
+        assertEquals(List.of(
+                ImportRowStatus.DUPLICATE,
+                ImportRowStatus.CREATED,
+                ImportRowStatus.CREATED,
+                ImportRowStatus.DUPLICATE,
+                ImportRowStatus.INVALID,
+                ImportRowStatus.INVALID,
+                ImportRowStatus.CREATED,
+                ImportRowStatus.INVALID
+        ), result.getRows().stream().map(ImportRowResultDTO::getStatus).toList());
+        assertEquals(4, documentRepository.count());
+        assertTrue(documentRepository.findByDocumentTypeAndNumber(DocumentType.CNPJ, "00000000000191").isPresent());
+    }
+
+    /**
+     * Testa que uma segunda importação do mesmo conteúdo não insere nada.
+     */
+    @Test
+    public void mustReturnOnlyDuplicatesWhenImportSameDocumentsTwice() {
+        List<CreateDocumentRequest> documents = List.of(
+                new CreateDocumentRequest(DocumentType.CPF, "00000000191"),
+                new CreateDocumentRequest(DocumentType.CPF, "00000000272"),
+                new CreateDocumentRequest(DocumentType.CPF, "00000000353")
+        );
+        documentService.importDocuments(documents);
+
+        ImportResultDTO result = documentService.importDocuments(documents);
+
+        assertEquals(0, result.getCreated());
+        assertEquals(3, result.getDuplicated());
+        assertEquals(3, documentRepository.count());
+    }
+
+    /**
+     * Testa que, com o filtro montado, documentos novos são inseridos sem a consulta de existentes,
+     * e que uma segunda importação dos mesmos documentos volta a consultar o banco.
+     */
+    @Test
+    public void mustSkipExistingQueryWhenKeyFilterRulesOutDocuments() {
+        documentKeyFilter.rebuild();
+        List<CreateDocumentRequest> documents = List.of(
+                new CreateDocumentRequest(DocumentType.CPF, "12345678062"),
+                new CreateDocumentRequest(DocumentType.CPF, "12345678143")
+        );
+        clearInvocations(documentRepository);
+
+        ImportResultDTO first = documentService.importDocuments(documents);
+
+        assertEquals(2, first.getCreated());
+        verify(documentRepository, never()).findExistingTypeAndNumbers(anyCollection());
+
+        ImportResultDTO second = documentService.importDocuments(documents);
+
+        assertEquals(2, second.getDuplicated());
+        verify(documentRepository, times(1)).findExistingTypeAndNumbers(anyCollection());
+    }
+}
@@ -6,6 +6,7 @@ import br.com.douglasdreer.the_barbers_forge.dtos.request.ParamDocumentRequest;
 import br.com.douglasdreer.the_barbers_forge.entities.Document;
 import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
 import br.com.douglasdreer.the_barbers_forge.exceptions.DocumentServiceException;
+import br.com.douglasdreer.the_barbers_forge.exceptions.UniqueConstraintViolationException;
 import br.com.douglasdreer.the_barbers_forge.repositories.DocumentRepository;
 import br.com.douglasdreer.the_barbers_forge.services.DocumentService;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +17,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,11 +57,11 @@ public class DocumentServiceIntegrationTest {
         // Prepara os dados de teste
         createRequest = new CreateDocumentRequest(
             DocumentType.CPF,
-            "12345678900"
+            "12345678909"
         );
 
         searchParams = new ParamDocumentRequest(
-            "12345678900",
+            "12345678909",
             DocumentType.CPF
         );
     }
@@ -76,13 +78,30 @@ public class DocumentServiceIntegrationTest {
         assertNotNull(result);
         assertNotNull(result.getId());
         assertEquals(DocumentType.CPF, result.getDocumentType());
-        assertEquals("12345678900", result.getNumber());
+        assertEquals("12345678909", result.getNumber());
 
         // Verifica se o documento existe no banco de dados
         Optional<Document> savedDocument = documentRepository.findById(result.getId());
         assertTrue(savedDocument.isPresent());
         assertEquals(DocumentType.CPF, savedDocument.get().getDocumentType());
-        assertEquals("12345678900", savedDocument.get().getNumber());
+        assertEquals("12345678909", savedDocument.get().getNumber());
+        assertEquals(12345678909L, savedDocument.get().getNumberKey());
+    }
+
+    /**
+     * Testa a exportação de todos os documentos em ordem de ID.
+     */
+    @Test
+    public void mustReturnAllDocumentsOrderedByIdWhenExportDocuments() {
+        DocumentDTO first = documentService.createDocument(createRequest);
+        DocumentDTO second = documentService.createDocument(new CreateDocumentRequest(DocumentType.RG, "987654321"));
+
+        List<DocumentDTO> exported = new ArrayList<>();
+        documentService.exportDocuments(exported::add);
+
+        assertEquals(List.of(first.getId(), second.getId()), exported.stream().map(DocumentDTO::getId).toList());
+        assertEquals("987654321", exported.get(1).getNumber());
+        assertTrue(exported.get(0).getCustomers().isEmpty());
     }
 
     /**
@@ -110,11 +129,8 @@ public class DocumentServiceIntegrationTest {
     @Test
     public void mustReturnSuccessWhenFindDocumentsWithPagination() {
         // Cria múltiplos documentos para teste
-        for (int i = 0; i < 5; i++) {
-            documentService.createDocument(new CreateDocumentRequest(
-                    DocumentType.CPF, 
-                    "1234567890" + i
-            ));
+        for (String number : List.of("12345678062", "12345678143", "12345678224", "12345678305", "12345678496")) {
+            documentService.createDocument(new CreateDocumentRequest(DocumentType.CPF, number));
         }
 
         // Busca a primeira página com 3 itens
@@ -159,7 +175,20 @@ public class DocumentServiceIntegrationTest {
         // Verifica se o documento foi encontrado corretamente
         assertNotNull(found);
         assertEquals(DocumentType.CPF, found.getDocumentType());
-        assertEquals("12345678900", found.getNumber());
+        assertEquals("12345678909", found.getNumber());
+    }
+
+    /**
+     * Testa a busca de um RG, que não tem chave numérica e é buscado pelo texto do número.
+     */
+    @Test
+    public void mustReturnSuccessWhenFindDocumentByTypeAndNumberWithoutNumberKey() {
+        documentService.createDocument(new CreateDocumentRequest(DocumentType.RG, "12.345.678-x"));
+
+        DocumentDTO found = documentService.findByDocumentTypeAndNumber(new ParamDocumentRequest("12345678X", DocumentType.RG));
+
+        assertEquals("12345678X", found.getNumber());
+        assertNull(documentRepository.findById(found.getId()).orElseThrow().getNumberKey());
     }
 
     /**
@@ -180,6 +209,16 @@ public class DocumentServiceIntegrationTest {
         assertFalse(documentRepository.findById(created.getId()).isPresent());
     }
 
+    /**
+     * Testa que a restrição de unicidade do banco rejeita um documento duplicado.
+     */
+    @Test
+    public void mustReturnUniqueConstraintViolationExceptionWhenCreateDuplicateDocument() {
+        documentService.createDocument(createRequest);
+
+        assertThrows(UniqueConstraintViolationException.class, () -> documentService.createDocument(createRequest));
+    }
+
     /**
      * Testa a exceção lançada quando um documento não é encontrado.
      */
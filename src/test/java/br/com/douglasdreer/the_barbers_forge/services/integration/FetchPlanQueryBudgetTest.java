@@ -0,0 +1,159 @@
+package br.com.douglasdreer.the_barbers_forge.services.integration;
+
+import br.com.douglasdreer.the_barbers_forge.dtos.CustomerDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.DocumentDTO;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.CustomerMapper;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.DocumentMapper;
+import br.com.douglasdreer.the_barbers_forge.dtos.mappers.EntityDtoMapperImpl;
+import br.com.douglasdreer.the_barbers_forge.entities.Customer;
+import br.com.douglasdreer.the_barbers_forge.entities.Document;
+import br.com.douglasdreer.the_barbers_forge.enums.DocumentType;
+import br.com.douglasdreer.the_barbers_forge.services.CustomerNameIndex;
+import br.com.douglasdreer.the_barbers_forge.services.CustomerServiceImpl;
+import br.com.douglasdreer.the_barbers_forge.services.DocumentImporter;
+import br.com.douglasdreer.the_barbers_forge.services.DocumentKeyFilter;
+import br.com.douglasdreer.the_barbers_forge.services.DocumentLookup;
+import br.com.douglasdreer.the_barbers_forge.services.DocumentServiceImpl;
+import br.com.douglasdreer.the_barbers_forge.support.SqlStatementCounter;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <h1>Fetch Plan Query Budget Test</h1>
+ * <p>Testes que contam os comandos SQL executados por operação de leitura e falham
+ * quando uma página ultrapassa o orçamento fixo de consultas (regressão de N+1).</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@DataJpaTest(properties = SqlStatementCounter.PROPERTY)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({EntityDtoMapperImpl.class, CustomerMapper.class, DocumentMapper.class, CustomerServiceImpl.class, DocumentServiceImpl.class, DocumentLookup.class, DocumentImporter.class, DocumentKeyFilter.class, CustomerNameIndex.class})
+public class FetchPlanQueryBudgetTest {
+    private static final int PAGE_SIZE = 50;
+    private static final int DOCUMENTS_PER_CUSTOMER = 2;
+
+    /**
+     * Página: identificadores, contagem e entidades com a associação. As associações são
+     * convertidas em resumos, então nenhum nível seguinte do grafo é carregado.
+     */
+    private static final int PAGE_QUERY_BUDGET = 3;
+
+    /**
+     * Detalhe: entidade com a associação em uma única consulta.
+     */
+    private static final int DETAIL_QUERY_BUDGET = 1;
+
+    @Autowired
+    private CustomerServiceImpl customerService;
+
+    @Autowired
+    private DocumentServiceImpl documentService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long firstCustomerId;
+    private Long firstDocumentId;
+
+    @BeforeEach
+    public void setUp() {
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Customer customer = new Customer();
+            customer.setFirstName("Nome" + i);
+            customer.setLastName("Sobrenome" + i);
+
+            List<Document> documents = new ArrayList<>();
+            for (int j = 0; j < DOCUMENTS_PER_CUSTOMER; j++) {
+                Document document = new Document();
+                document.setDocumentType(DocumentType.values()[j]);
+                document.setNumber(i + "-" + j);
+                document.setCustomers(new ArrayList<>(List.of(customer)));
+                documents.add(document);
+            }
+            customer.setDocuments(documents);
+            entityManager.persist(customer);
+
+            if (firstCustomerId == null) {
+                firstCustomerId = customer.getId();
+                firstDocumentId = documents.get(0).getId();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementCounter.reset();
+    }
+
+    /**
+     * Testa que a listagem paginada de clientes respeita o orçamento de consultas.
+     */
+    @Test
+    void customerPageMustStayWithinQueryBudget() {
+        Page<CustomerDTO> result = customerService.findAllCustomersWithPagination(0, PAGE_SIZE);
+
+        assertEquals(PAGE_SIZE, result.getContent().size());
+        assertEquals(DOCUMENTS_PER_CUSTOMER, result.getContent().get(0).getDocuments().size());
+        assertTrue(SqlStatementCounter.count() <= PAGE_QUERY_BUDGET,
+                "Consultas executadas: " + SqlStatementCounter.count());
+    }
+
+    /**
+     * Testa que a listagem paginada lê projeções, sem hidratar entidades no contexto de persistência.
+     */
+    @Test
+    void pagesMustNotHydrateEntities() {
+        customerService.findAllCustomersWithPagination(0, PAGE_SIZE);
+        documentService.findAllDocumentWithCursor(null, PAGE_SIZE);
+
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    /**
+     * Testa que a listagem paginada de documentos respeita o orçamento de consultas.
+     */
+    @Test
+    void documentPageMustStayWithinQueryBudget() {
+        Page<DocumentDTO> result = documentService.findAllDocumentWithPagination(0, PAGE_SIZE);
+
+        assertEquals(PAGE_SIZE, result.getContent().size());
+        assertTrue(SqlStatementCounter.count() <= PAGE_QUERY_BUDGET,
+                "Consultas executadas: " + SqlStatementCounter.count());
+    }
+
+    /**
+     * Testa que o detalhe de um cliente respeita o orçamento de consultas.
+     */
+    @Test
+    void customerDetailMustStayWithinQueryBudget() {
+        CustomerDTO result = customerService.findCustomerById(firstCustomerId);
+
+        assertEquals(DOCUMENTS_PER_CUSTOMER, result.getDocuments().size());
+        assertTrue(SqlStatementCounter.count() <= DETAIL_QUERY_BUDGET,
+                "Consultas executadas: " + SqlStatementCounter.count());
+    }
+
+    /**
+     * Testa que o detalhe de um documento respeita o orçamento de consultas.
+     */
+    @Test
+    void documentDetailMustStayWithinQueryBudget() {
+        DocumentDTO result = documentService.findDocumentById(firstDocumentId);
+
+        assertNotNull(result);
+        assertTrue(SqlStatementCounter.count() <= DETAIL_QUERY_BUDGET,
+                "Consultas executadas: " + SqlStatementCounter.count());
+    }
+}
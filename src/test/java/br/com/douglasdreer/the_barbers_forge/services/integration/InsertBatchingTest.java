@@ -0,0 +1,62 @@
+package br.com.douglasdreer.the_barbers_forge.services.integration;
+
+import br.com.douglasdreer.the_barbers_forge.entities.Customer;
+import br.com.douglasdreer.the_barbers_forge.repositories.CustomerRepository;
+import br.com.douglasdreer.the_barbers_forge.support.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <h1>Insert Batching Test</h1>
+ * <p>Testes que garantem que as inserções são enviadas em lotes: com identificadores gerados por
+ * sequência em blocos, a quantidade de comandos preparados cresce com o número de lotes e não
+ * com o número de entidades.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+@DataJpaTest(properties = {
+        SqlStatementCounter.PROPERTY,
+        "spring.jpa.properties.hibernate.jdbc.batch_size=" + InsertBatchingTest.BATCH_SIZE,
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+public class InsertBatchingTest {
+    static final int BATCH_SIZE = 50;
+    private static final int CUSTOMERS = 200;
+
+    /**
+     * Um comando de inserção por lote e uma chamada à sequência por bloco de identificadores,
+     * mais a chamada inicial do otimizador.
+     */
+    private static final int STATEMENT_BUDGET = CUSTOMERS / BATCH_SIZE + CUSTOMERS / Customer.ID_ALLOCATION_SIZE + 1;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    /**
+     * Testa que salvar vários clientes usa poucos comandos.
+     */
+    @Test
+    void customerInsertsMustBeBatched() {
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < CUSTOMERS; i++) {
+            Customer customer = new Customer();
+            customer.setFirstName("Nome" + i);
+            customer.setLastName("Sobrenome" + i);
+            customers.add(customer);
+        }
+        SqlStatementCounter.reset();
+
+        customerRepository.saveAllAndFlush(customers);
+        int statements = SqlStatementCounter.count();
+
+        assertEquals(CUSTOMERS, customerRepository.count());
+        assertTrue(statements <= STATEMENT_BUDGET, "Comandos executados: " + statements);
+    }
+}
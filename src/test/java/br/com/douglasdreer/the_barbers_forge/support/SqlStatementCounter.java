@@ -0,0 +1,45 @@
+package br.com.douglasdreer.the_barbers_forge.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <h1>SqlStatementCounter</h1>
+ * <p>{@link StatementInspector} do Hibernate que conta os comandos SQL preparados,
+ * usado pelos testes para garantir um orçamento fixo de consultas por operação.</p>
+ *
+ * <p>Para ativá-lo, informe a propriedade
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector} com o nome desta classe.</p>
+ *
+ * @author Douglas Dreer
+ * @since 0.0.5
+ */
+public class SqlStatementCounter implements StatementInspector {
+    public static final String PROPERTY =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=br.com.douglasdreer.the_barbers_forge.support.SqlStatementCounter";
+
+    private static final AtomicInteger COUNT = new AtomicInteger();
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.incrementAndGet();
+        return sql;
+    }
+
+    /**
+     * Zera o contador de comandos.
+     */
+    public static void reset() {
+        COUNT.set(0);
+    }
+
+    /**
+     * Retorna a quantidade de comandos preparados desde o último {@link #reset()}.
+     *
+     * @return quantidade de comandos SQL
+     */
+    public static int count() {
+        return COUNT.get();
+    }
+}
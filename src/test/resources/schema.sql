@@ -1,7 +1,12 @@
 -- Create table if not exist for integration test.
-DROP TABLE IF EXISTS  TBL0003_CUSTOMERS_CONTACTS;
+DROP TABLE IF EXISTS  TBL0006_CUSTOMER_DOCUMENT;
 DROP TABLE IF EXISTS  TBL0002_DOCUMENTS;
 DROP TABLE IF EXISTS  TBL0001_CUSTOMERS;
+DROP SEQUENCE IF EXISTS TBL0002_DOCUMENTS_SEQ;
+DROP SEQUENCE IF EXISTS TBL0001_CUSTOMERS_SEQ;
+
+CREATE SEQUENCE TBL0001_CUSTOMERS_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE TBL0002_DOCUMENTS_SEQ START WITH 1 INCREMENT BY 50;
 
 CREATE TABLE TBL0001_CUSTOMERS (
                                                  id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -11,6 +16,7 @@ CREATE TABLE TBL0001_CUSTOMERS (
                                                  address VARCHAR(255),
                                                  phone VARCHAR(15),
                                                  birth_date DATE,
+                                                 version BIGINT DEFAULT 0 NOT NULL,
                                                  created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
                                                  updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
 );
@@ -19,11 +25,15 @@ CREATE TABLE TBL0002_DOCUMENTS (
                                                id BIGINT AUTO_INCREMENT PRIMARY KEY,
                                                document_type VARCHAR(50) NOT NULL,
                                                number VARCHAR(50) NOT NULL,
+                                               number_key BIGINT,
                                                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
-                                               updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+                                               updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+                                               CONSTRAINT UK_TBL0002_DOCUMENT_TYPE_NUMBER UNIQUE (document_type, number)
 );
 
-CREATE TABLE TBL0003_CUSTOMERS_CONTACTS (
+CREATE INDEX IX_TBL0002_DOCUMENT_TYPE_NUMBER_KEY ON TBL0002_DOCUMENTS (document_type, number_key);
+
+CREATE TABLE TBL0006_CUSTOMER_DOCUMENT (
                                             customer_id BIGINT NOT NULL,
                                             document_id BIGINT NOT NULL,
                                             PRIMARY KEY (customer_id, document_id),